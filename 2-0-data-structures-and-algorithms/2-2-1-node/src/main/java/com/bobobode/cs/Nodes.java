@@ -84,4 +84,76 @@ public class Nodes {
     public static <T> Node<T> circleOf(T... elements) {
         throw new ExerciseNotCompletedException(); // todo:
     }
+
+    /**
+     * Checks if a chain of {@link Node} objects has a cycle, so following next references never reaches null. It uses
+     * Floyd's "tortoise and hare" algorithm: one reference moves by one node, and another one moves by two nodes. If
+     * there is a cycle, the fast reference catches up with the slow one inside the cycle, otherwise it reaches null.
+     * The chain is traversed in linear time O(n) and constant memory O(1), without storing visited nodes.
+     *
+     * @param head the first node of the chain, or null
+     * @param <T>  generic type T
+     * @return {@code true} if the chain has a cycle, {@code false} otherwise
+     */
+    public static <T> boolean hasCycle(Node<T> head) {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Finds the first node of a cycle, which is the first node that is visited twice when the chain is followed from
+     * the head. It is referenced by the last node of the cycle, which is the node itself in case of a self-loop, and
+     * also by the node before it, unless it is the head. When the slow and fast references meet, the distance from
+     * the head to the cycle start is equal to the distance from the meeting node to the cycle start (modulo the cycle
+     * length). So after that, two references that move by one node from the head and from the meeting node meet
+     * exactly at the cycle start. It takes linear time O(n) and constant memory O(1).
+     *
+     * @param head the first node of the chain, or null
+     * @param <T>  generic type T
+     * @return the first node of the cycle, or null if the chain has no cycle
+     */
+    public static <T> Node<T> cycleStart(Node<T> head) {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Counts distinct nodes of a chain. If the chain has a cycle, each node of the cycle is counted once, so the result
+     * is the number of nodes before the cycle plus the cycle length. The cycle length can be found using Brent's
+     * algorithm: the slow reference stays at a node, and the fast one moves by one node, counting steps. Each time
+     * the number of steps reaches the next power of two, the slow reference is moved to the fast one. It takes linear
+     * time O(n) and constant memory O(1).
+     *
+     * @param head the first node of the chain, or null
+     * @param <T>  generic type T
+     * @return a number of distinct nodes
+     */
+    public static <T> int length(Node<T> head) {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Finds a middle node of a chain in a single pass: the fast reference moves by two nodes, and when it reaches
+     * the end, the slow one is in the middle. If the chain has an even number of nodes, it returns the second of
+     * two middle nodes.
+     *
+     * @param head the first node of the chain, or null
+     * @param <T>  generic type T
+     * @return the middle node, or null if the head is null
+     * @throws IllegalArgumentException if the chain has a cycle
+     */
+    public static <T> Node<T> middle(Node<T> head) {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Reverses a chain in place, so each node holds a reference to the previous one. No new nodes are created.
+     * The chain is checked for a cycle before any node is changed.
+     *
+     * @param head the first node of the chain, or null
+     * @param <T>  generic type T
+     * @return the first node of the reversed chain, which was the last node before, or null if the head is null
+     * @throws IllegalArgumentException if the chain has a cycle; the chain is not changed in this case
+     */
+    public static <T> Node<T> reverse(Node<T> head) {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
 }
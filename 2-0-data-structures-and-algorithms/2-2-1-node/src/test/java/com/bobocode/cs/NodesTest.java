@@ -10,9 +10,13 @@ import org.junit.jupiter.api.TestMethodOrder;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.function.IntFunction;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 class NodesTest {
@@ -110,6 +114,178 @@ class NodesTest {
         assertThat(getNodeNext(fourthNode)).isEqualTo(firstNode);
     }
 
+    @Test
+    @Order(7)
+    void hasCycle() {
+        assertThat(Nodes.hasCycle(null)).isFalse();
+        assertThat(Nodes.hasCycle(createChain(1, -1))).isFalse();
+        assertThat(Nodes.hasCycle(createChain(10, -1))).isFalse();
+        assertThat(Nodes.hasCycle(createChain(1, 0))).isTrue();
+        assertThat(Nodes.hasCycle(createChain(10, 0))).isTrue();
+        assertThat(Nodes.hasCycle(createChain(10, 9))).isTrue();
+    }
+
+    @Test
+    @Order(8)
+    void cycleStart() {
+        Node<Integer> chain = createChain(10, -1);
+        Node<Integer> circle = createChain(10, 0);
+        Node<Integer> tailCycle = createChain(10, 3);
+        Node<Integer> selfLoop = createChain(10, 9);
+
+        assertThat(Nodes.cycleStart(null)).isNull();
+        assertThat(Nodes.cycleStart(chain)).isNull();
+        assertThat(Nodes.cycleStart(circle)).isSameAs(circle);
+        assertThat(Nodes.cycleStart(tailCycle)).isSameAs(nodeAt(tailCycle, 3));
+        assertThat(Nodes.cycleStart(selfLoop)).isSameAs(nodeAt(selfLoop, 9));
+    }
+
+    @Test
+    @Order(9)
+    void length() {
+        assertThat(Nodes.length(null)).isEqualTo(0);
+        assertThat(Nodes.length(createChain(1, -1))).isEqualTo(1);
+        assertThat(Nodes.length(createChain(10, -1))).isEqualTo(10);
+        assertThat(Nodes.length(createChain(1, 0))).isEqualTo(1);
+        assertThat(Nodes.length(createChain(10, 0))).isEqualTo(10);
+        assertThat(Nodes.length(createChain(10, 4))).isEqualTo(10);
+        assertThat(Nodes.length(createChain(10, 9))).isEqualTo(10);
+    }
+
+    @Test
+    @Order(10)
+    void middle() {
+        Node<Integer> single = createChain(1, -1);
+
+        assertThat(Nodes.middle(null)).isNull();
+        assertThat(Nodes.middle(single)).isSameAs(single);
+        assertThat(getNodeElement(Nodes.middle(createChain(5, -1)))).isEqualTo(2);
+        assertThat(getNodeElement(Nodes.middle(createChain(6, -1)))).isEqualTo(3);
+        assertThat(getNodeElement(Nodes.middle(createChain(2, -1)))).isEqualTo(1);
+    }
+
+    @Test
+    @Order(11)
+    void middleThrowsExceptionWhenChainHasCycle() {
+        assertThatIllegalArgumentException().isThrownBy(() -> Nodes.middle(createChain(10, 0)));
+        assertThatIllegalArgumentException().isThrownBy(() -> Nodes.middle(createChain(10, 5)));
+    }
+
+    @Test
+    @Order(12)
+    void reverse() {
+        Node<Integer> single = createChain(1, -1);
+        Node<Integer> chain = createChain(5, -1);
+
+        Node<Integer> reversed = Nodes.reverse(chain);
+
+        assertThat(Nodes.reverse(null)).isNull();
+        assertThat(Nodes.reverse(single)).isSameAs(single);
+        assertThat(getNodeNext(single)).isNull();
+        assertThat(getNodeNext(chain)).isNull();
+        Node<Integer> node = reversed;
+        for (int element = 4; element >= 0; element--) {
+            assertThat(getNodeElement(node)).isEqualTo(element);
+            node = getNodeNext(node);
+        }
+        assertThat(node).isNull();
+    }
+
+    @Test
+    @Order(13)
+    void reverseThrowsExceptionWhenChainHasCycle() {
+        Node<Integer> tailCycle = createChain(10, 5);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> Nodes.reverse(tailCycle));
+        assertThat(Nodes.length(tailCycle)).isEqualTo(10);
+        assertThat(Nodes.cycleStart(tailCycle)).isSameAs(nodeAt(tailCycle, 5));
+    }
+
+    @Test
+    @Order(14)
+    void cycleOfTenMillionNodesIsFoundInLinearTime() {
+        int size = 10_000_000;
+        Node<Integer> tailCycle = createChain(size, size / 2);
+        Node<Integer> expectedCycleStart = nodeAt(tailCycle, size / 2);
+
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            assertThat(Nodes.hasCycle(tailCycle)).isTrue();
+            assertThat(Nodes.cycleStart(tailCycle)).isSameAs(expectedCycleStart);
+            assertThat(Nodes.length(tailCycle)).isEqualTo(size);
+        });
+    }
+
+    @Test
+    @Order(15)
+    void chainOfTenMillionNodesIsProcessedInLinearTime() {
+        int size = 10_000_000;
+        Node<Integer> chain = createChain(size, -1);
+
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            assertThat(Nodes.hasCycle(chain)).isFalse();
+            assertThat(Nodes.length(chain)).isEqualTo(size);
+            assertThat(Nodes.middle(chain)).isSameAs(nodeAt(chain, size / 2));
+            Node<Integer> reversed = Nodes.reverse(chain);
+            assertThat(Nodes.length(reversed)).isEqualTo(size);
+            assertThat(getNodeNext(chain)).isNull();
+        });
+    }
+
+    /**
+     * Creates a chain of nodes with elements 0, 1, 2 ... (element is an index modulo 128, so big chains do not
+     * create a new Integer per node). If cycleStart is not negative, the last node is linked to the node
+     * with this index.
+     */
+    @SneakyThrows
+    private Node<Integer> createChain(int size, int cycleStart) {
+        IntFunction<Node<Integer>> nodeFactory = nodeFactory();
+        Field nextField = getAccessibleNextField();
+        Node<Integer> head = nodeFactory.apply(0);
+        Node<Integer> last = head;
+        Node<Integer> cycleStartNode = cycleStart == 0 ? head : null;
+        for (int i = 1; i < size; i++) {
+            Node<Integer> node = nodeFactory.apply(i % 128);
+            nextField.set(last, node);
+            last = node;
+            if (i == cycleStart) {
+                cycleStartNode = node;
+            }
+        }
+        nextField.set(last, cycleStartNode);
+        return head;
+    }
+
+    private Node<Integer> nodeAt(Node<Integer> head, int index) {
+        Node<Integer> node = head;
+        for (int i = 0; i < index; i++) {
+            node = getNodeNext(node);
+        }
+        return node;
+    }
+
+    /**
+     * Prepares a constructor and an element field once, so a node can be created fast without a reflection lookup.
+     */
+    private IntFunction<Node<Integer>> nodeFactory() {
+        Constructor<?> constructor = Arrays.stream(Node.class.getDeclaredConstructors())
+                .findAny()
+                .orElseThrow();
+        constructor.setAccessible(true);
+        Field elementField = getAccessibleElementField();
+        return element -> newNode(constructor, elementField, element);
+    }
+
+    @SneakyThrows
+    @SuppressWarnings("unchecked")
+    private Node<Integer> newNode(Constructor<?> constructor, Field elementField, int element) {
+        if (constructor.getParameters().length > 0) {
+            return (Node<Integer>) constructor.newInstance(element);
+        }
+        Node<Integer> node = (Node<Integer>) constructor.newInstance();
+        elementField.set(node, element);
+        return node;
+    }
+
     @SneakyThrows
     @SuppressWarnings("unchecked")
     private Node<Integer> createNodeOf(int element) {
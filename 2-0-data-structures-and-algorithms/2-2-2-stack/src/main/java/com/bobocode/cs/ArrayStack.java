@@ -0,0 +1,93 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+import com.bobocode.util.ExerciseNotCompletedException;
+
+/**
+ * {@link ArrayStack} is a stack implementation that is based on an array. Unlike {@link LinkedStack}, it does not
+ * create a new object for each pushed element, so a burst of push and pop operations does not produce any garbage.
+ * <p>
+ * When the array is full, it is replaced with a new array that is twice as big, so {@link ArrayStack#push(Object)}
+ * is performed in amortized constant time. When elements are popped, the array is shrunk to a half, but only when
+ * the stack becomes a quarter full. This gap (hysteresis) guarantees that a stack that goes up and down around
+ * the same size does not reallocate the array on each operation. The array is never shrunk below the initial
+ * capacity.
+ *
+ * @param <T> generic type parameter
+ * @see LinkedStack
+ */
+public class ArrayStack<T> implements Stack<T> {
+
+    /**
+     * This constructor creates an instance of {@link ArrayStack} with a specific capacity of an array inside.
+     *
+     * @param initCapacity - the initial capacity of the stack
+     * @throws IllegalArgumentException – if the specified initial capacity is negative or 0.
+     */
+    public ArrayStack(int initCapacity) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * This constructor creates an instance of {@link ArrayStack} with a default capacity of an array inside.
+     * A default size of inner array is 8;
+     */
+    public ArrayStack() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * This method creates a stack of provided elements
+     *
+     * @param elements elements to add
+     * @param <T>      generic type
+     * @return a new stack of elements that were passed as method parameters
+     */
+    public static <T> ArrayStack<T> of(T... elements) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * The method pushes an element onto the top of this stack. If the array is full, it is replaced with a new array
+     * that is twice as big.
+     *
+     * @param element elements to add
+     * @throws NullPointerException if the element is null
+     */
+    @Override
+    public void push(T element) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * This method removes the object at the top of this stack and returns that object as the value of this function.
+     * If the stack becomes a quarter full, the array is shrunk to a half, but not below the initial capacity.
+     *
+     * @return The object at the top of this stack
+     * @throws EmptyStackException - if this stack is empty
+     */
+    @Override
+    public T pop() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns the number of elements in the stack
+     *
+     * @return number of elements
+     */
+    @Override
+    public int size() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Checks if a stack is empty
+     *
+     * @return {@code true} if a stack is empty, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+}
@@ -6,6 +6,15 @@ import com.bobocode.util.ExerciseNotCompletedException;
 /**
  * {@link LinkedStack} is a stack implementation that is based on singly linked generic nodes.
  * A node is implemented as inner static class {@link Node<T>}.
+ * <p>
+ * By default, each {@link LinkedStack#push(Object)} creates a new node. A stack that is created with
+ * {@link LinkedStack#LinkedStack(int)} keeps nodes that were released by {@link LinkedStack#pop()} in a pool, and
+ * reuses them for the next pushes. The pool is a chain of free nodes linked by the same next reference, and its size
+ * is limited by the node pool capacity. So a stack that goes up and down repeatedly allocates nodes only when it grows
+ * deeper than before.
+ * <p>
+ * PLEASE NOTE: the first free node must be stored in a field called {@code pool}, and the number of free nodes in
+ * a field called {@code poolCount}, so the tests can tell them apart from the head and the size of the stack.
  *
  * @param <T> generic type parameter
  * @author Taras Boychuk
@@ -13,6 +22,23 @@ import com.bobocode.util.ExerciseNotCompletedException;
  */
 public class LinkedStack<T> implements Stack<T> {
 
+    /**
+     * This constructor creates an instance of {@link LinkedStack} that does not reuse nodes.
+     */
+    public LinkedStack() {
+    }
+
+    /**
+     * This constructor creates an instance of {@link LinkedStack} that keeps up to nodePoolCapacity released nodes,
+     * and reuses them for the next pushes.
+     *
+     * @param nodePoolCapacity - the maximum number of free nodes kept by the stack
+     * @throws IllegalArgumentException – if the specified node pool capacity is negative
+     */
+    public LinkedStack(int nodePoolCapacity) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
     /**
      * This method creates a stack of provided elements
      *
@@ -26,7 +52,7 @@ public class LinkedStack<T> implements Stack<T> {
 
     /**
      * The method pushes an element onto the top of this stack. This has exactly the same effect as:
-     * addElement(item)
+     * addElement(item). If the node pool is not empty, a node is taken from the pool instead of creating a new one.
      *
      * @param element elements to add
      */
@@ -37,7 +63,8 @@ public class LinkedStack<T> implements Stack<T> {
 
     /**
      * This method removes the object at the top of this stack
-     * and returns that object as the value of this function.
+     * and returns that object as the value of this function. If the node pool is not full, the released node is
+     * cleared and put to the pool.
      *
      * @return The object at the top of this stack
      * @throws EmptyStackException - if this stack is empty
@@ -0,0 +1,97 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+import com.bobocode.util.ExerciseNotCompletedException;
+
+/**
+ * {@link PersistentStack} is an immutable (persistent) stack. Unlike {@link LinkedStack}, it is never changed. Each
+ * operation that changes a stack returns a new version, and all previous versions stay the same and can still be used.
+ * <p>
+ * A version of the stack is a singly linked node itself. It holds the top element, a reference to the version below
+ * it, and a size. {@link PersistentStack#push(Object)} creates one new version that points to the current one, and
+ * {@link PersistentStack#pop()} just returns the version below, so both are performed in constant time O(1) and
+ * all versions share their nodes. Taking a snapshot of a stack costs nothing, because the stack itself is a snapshot.
+ * <p>
+ * All fields are final, so a version can be passed to other threads (e.g. via a volatile field or
+ * {@link java.util.concurrent.atomic.AtomicReference}) without any locks, and they always see it fully
+ * initialized.
+ * <p>
+ * PLEASE NOTE: {@link PersistentStack} does not implement {@link Stack}, because methods of {@link Stack} change
+ * the stack in place.
+ *
+ * @param <T> generic type parameter
+ * @see LinkedStack
+ */
+public final class PersistentStack<T> {
+
+    /**
+     * Returns an empty stack. All empty stacks can be represented by the same instance.
+     *
+     * @param <T> generic type
+     * @return an empty stack
+     */
+    public static <T> PersistentStack<T> empty() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * This method creates a stack of provided elements. The last element is on the top of the stack.
+     *
+     * @param elements elements to add
+     * @param <T>      generic type
+     * @return a new stack of elements that were passed as method parameters
+     */
+    public static <T> PersistentStack<T> of(T... elements) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns a new stack with the element on the top of this stack. This stack is not changed.
+     *
+     * @param element elements to add
+     * @return a new version of the stack
+     * @throws NullPointerException if the element is null
+     */
+    public PersistentStack<T> push(T element) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns the object at the top of this stack without removing it.
+     *
+     * @return The object at the top of this stack
+     * @throws EmptyStackException - if this stack is empty
+     */
+    public T peek() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns a stack without the top element of this stack. It is exactly the version that this stack was created
+     * from by {@link PersistentStack#push(Object)}. This stack is not changed.
+     *
+     * @return a previous version of the stack
+     * @throws EmptyStackException - if this stack is empty
+     */
+    public PersistentStack<T> pop() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns the number of elements in the stack
+     *
+     * @return number of elements
+     */
+    public int size() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Checks if a stack is empty
+     *
+     * @return {@code true} if a stack is empty, {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+}
@@ -0,0 +1,91 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+import com.bobocode.util.ExerciseNotCompletedException;
+
+/**
+ * {@link TreiberStack} is a stack implementation that can be safely used by many threads at the same time without any
+ * locks. Like {@link LinkedStack}, it is based on singly linked generic nodes, but the head is stored in
+ * {@link java.util.concurrent.atomic.AtomicReference} and it is changed only by compare-and-set (CAS):
+ * <ul>
+ *     <li>{@link TreiberStack#push(Object)} creates a new node that points to the current head, and then tries
+ *     to replace the head with the new node</li>
+ *     <li>{@link TreiberStack#pop()} reads the head, and then tries to replace it with its next node</li>
+ * </ul>
+ * If a CAS fails, another thread has changed the head, so the operation re-reads it and retries. Nodes are never
+ * changed after they are pushed, and a popped node is never reused, so the stack is not affected by ABA problem.
+ * <p>
+ * When many threads change the stack at the same time, most CAS operations fail, and threads just keep retrying
+ * on the same head. A stack created with {@link TreiberStack#TreiberStack(int)} uses an elimination array to reduce
+ * this contention. After a failed CAS, a thread picks a random slot of the array and waits there for a short time.
+ * If a pushing thread and a popping thread meet in the same slot, the element is passed directly from one to another,
+ * and both operations complete without touching the head. Otherwise, the thread goes back to the head.
+ *
+ * @param <T> generic type parameter
+ * @see LinkedStack
+ */
+public class TreiberStack<T> implements Stack<T> {
+
+    /**
+     * This constructor creates an instance of {@link TreiberStack} without an elimination array.
+     */
+    public TreiberStack() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * This constructor creates an instance of {@link TreiberStack} with an elimination array of a specific size.
+     * A good size is about a half of the number of threads that use the stack.
+     *
+     * @param eliminationArraySize - the number of slots where pushing and popping threads can meet
+     * @throws IllegalArgumentException – if the specified elimination array size is negative or 0
+     */
+    public TreiberStack(int eliminationArraySize) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * The method pushes an element onto the top of this stack. This method never blocks.
+     *
+     * @param element elements to add
+     * @throws NullPointerException if the element is null
+     */
+    @Override
+    public void push(T element) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * This method removes the object at the top of this stack and returns that object as the value of this function.
+     * This method never blocks.
+     *
+     * @return The object at the top of this stack
+     * @throws EmptyStackException - if this stack is empty
+     */
+    @Override
+    public T pop() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns the number of elements in the stack. The size is kept in an atomic counter, so when other threads
+     * change the stack at the same time, the returned value may be a bit behind. When the stack is not changed
+     * concurrently, the size is exact.
+     *
+     * @return number of elements
+     */
+    @Override
+    public int size() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Checks if a stack is empty
+     *
+     * @return {@code true} if a stack is empty, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+}
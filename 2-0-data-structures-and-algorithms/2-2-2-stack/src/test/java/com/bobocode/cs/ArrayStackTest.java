@@ -0,0 +1,209 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+/**
+ * A test class for {@link ArrayStack}.
+ * <p>
+ * PLEASE NOTE: we use Reflection API only for learning purposes. It should NOT be used for production tests.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ArrayStackTest {
+
+    private Stack<Integer> arrayStack = new ArrayStack<>();
+
+    @Test
+    @Order(1)
+    @DisplayName("ArrayStack stores elements in a single array")
+    void elementsAreStoredInSingleArray() {
+        long arrayFieldsCount = Arrays.stream(ArrayStack.class.getDeclaredFields())
+                .filter(field -> field.getType().equals(Object[].class))
+                .count();
+
+        assertThat(arrayFieldsCount).isEqualTo(1);
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Default constructor creates an array of 8 elements")
+    void createStackWithDefaultCapacity() {
+        assertThat(getInternalArray().length).isEqualTo(8);
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Constructor creates an array with a specific capacity")
+    void createStackWithSpecificCapacity() {
+        arrayStack = new ArrayStack<>(3);
+
+        assertThat(getInternalArray().length).isEqualTo(3);
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Constructor throws exception when capacity is not positive")
+    void createStackWithWrongCapacity() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new ArrayStack<>(0));
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Method of() creates a stack of given elements")
+    void of() {
+        arrayStack = ArrayStack.of(1, 2, 3);
+
+        assertThat(arrayStack.size()).isEqualTo(3);
+        assertThat(arrayStack.pop()).isEqualTo(3);
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("Method pop() retrieves elements in LIFO order")
+    void pushAndPop() {
+        arrayStack.push(1);
+        arrayStack.push(2);
+        arrayStack.push(3);
+
+        assertThat(arrayStack.pop()).isEqualTo(3);
+        assertThat(arrayStack.pop()).isEqualTo(2);
+        assertThat(arrayStack.pop()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("Method push() throws exception when element is null")
+    void pushThrowsExceptionWhenElementIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> arrayStack.push(null));
+    }
+
+    @Test
+    @Order(8)
+    @DisplayName("Method pop() throws exception when stack is empty")
+    void popThrowsExceptionWhenStackIsEmpty() {
+        assertThatExceptionOfType(EmptyStackException.class)
+                .isThrownBy(() -> arrayStack.pop());
+    }
+
+    @Test
+    @Order(9)
+    @DisplayName("Method push() doubles the array when it is full")
+    void pushDoublesArray() {
+        arrayStack = new ArrayStack<>(4);
+        for (int i = 0; i < 5; i++) {
+            arrayStack.push(i);
+        }
+
+        assertThat(getInternalArray().length).isEqualTo(8);
+        assertThat(getInternalArray()).startsWith(0, 1, 2, 3, 4);
+    }
+
+    @Test
+    @Order(10)
+    @DisplayName("Method pop() releases a reference to the popped element")
+    void popReleasesReference() {
+        arrayStack.push(1);
+        arrayStack.push(2);
+
+        arrayStack.pop();
+
+        assertThat(getInternalArray()[1]).isNull();
+    }
+
+    @Test
+    @Order(11)
+    @DisplayName("Method pop() shrinks the array to a half when the stack becomes a quarter full")
+    void popShrinksArray() {
+        arrayStack = new ArrayStack<>(4);
+        for (int i = 0; i < 9; i++) {
+            arrayStack.push(i);
+        }
+        assertThat(getInternalArray().length).isEqualTo(16);
+
+        for (int i = 0; i < 4; i++) {
+            arrayStack.pop();
+        }
+        assertThat(getInternalArray().length).isEqualTo(16);
+
+        arrayStack.pop();
+        assertThat(getInternalArray().length).isEqualTo(8);
+        assertThat(getInternalArray()).startsWith(0, 1, 2, 3);
+    }
+
+    @Test
+    @Order(12)
+    @DisplayName("Method pop() does not shrink the array below the initial capacity")
+    void popDoesNotShrinkBelowInitialCapacity() {
+        arrayStack = new ArrayStack<>(8);
+        for (int i = 0; i < 8; i++) {
+            arrayStack.push(i);
+        }
+
+        for (int i = 0; i < 8; i++) {
+            arrayStack.pop();
+        }
+
+        assertThat(getInternalArray().length).isEqualTo(8);
+    }
+
+    @Test
+    @Order(13)
+    @DisplayName("Push and pop around the same size do not reallocate the array")
+    void pushAndPopAroundSameSizeDoNotReallocate() {
+        arrayStack = new ArrayStack<>(4);
+        for (int i = 0; i < 9; i++) {
+            arrayStack.push(i);
+        }
+        for (int i = 0; i < 5; i++) {
+            arrayStack.pop();
+        }
+        Object[] array = getInternalArray();
+
+        for (int i = 0; i < 100; i++) {
+            arrayStack.push(i);
+            arrayStack.pop();
+            arrayStack.pop();
+            arrayStack.push(i);
+        }
+
+        assertThat(getInternalArray()).isSameAs(array);
+    }
+
+    @Test
+    @Order(14)
+    @DisplayName("Methods size() and isEmpty() reflect the number of elements")
+    void sizeAndIsEmpty() {
+        assertThat(arrayStack.isEmpty()).isTrue();
+        assertThat(arrayStack.size()).isEqualTo(0);
+
+        arrayStack.push(1);
+        arrayStack.push(2);
+        arrayStack.pop();
+
+        assertThat(arrayStack.isEmpty()).isFalse();
+        assertThat(arrayStack.size()).isEqualTo(1);
+    }
+
+    @SneakyThrows
+    private Object[] getInternalArray() {
+        Field arrayField = Arrays.stream(ArrayStack.class.getDeclaredFields())
+                .filter(field -> field.getType().equals(Object[].class))
+                .findAny()
+                .orElseThrow();
+        arrayField.setAccessible(true);
+        return (Object[]) arrayField.get(arrayStack);
+    }
+}
@@ -24,14 +24,17 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 class LinkedStackTest {
     private static final String PROPER_CLASSNAME = "Node";
+    private static final String POOL_FIELD_PREFIX = "pool";
 
     private static final Predicate<Field> NODE_FIELD_PREDICATE = field ->
-            field.getType().getSimpleName().equals(PROPER_CLASSNAME)
+            !field.getName().startsWith(POOL_FIELD_PREFIX)
+            && (field.getType().getSimpleName().equals(PROPER_CLASSNAME)
             && field.getName().toLowerCase().contains("head")
-            || field.getName().toLowerCase().contains("first");
+            || field.getName().toLowerCase().contains("first"));
 
     private static final Predicate<Field> SIZE_FIELD_PREDICATE = field ->
-            field.getName().toLowerCase().contains("size");
+            !field.getName().startsWith(POOL_FIELD_PREFIX)
+            && field.getName().toLowerCase().contains("size");
 
     private static final Predicate<Field> NODE_ELEMENT_FIELD_PREDICATE = field ->
             field.getName().toLowerCase().contains("element")
@@ -292,6 +295,96 @@ class LinkedStackTest {
         assertThat(stackEmpty).isEqualTo(true);
     }
 
+    @Test
+    @Order(24)
+    @DisplayName("Constructor throws exception when node pool capacity is negative")
+    void createStackWithNegativeNodePoolCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new LinkedStack<>(-1));
+    }
+
+    @Test
+    @Order(25)
+    @DisplayName("Stack with a node pool reuses a released node on push")
+    void pushReusesReleasedNode() {
+        intStack = new LinkedStack<>(4);
+        intStack.push(1);
+        Object node = getHeadObject();
+
+        intStack.pop();
+        intStack.push(2);
+
+        assertThat(getHeadObject()).isSameAs(node);
+        assertThat(getNodeElementInt(getHeadObject())).isEqualTo(2);
+    }
+
+    @Test
+    @Order(26)
+    @DisplayName("Stack without a node pool does not reuse nodes")
+    void pushDoesNotReuseNodesByDefault() {
+        intStack.push(1);
+        Object node = getHeadObject();
+
+        intStack.pop();
+        intStack.push(2);
+
+        assertThat(getHeadObject()).isNotSameAs(node);
+    }
+
+    @Test
+    @Order(27)
+    @DisplayName("Method pop() clears the element of a pooled node")
+    void popClearsPooledNode() {
+        intStack = new LinkedStack<>(4);
+        intStack.push(1);
+        intStack.push(2);
+
+        intStack.pop();
+
+        Object pooledNode = getPoolObject();
+        assertThat(pooledNode).isNotNull();
+        assertThat(getNodeElement(pooledNode)).isNull();
+    }
+
+    @Test
+    @Order(28)
+    @DisplayName("Node pool keeps at most nodePoolCapacity nodes")
+    void nodePoolIsLimited() {
+        intStack = new LinkedStack<>(3);
+        for (int i = 0; i < 10; i++) {
+            intStack.push(i);
+        }
+        for (int i = 0; i < 10; i++) {
+            intStack.pop();
+        }
+
+        int pooledNodes = 0;
+        for (Object node = getPoolObject(); node != null; node = getNodeNextObject(node)) {
+            pooledNodes++;
+        }
+
+        assertThat(pooledNodes).isEqualTo(3);
+    }
+
+    @Test
+    @Order(29)
+    @DisplayName("Stack with a node pool keeps LIFO order")
+    void stackWithNodePoolKeepsOrder() {
+        intStack = new LinkedStack<>(2);
+        intStack.push(1);
+        intStack.push(2);
+        intStack.push(3);
+        intStack.pop();
+        intStack.pop();
+        intStack.push(4);
+        intStack.push(5);
+
+        assertThat(intStack.size()).isEqualTo(3);
+        assertThat(intStack.pop()).isEqualTo(5);
+        assertThat(intStack.pop()).isEqualTo(4);
+        assertThat(intStack.pop()).isEqualTo(1);
+        assertThat(intStack.isEmpty()).isTrue();
+    }
+
     private Class<?> getInnerClass() {
         return Arrays.stream(LinkedStack.class.getDeclaredClasses())
                 .filter(Class::isMemberClass)
@@ -330,6 +423,22 @@ class LinkedStackTest {
         return getHeadField().get(intStack);
     }
 
+    @SneakyThrows
+    private Object getPoolObject() {
+        Field poolField = Arrays.stream(LinkedStack.class.getDeclaredFields())
+                .filter(field -> field.getType().getSimpleName().equals(PROPER_CLASSNAME))
+                .filter(field -> field.getName().equals(POOL_FIELD_PREFIX))
+                .findAny()
+                .orElseThrow();
+        poolField.setAccessible(true);
+        return poolField.get(intStack);
+    }
+
+    @SneakyThrows
+    private Object getNodeElement(Object node) {
+        return getNodeElementField(node).get(node);
+    }
+
     @SneakyThrows
     private int getNodeElementInt(Object node) {
         return (int) getNodeElementField(node).get(node);
@@ -0,0 +1,169 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.lang.reflect.Modifier;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+/**
+ * A test class for {@link PersistentStack}.
+ * <p>
+ * PLEASE NOTE: we use Reflection API only for learning purposes. It should NOT be used for production tests.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class PersistentStackTest {
+
+    @Test
+    @Order(1)
+    @DisplayName("All fields are final")
+    void allFieldsAreFinal() {
+        boolean allFinal = Stream.concat(Stream.of(PersistentStack.class),
+                        Arrays.stream(PersistentStack.class.getDeclaredClasses()))
+                .flatMap(type -> Arrays.stream(type.getDeclaredFields()))
+                .filter(field -> !field.isSynthetic())
+                .allMatch(field -> Modifier.isFinal(field.getModifiers()));
+
+        assertThat(allFinal).isTrue();
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Method empty() returns an empty stack")
+    void empty() {
+        PersistentStack<Integer> stack = PersistentStack.empty();
+
+        assertThat(stack.isEmpty()).isTrue();
+        assertThat(stack.size()).isEqualTo(0);
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Method of() creates a stack with the last element on the top")
+    void of() {
+        PersistentStack<Integer> stack = PersistentStack.of(1, 2, 3);
+
+        assertThat(stack.size()).isEqualTo(3);
+        assertThat(stack.peek()).isEqualTo(3);
+        assertThat(stack.pop().peek()).isEqualTo(2);
+        assertThat(stack.pop().pop().peek()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Method push() returns a new stack and does not change the old one")
+    void pushDoesNotChangeStack() {
+        PersistentStack<Integer> stack = PersistentStack.of(1, 2);
+
+        PersistentStack<Integer> pushed = stack.push(3);
+
+        assertThat(pushed.peek()).isEqualTo(3);
+        assertThat(pushed.size()).isEqualTo(3);
+        assertThat(stack.peek()).isEqualTo(2);
+        assertThat(stack.size()).isEqualTo(2);
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Method pop() returns the version the stack was pushed from")
+    void popReturnsPreviousVersion() {
+        PersistentStack<Integer> stack = PersistentStack.of(1, 2);
+
+        PersistentStack<Integer> popped = stack.push(3).pop();
+
+        assertThat(popped).isSameAs(stack);
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("Versions pushed from the same stack are independent")
+    void versionsAreIndependent() {
+        PersistentStack<Integer> stack = PersistentStack.of(1);
+
+        PersistentStack<Integer> first = stack.push(2);
+        PersistentStack<Integer> second = stack.push(3);
+
+        assertThat(first.peek()).isEqualTo(2);
+        assertThat(second.peek()).isEqualTo(3);
+        assertThat(first.pop()).isSameAs(second.pop());
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("Method push() throws exception when element is null")
+    void pushThrowsExceptionWhenElementIsNull() {
+        PersistentStack<Integer> stack = PersistentStack.empty();
+
+        assertThatNullPointerException().isThrownBy(() -> stack.push(null));
+    }
+
+    @Test
+    @Order(8)
+    @DisplayName("Methods peek() and pop() throw exception when stack is empty")
+    void peekAndPopThrowExceptionWhenStackIsEmpty() {
+        PersistentStack<Integer> stack = PersistentStack.empty();
+
+        assertThatExceptionOfType(EmptyStackException.class).isThrownBy(stack::peek);
+        assertThatExceptionOfType(EmptyStackException.class).isThrownBy(stack::pop);
+    }
+
+    @Test
+    @Order(9)
+    @DisplayName("Million pushes and pops are performed in constant time")
+    void millionPushesAndPops() {
+        assertTimeoutPreemptively(Duration.ofSeconds(2), () -> {
+            PersistentStack<Integer> stack = PersistentStack.empty();
+            for (int i = 0; i < 1_000_000; i++) {
+                stack = stack.push(i);
+            }
+            assertThat(stack.size()).isEqualTo(1_000_000);
+            for (int i = 999_999; i >= 0; i--) {
+                assertThat(stack.peek()).isEqualTo(i);
+                stack = stack.pop();
+            }
+            assertThat(stack.isEmpty()).isTrue();
+        });
+    }
+
+    @Test
+    @Order(10)
+    @DisplayName("Versions published by one thread are seen consistent by another thread")
+    void versionsArePublishedWithoutLocks() {
+        AtomicReference<PersistentStack<Integer>> published = new AtomicReference<>(PersistentStack.empty());
+        AtomicBoolean done = new AtomicBoolean();
+
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            CompletableFuture<Void> reader = CompletableFuture.runAsync(() -> {
+                while (!done.get()) {
+                    PersistentStack<Integer> stack = published.get();
+                    if (!stack.isEmpty()) {
+                        assertThat(stack.peek()).isEqualTo(stack.size() - 1);
+                        assertThat(stack.pop().size()).isEqualTo(stack.size() - 1);
+                    }
+                }
+            });
+            try {
+                for (int i = 0; i < 100_000; i++) {
+                    published.set(published.get().push(i));
+                }
+            } finally {
+                done.set(true);
+            }
+            reader.get();
+        });
+    }
+}
@@ -0,0 +1,219 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Named;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.lang.reflect.Modifier;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+/**
+ * A test class for {@link TreiberStack}. Most of the tests are run both with and without an elimination array.
+ * <p>
+ * PLEASE NOTE: we use Reflection API only for learning purposes. It should NOT be used for production tests.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class TreiberStackTest {
+    private static final int THREADS = 8;
+    private static final int ELEMENTS_PER_THREAD = 50_000;
+
+    static Stream<Arguments> stackFactories() {
+        return Stream.of(
+                Arguments.of(Named.<Supplier<Stack<Integer>>>of("without elimination", TreiberStack::new)),
+                Arguments.of(Named.<Supplier<Stack<Integer>>>of("with elimination", () -> new TreiberStack<>(4)))
+        );
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Head is an atomic reference")
+    void headIsAtomicReference() {
+        boolean hasAtomicHead = Arrays.stream(TreiberStack.class.getDeclaredFields())
+                .filter(field -> field.getName().toLowerCase().contains("head")
+                        || field.getName().toLowerCase().contains("top"))
+                .anyMatch(field -> field.getType().equals(AtomicReference.class));
+
+        assertThat(hasAtomicHead).isTrue();
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Stack does not use locks")
+    void stackDoesNotUseLocks() {
+        boolean hasSynchronizedMethods = Arrays.stream(TreiberStack.class.getDeclaredMethods())
+                .anyMatch(method -> Modifier.isSynchronized(method.getModifiers()));
+        boolean hasLockFields = Arrays.stream(TreiberStack.class.getDeclaredFields())
+                .anyMatch(field -> Lock.class.isAssignableFrom(field.getType()));
+
+        assertThat(hasSynchronizedMethods).isFalse();
+        assertThat(hasLockFields).isFalse();
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Constructor throws exception when elimination array size is not positive")
+    void createStackWithWrongEliminationArraySize() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new TreiberStack<>(0));
+    }
+
+    @Order(4)
+    @ParameterizedTest
+    @MethodSource("stackFactories")
+    @DisplayName("Method pop() retrieves elements in LIFO order")
+    void pushAndPop(Supplier<Stack<Integer>> factory) {
+        Stack<Integer> stack = factory.get();
+        stack.push(1);
+        stack.push(2);
+        stack.push(3);
+
+        assertThat(stack.pop()).isEqualTo(3);
+        assertThat(stack.pop()).isEqualTo(2);
+        assertThat(stack.pop()).isEqualTo(1);
+    }
+
+    @Order(5)
+    @ParameterizedTest
+    @MethodSource("stackFactories")
+    @DisplayName("Method push() throws exception when element is null")
+    void pushThrowsExceptionWhenElementIsNull(Supplier<Stack<Integer>> factory) {
+        Stack<Integer> stack = factory.get();
+
+        assertThatNullPointerException().isThrownBy(() -> stack.push(null));
+    }
+
+    @Order(6)
+    @ParameterizedTest
+    @MethodSource("stackFactories")
+    @DisplayName("Method pop() throws exception when stack is empty")
+    void popThrowsExceptionWhenStackIsEmpty(Supplier<Stack<Integer>> factory) {
+        Stack<Integer> stack = factory.get();
+
+        assertThatExceptionOfType(EmptyStackException.class)
+                .isThrownBy(stack::pop);
+    }
+
+    @Order(7)
+    @ParameterizedTest
+    @MethodSource("stackFactories")
+    @DisplayName("Methods size() and isEmpty() reflect changes made by a single thread")
+    void sizeAndIsEmpty(Supplier<Stack<Integer>> factory) {
+        Stack<Integer> stack = factory.get();
+
+        assertThat(stack.isEmpty()).isTrue();
+        assertThat(stack.size()).isEqualTo(0);
+
+        stack.push(1);
+        stack.push(2);
+        stack.pop();
+
+        assertThat(stack.isEmpty()).isFalse();
+        assertThat(stack.size()).isEqualTo(1);
+    }
+
+    @Order(8)
+    @ParameterizedTest
+    @MethodSource("stackFactories")
+    @DisplayName("Elements pushed by many threads are all popped exactly once")
+    void concurrentPushesThenPops(Supplier<Stack<Integer>> factory) {
+        Stack<Integer> stack = factory.get();
+        AtomicIntegerArray popped = new AtomicIntegerArray(THREADS * ELEMENTS_PER_THREAD);
+
+        assertTimeoutPreemptively(Duration.ofSeconds(20), () -> {
+            runInParallel(thread -> {
+                for (int i = 0; i < ELEMENTS_PER_THREAD; i++) {
+                    stack.push(thread * ELEMENTS_PER_THREAD + i);
+                }
+            });
+            assertThat(stack.size()).isEqualTo(THREADS * ELEMENTS_PER_THREAD);
+
+            runInParallel(thread -> {
+                for (int i = 0; i < ELEMENTS_PER_THREAD; i++) {
+                    popped.incrementAndGet(stack.pop());
+                }
+            });
+        });
+
+        assertPoppedExactlyOnce(popped);
+        assertThat(stack.isEmpty()).isTrue();
+    }
+
+    @Order(9)
+    @ParameterizedTest
+    @MethodSource("stackFactories")
+    @DisplayName("Concurrent pushes and pops do not lose or duplicate elements")
+    void concurrentPushesAndPops(Supplier<Stack<Integer>> factory) {
+        Stack<Integer> stack = factory.get();
+        AtomicIntegerArray popped = new AtomicIntegerArray(THREADS * ELEMENTS_PER_THREAD);
+
+        assertTimeoutPreemptively(Duration.ofSeconds(20), () -> runInParallel(thread -> {
+            for (int i = 0; i < ELEMENTS_PER_THREAD; i++) {
+                stack.push(thread * ELEMENTS_PER_THREAD + i);
+                popped.incrementAndGet(stack.pop());
+            }
+        }));
+
+        assertPoppedExactlyOnce(popped);
+        assertThat(stack.isEmpty()).isTrue();
+        assertThat(stack.size()).isEqualTo(0);
+    }
+
+    private void assertPoppedExactlyOnce(AtomicIntegerArray popped) {
+        for (int i = 0; i < popped.length(); i++) {
+            assertThat(popped.get(i)).isEqualTo(1);
+        }
+    }
+
+    /**
+     * Runs the task in {@link TreiberStackTest#THREADS} threads at the same time, and waits until all of them
+     * are finished. The task receives a thread index. If any task fails or the waiting thread is interrupted, all
+     * other tasks are interrupted, so a test never leaves busy threads behind.
+     */
+    @SneakyThrows
+    private void runInParallel(IntConsumer task) {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            CompletionService<Void> completion = new ExecutorCompletionService<>(executor);
+            CountDownLatch start = new CountDownLatch(1);
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                completion.submit(() -> {
+                    start.await();
+                    task.accept(thread);
+                    return null;
+                });
+            }
+            start.countDown();
+            for (int t = 0; t < THREADS; t++) {
+                completion.take().get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
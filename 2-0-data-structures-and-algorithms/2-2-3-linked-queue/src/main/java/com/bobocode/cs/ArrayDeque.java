@@ -0,0 +1,165 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+import com.bobocode.util.ExerciseNotCompletedException;
+
+/**
+ * {@link ArrayDeque} is a double-ended queue that is based on an array. Elements can be added and removed at both
+ * ends, so it implements both {@link Queue} (FIFO) and {@link Stack} (LIFO), and can replace {@link LinkedQueue} and
+ * {@code LinkedStack} without creating a node per element.
+ * <p>
+ * The array is used as a circular buffer. The deque keeps an index of the first element (head) and the number of
+ * elements, so adding or removing an element at any end just moves the head or changes the size, and all operations
+ * are performed in constant time O(1). The array length is always a power of two, so an index is wrapped around with
+ * a cheap bit mask {@code index & (length - 1)} instead of a division.
+ * <p>
+ * When the array is full, it is replaced with a new array that is twice as big, and the elements are copied to its
+ * beginning in the deque order, so adding is performed in amortized constant time.
+ * <ul>
+ *     <li>{@link Queue} methods add to the end and remove from the beginning</li>
+ *     <li>{@link Stack} methods add to and remove from the beginning</li>
+ * </ul>
+ *
+ * @param <T> a generic parameter
+ * @see RingBufferQueue
+ */
+public class ArrayDeque<T> implements Queue<T>, Stack<T> {
+
+    /**
+     * Creates a deque with a default capacity of an array inside. A default size of inner array is 16.
+     */
+    public ArrayDeque() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Creates a deque with a specific capacity of an array inside. The capacity is rounded up to the next power of
+     * two.
+     *
+     * @param initCapacity the initial capacity of the deque
+     * @throws IllegalArgumentException if the capacity is not positive, or it is greater than 2^30
+     */
+    public ArrayDeque(int initCapacity) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Adds an element to the beginning of the deque.
+     *
+     * @param element the element to add
+     * @throws NullPointerException if the element is null
+     */
+    public void addFirst(T element) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Adds an element to the end of the deque.
+     *
+     * @param element the element to add
+     * @throws NullPointerException if the element is null
+     */
+    public void addLast(T element) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Retrieves and removes the first element.
+     *
+     * @return the first element or null if deque is empty
+     */
+    public T pollFirst() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Retrieves and removes the last element.
+     *
+     * @return the last element or null if deque is empty
+     */
+    public T pollLast() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Retrieves the first element without removing it.
+     *
+     * @return the first element or null if deque is empty
+     */
+    public T peekFirst() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Retrieves the last element without removing it.
+     *
+     * @return the last element or null if deque is empty
+     */
+    public T peekLast() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Adds an element to the end of the deque. It is the same as {@link ArrayDeque#addLast(Object)}.
+     *
+     * @param element the element to add
+     * @throws NullPointerException if the element is null
+     */
+    @Override
+    public void add(T element) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Retrieves and removes the first element. It is the same as {@link ArrayDeque#pollFirst()}.
+     *
+     * @return the first element or null if deque is empty
+     */
+    @Override
+    public T poll() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Pushes an element onto the top of the stack, which is the beginning of the deque. It is the same as
+     * {@link ArrayDeque#addFirst(Object)}.
+     *
+     * @param element the element to add
+     * @throws NullPointerException if the element is null
+     */
+    @Override
+    public void push(T element) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Removes the element at the top of the stack, which is the beginning of the deque, and returns it.
+     *
+     * @return the first element
+     * @throws EmptyStackException - if the deque is empty
+     */
+    @Override
+    public T pop() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns a size of the deque.
+     *
+     * @return an integer value that is a size of deque
+     */
+    @Override
+    public int size() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Checks if the deque is empty.
+     *
+     * @return {@code true} if the deque is empty, returns {@code false} if it's not
+     */
+    @Override
+    public boolean isEmpty() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+}
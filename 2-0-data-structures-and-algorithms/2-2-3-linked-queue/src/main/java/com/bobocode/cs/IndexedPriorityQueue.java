@@ -0,0 +1,126 @@
+package com.bobocode.cs;
+
+import com.bobocode.util.ExerciseNotCompletedException;
+
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+
+/**
+ * {@link IndexedPriorityQueue} is a {@link PriorityQueue} of keys, where each key is associated with an index
+ * from 0 to capacity - 1. An index is used to find a key in the heap, so the key can be decreased later. E.g.
+ * Dijkstra's algorithm stores a distance to a vertex as a key with the vertex number as an index, and decreases it
+ * when it finds a shorter path.
+ * <p>
+ * Keys are stored in a d-ary heap like in {@link PriorityQueue}, but the heap stores indexes, and the keys are stored
+ * in a separate array by index. One more array stores a heap position for each index. It is updated on each swap,
+ * so a key is found in constant time O(1), and {@link IndexedPriorityQueue#decreaseKey(int, Object)} just moves it up
+ * in O(log n) time.
+ * <p>
+ * PLEASE NOTE: {@link IndexedPriorityQueue} does not implement {@link Queue}, because each key is added with its
+ * index.
+ *
+ * @param <T> a generic parameter
+ * @see PriorityQueue
+ */
+public class IndexedPriorityQueue<T> {
+
+    /**
+     * Creates an empty 4-ary heap for indexes from 0 to capacity - 1.
+     *
+     * @param capacity   a max number of keys
+     * @param comparator a comparator that defines an order of keys
+     * @throws IllegalArgumentException if the capacity is negative
+     * @throws NullPointerException     if the comparator is null
+     */
+    public IndexedPriorityQueue(int capacity, Comparator<? super T> comparator) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Adds a key associated with the index.
+     *
+     * @param index an index of the key
+     * @param key   the key to add
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws IllegalArgumentException  if the queue already contains a key for the index
+     * @throws NullPointerException      if the key is null
+     */
+    public void add(int index, T key) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Replaces the key associated with the index by a smaller one.
+     *
+     * @param index an index of the key
+     * @param key   a new key
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws NoSuchElementException    if the queue does not contain a key for the index
+     * @throws IllegalArgumentException  if the new key is greater than the current one
+     * @throws NullPointerException      if the key is null
+     */
+    public void decreaseKey(int index, T key) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Checks if the queue contains a key for the index.
+     *
+     * @param index an index of the key
+     * @return {@code true} if the queue contains a key for the index
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public boolean contains(int index) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns the key associated with the index.
+     *
+     * @param index an index of the key
+     * @return the key
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws NoSuchElementException    if the queue does not contain a key for the index
+     */
+    public T keyOf(int index) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Retrieves an index of the smallest key without removing it.
+     *
+     * @return an index of the smallest key
+     * @throws NoSuchElementException if the queue is empty
+     */
+    public int peekIndex() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Retrieves and removes the smallest key, and returns its index.
+     *
+     * @return an index of the smallest key
+     * @throws NoSuchElementException if the queue is empty
+     */
+    public int pollIndex() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns a size of the queue.
+     *
+     * @return an integer value that is a size of queue
+     */
+    public int size() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return {@code true} if the queue is empty, returns {@code false} if it's not
+     */
+    public boolean isEmpty() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+}
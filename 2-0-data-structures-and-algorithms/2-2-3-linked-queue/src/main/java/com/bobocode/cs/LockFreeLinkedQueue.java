@@ -0,0 +1,74 @@
+package com.bobocode.cs;
+
+import com.bobocode.util.ExerciseNotCompletedException;
+
+/**
+ * {@link LockFreeLinkedQueue} implements FIFO {@link Queue} that can be safely used by many producer and consumer
+ * threads at the same time without any locks. It is based on Michael–Scott algorithm, like
+ * {@link java.util.concurrent.ConcurrentLinkedQueue}.
+ * <p>
+ * Like {@link LinkedQueue}, it uses singly linked nodes stored in instances of nested class Node, and keeps references
+ * to the head and tail of the queue. But the head, the tail and the next reference of each node are
+ * {@link java.util.concurrent.atomic.AtomicReference}s, and they are changed only by compare-and-set (CAS):
+ * <ul>
+ *     <li>the head always points to a dummy node, and the first element is stored in the node after it</li>
+ *     <li>{@link LockFreeLinkedQueue#add(Object)} links a new node to the last node by CAS of its next reference,
+ *     and then tries to move the tail</li>
+ *     <li>{@link LockFreeLinkedQueue#poll()} moves the head to the next node by CAS, and the next node becomes
+ *     a new dummy node</li>
+ *     <li>the tail can fall behind the last node by one step. Any thread that notices it helps to move the tail
+ *     forward, so a thread never waits for another one</li>
+ * </ul>
+ * If a CAS fails, another thread has changed the queue, so the operation re-reads the references and retries.
+ *
+ * @param <T> a generic parameter
+ * @see LinkedQueue
+ */
+public class LockFreeLinkedQueue<T> implements Queue<T> {
+
+    /**
+     * Adds an element to the end of the queue. This method never blocks.
+     *
+     * @param element the element to add
+     * @throws NullPointerException if the element is null
+     */
+    @Override
+    public void add(T element) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Retrieves and removes queue head. This method never blocks.
+     *
+     * @return an element that was retrieved from the head or null if queue is empty
+     */
+    @Override
+    public T poll() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns a size of the queue. The size is kept in an atomic counter that is updated after a node is linked or
+     * unlinked, so it is relaxed: when other threads change the queue at the same time, the returned value may
+     * be a bit behind the actual number of elements. A consumer may even decrement the counter before the producer
+     * of the same element increments it, so the counter can be negative for a moment. In this case the method
+     * returns 0, so the size is never negative. When the queue is not changed concurrently, the size is exact.
+     *
+     * @return an integer value that is a size of queue
+     */
+    @Override
+    public int size() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Checks if the queue is empty. Unlike {@link LockFreeLinkedQueue#size()}, it checks the nodes, so the result
+     * is always actual at the moment of the call.
+     *
+     * @return {@code true} if the queue is empty, returns {@code false} if it's not
+     */
+    @Override
+    public boolean isEmpty() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+}
@@ -0,0 +1,117 @@
+package com.bobocode.cs;
+
+import com.bobocode.util.ExerciseNotCompletedException;
+
+import java.util.NoSuchElementException;
+
+/**
+ * {@link PersistentQueue} is an immutable (persistent) FIFO queue. Unlike {@link LinkedQueue}, it is never changed.
+ * Each operation that changes a queue returns a new version, and all previous versions stay the same and can still be
+ * used.
+ * <p>
+ * It is Okasaki's banker's queue, which is based on two lists:
+ * <ul>
+ *     <li>a front stream holds elements from the head of the queue, so the head is the first cell. It is a lazy
+ *     list: the rest of the stream after a cell is a memoized suspension, which computes the next cell only when it
+ *     is needed for the first time, and then keeps the result</li>
+ *     <li>a rear list is an immutable singly linked list that holds elements from the tail of the queue in reverse
+ *     order, so the last added element is the first node</li>
+ * </ul>
+ * {@link PersistentQueue#add(Object)} puts a new node in front of the rear list, and
+ * {@link PersistentQueue#remove()} takes the rest of the front stream. Both are shared with the previous version, so
+ * these operations create at most one node. The queue keeps the following invariant: the rear list is never longer
+ * than the front stream. When an operation breaks it, the queue is not rebuilt right away. The new version gets
+ * a suspended rotation {@code front ++ reverse(rear)} as its front stream, and an empty rear list. The cells of the
+ * old front are copied to the new stream one by one, when they are needed, and the rear list is reversed only when
+ * the stream reaches its end. It happens after at least as many removes as there are elements in the rear list, so
+ * the O(n) reversal is paid for by the operations before it.
+ * <p>
+ * Memoization is what makes the bound hold for old versions too. All versions that share a suspension also share
+ * the result of forcing it, so if an old version is used again and again, the work of its pending rotation is done
+ * only once. So all operations are performed in amortized constant time O(1) for any use of versions. An eagerly
+ * rebuilt two-list queue loses this bound: each use of a version that is one step before a rebuild repeats
+ * the O(n) rebuild.
+ * <p>
+ * A version never changes, and all its fields are final. The only mutable state is the memoized result inside
+ * a suspension. It is stored in volatile fields: a suspension computes a new immutable cell, publishes it with
+ * a volatile write, and then drops its computation. If two threads force the same suspension at the same time, both
+ * compute equal cells, and it does not matter which one is kept. So a version can be passed to other threads without
+ * any locks.
+ * <p>
+ * PLEASE NOTE: {@link PersistentQueue} does not implement {@link Queue}, because methods of {@link Queue} change
+ * the queue in place.
+ *
+ * @param <T> a generic parameter
+ * @see LinkedQueue
+ */
+public final class PersistentQueue<T> {
+
+    /**
+     * Returns an empty queue. All empty queues can be represented by the same instance.
+     *
+     * @param <T> a generic parameter
+     * @return an empty queue
+     */
+    public static <T> PersistentQueue<T> empty() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * This method creates a queue of provided elements. The first element is the head of the queue.
+     *
+     * @param elements elements to add
+     * @param <T>      a generic parameter
+     * @return a new queue of elements that were passed as method parameters
+     */
+    public static <T> PersistentQueue<T> of(T... elements) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns a new queue with the element added to the end of this queue. This queue is not changed.
+     *
+     * @param element the element to add
+     * @return a new version of the queue
+     * @throws NullPointerException if the element is null
+     */
+    public PersistentQueue<T> add(T element) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Retrieves queue head without removing it.
+     *
+     * @return an element from the head or null if queue is empty
+     */
+    public T peek() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns a new queue without the head of this queue. This queue is not changed.
+     *
+     * @return a new version of the queue
+     * @throws NoSuchElementException if the queue is empty
+     */
+    public PersistentQueue<T> remove() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns a size of the queue.
+     *
+     * @return an integer value that is a size of queue
+     */
+    public int size() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return {@code true} if the queue is empty, returns {@code false} if it's not
+     */
+    public boolean isEmpty() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+}
@@ -0,0 +1,122 @@
+package com.bobocode.cs;
+
+import com.bobocode.util.ExerciseNotCompletedException;
+
+import java.util.Comparator;
+
+/**
+ * {@link PriorityQueue} implements {@link Queue}, but instead of "first in, first out" rule it always retrieves
+ * the smallest element according to a {@link Comparator}. E.g. a scheduler can poll the most urgent task without
+ * sorting all tasks on every poll.
+ * <p>
+ * Elements are stored in a single array as a d-ary heap. It is a complete tree, where each node has up to d children,
+ * and each node is not greater than any of its children, so the smallest element is always at index 0. Children of
+ * a node at index i are at indexes {@code d * i + 1 ... d * i + d}, and its parent is at index {@code (i - 1) / d}, so
+ * nodes do not need any references. The array grows when it is full.
+ * <ul>
+ *     <li>{@link PriorityQueue#add(Object)} puts an element to the end and moves it up (sift up), while it is smaller
+ *     than its parent. It takes O(log n) time</li>
+ *     <li>{@link PriorityQueue#poll()} takes the root, moves the last element to the root and moves it down (sift
+ *     down), swapping it with its smallest child. It takes O(d * log n) time</li>
+ *     <li>{@link PriorityQueue#of(Comparator, Object[])} copies all elements to the array and sifts down all inner
+ *     nodes starting from the last one (heapify). It takes O(n) time, which is faster than adding elements one
+ *     by one</li>
+ * </ul>
+ * A bigger d makes the tree lower, so {@link PriorityQueue#add(Object)} is faster, and more children of a node are
+ * next to each other in memory. A binary heap (d = 2) is a common default, while d = 4 usually performs better.
+ *
+ * @param <T> a generic parameter
+ * @see IndexedPriorityQueue
+ */
+public class PriorityQueue<T> implements Queue<T> {
+    /**
+     * A default number of children of a heap node
+     */
+    public static final int DEFAULT_ARITY = 4;
+
+    /**
+     * Creates an empty 4-ary heap.
+     *
+     * @param comparator a comparator that defines an order of elements
+     * @throws NullPointerException if the comparator is null
+     */
+    public PriorityQueue(Comparator<? super T> comparator) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Creates an empty d-ary heap.
+     *
+     * @param arity      a max number of children of a heap node
+     * @param comparator a comparator that defines an order of elements
+     * @throws IllegalArgumentException if the arity is less than 2
+     * @throws NullPointerException     if the comparator is null
+     */
+    public PriorityQueue(int arity, Comparator<? super T> comparator) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * This method creates a 4-ary heap of provided elements in linear time O(n).
+     *
+     * @param comparator a comparator that defines an order of elements
+     * @param elements   elements to add
+     * @param <T>        a generic parameter
+     * @return a new queue of elements that were passed as method parameters
+     * @throws NullPointerException if the comparator or any element is null
+     */
+    @SafeVarargs
+    public static <T> PriorityQueue<T> of(Comparator<? super T> comparator, T... elements) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Adds an element to the queue.
+     *
+     * @param element the element to add
+     * @throws NullPointerException if the element is null
+     */
+    @Override
+    public void add(T element) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Retrieves the smallest element without removing it.
+     *
+     * @return the smallest element or null if queue is empty
+     */
+    public T peek() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Retrieves and removes the smallest element.
+     *
+     * @return the smallest element or null if queue is empty
+     */
+    @Override
+    public T poll() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns a size of the queue.
+     *
+     * @return an integer value that is a size of queue
+     */
+    @Override
+    public int size() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return {@code true} if the queue is empty, returns {@code false} if it's not
+     */
+    @Override
+    public boolean isEmpty() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+}
@@ -0,0 +1,155 @@
+package com.bobocode.cs;
+
+import com.bobocode.util.ExerciseNotCompletedException;
+
+import java.util.function.Consumer;
+
+/**
+ * {@link RingBufferQueue} implements bounded FIFO {@link Queue}, using an array as a ring buffer. Unlike
+ * {@link LinkedQueue}, it does not allocate a node per element, and it never grows, so a burst of elements can not
+ * exhaust the heap. Instead, a producer gets a signal that the queue is full, and decides what to do: drop
+ * the element, retry later or wait.
+ * <p>
+ * The array length is always a power of two, so an array index is calculated from an ever-growing position counter
+ * with a cheap bit mask {@code position & (length - 1)} instead of a division.
+ * <p>
+ * The queue is created in one of two modes:
+ * <ul>
+ *     <li>{@link RingBufferQueue#spsc(int)} – a single producer and a single consumer thread. Each counter is changed
+ *     by one thread only, so it is enough to publish it as a volatile write, without compare-and-set</li>
+ *     <li>{@link RingBufferQueue#mpmc(int)} – many producer and consumer threads. Each array cell has its own
+ *     sequence number, and a thread claims a cell by compare-and-set of a position counter. The sequence tells
+ *     whether the cell is ready to be written or read</li>
+ * </ul>
+ * Neither mode uses locks. Blocking operations wait by spinning and parking the thread for a short time.
+ *
+ * @param <T> a generic parameter
+ * @see LinkedQueue
+ */
+public class RingBufferQueue<T> implements Queue<T> {
+
+    /**
+     * Creates a queue for a single producer thread and a single consumer thread. The capacity is rounded up to
+     * the next power of two.
+     *
+     * @param capacity the minimum number of elements the queue can store
+     * @param <T>      a generic parameter
+     * @return a new queue
+     * @throws IllegalArgumentException if the capacity is not positive, or it is greater than 2^30
+     */
+    public static <T> RingBufferQueue<T> spsc(int capacity) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Creates a queue that can be used by any number of producer and consumer threads. The capacity is rounded up to
+     * the next power of two.
+     *
+     * @param capacity the minimum number of elements the queue can store
+     * @param <T>      a generic parameter
+     * @return a new queue
+     * @throws IllegalArgumentException if the capacity is not positive, or it is greater than 2^30
+     */
+    public static <T> RingBufferQueue<T> mpmc(int capacity) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Adds an element to the end of the queue.
+     *
+     * @param element the element to add
+     * @throws IllegalStateException if the queue is full
+     * @throws NullPointerException  if the element is null
+     */
+    @Override
+    public void add(T element) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Adds an element to the end of the queue if there is free space. This method never blocks, and the returned
+     * value is a backpressure signal for a producer.
+     *
+     * @param element the element to add
+     * @return {@code true} if the element was added, {@code false} if the queue is full
+     * @throws NullPointerException if the element is null
+     */
+    public boolean offer(T element) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Adds an element to the end of the queue, waiting until there is free space.
+     *
+     * @param element the element to add
+     * @throws InterruptedException if the thread is interrupted while waiting
+     * @throws NullPointerException if the element is null
+     */
+    public void put(T element) throws InterruptedException {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Retrieves and removes queue head. This method never blocks.
+     *
+     * @return an element that was retrieved from the head or null if queue is empty
+     */
+    @Override
+    public T poll() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Retrieves and removes queue head, waiting until an element is available.
+     *
+     * @return an element that was retrieved from the head
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public T take() throws InterruptedException {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Retrieves and removes up to maxElements from the head of the queue, and passes them to the consumer in FIFO
+     * order. It is faster than polling elements one by one, because position counters are read and published once
+     * per batch. This method never blocks.
+     *
+     * @param consumer    a consumer of retrieved elements
+     * @param maxElements the maximum number of elements to retrieve
+     * @return the number of retrieved elements
+     * @throws IllegalArgumentException if maxElements is negative
+     */
+    public int drainTo(Consumer<? super T> consumer, int maxElements) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns the maximum number of elements the queue can store. It is always a power of two.
+     *
+     * @return queue capacity
+     */
+    public int capacity() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns a size of the queue. When other threads change the queue at the same time, the value may be already
+     * outdated, but it is always between 0 and {@link RingBufferQueue#capacity()}.
+     *
+     * @return an integer value that is a size of queue
+     */
+    @Override
+    public int size() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return {@code true} if the queue is empty, returns {@code false} if it's not
+     */
+    @Override
+    public boolean isEmpty() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+}
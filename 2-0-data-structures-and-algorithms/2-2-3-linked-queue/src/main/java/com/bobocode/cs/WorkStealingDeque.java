@@ -0,0 +1,97 @@
+package com.bobocode.cs;
+
+import com.bobocode.util.ExerciseNotCompletedException;
+
+/**
+ * {@link WorkStealingDeque} is a double-ended queue for a work-stealing task scheduler (Chase–Lev deque). Each worker
+ * thread owns a deque of its tasks. The owner pushes and pops tasks at the bottom like a {@link Stack} (LIFO), so it
+ * takes the most recent task, whose data is likely still in the CPU cache. When its deque is empty, a worker steals
+ * a task from the top of another worker's deque like a {@link Queue} (FIFO). The oldest task is usually the biggest
+ * one in a recursive task tree, so the thief gets a lot of work and steals rarely.
+ * <p>
+ * Tasks are stored in a circular array, whose length is a power of two. The deque keeps two ever-growing
+ * positions: top and bottom. Only the owner changes bottom, so {@link WorkStealingDeque#push(Object)} just writes
+ * the element and publishes a new bottom with a volatile write. Thieves compete for the top element by
+ * compare-and-set of top. {@link WorkStealingDeque#pop()} decreases bottom first and then reads top, so the owner and
+ * thieves can compete only for the last element, and the owner also uses compare-and-set of top in this case.
+ * No method uses locks.
+ * <p>
+ * When the array is full, the owner copies the elements to a new array that is twice as big, and publishes it
+ * with a volatile write. The old array is never changed after that, so a thief that still reads it gets the right
+ * element.
+ * <p>
+ * PLEASE NOTE: {@link WorkStealingDeque#push(Object)} and {@link WorkStealingDeque#pop()} must be called only by
+ * the owner thread, while {@link WorkStealingDeque#steal()} can be called by any thread.
+ *
+ * @param <T> a generic parameter
+ * @see ArrayDeque
+ */
+public class WorkStealingDeque<T> {
+
+    /**
+     * Creates a deque with a default capacity of an array inside. A default size of inner array is 64.
+     */
+    public WorkStealingDeque() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Creates a deque with a specific capacity of an array inside. The capacity is rounded up to the next power of
+     * two.
+     *
+     * @param initCapacity the initial capacity of the deque
+     * @throws IllegalArgumentException if the capacity is not positive, or it is greater than 2^30
+     */
+    public WorkStealingDeque(int initCapacity) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Adds an element to the bottom of the deque. It must be called only by the owner thread.
+     *
+     * @param element the element to add
+     * @throws NullPointerException if the element is null
+     */
+    public void push(T element) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Retrieves and removes the bottom element, which is the most recently pushed one. It must be called only by
+     * the owner thread.
+     *
+     * @return the bottom element or null if the deque is empty, or the last element was stolen
+     */
+    public T pop() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Retrieves and removes the top element, which is the oldest one. It can be called by any thread. When many
+     * threads steal at the same time, each element is retrieved only by one of them, and the others retry.
+     *
+     * @return the top element or null if the deque is empty
+     */
+    public T steal() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns a size of the deque. When other threads change the deque at the same time, the value may be already
+     * outdated, but it is never negative.
+     *
+     * @return an integer value that is a size of deque
+     */
+    public int size() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Checks if the deque is empty.
+     *
+     * @return {@code true} if the deque is empty, returns {@code false} if it's not
+     */
+    public boolean isEmpty() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+}
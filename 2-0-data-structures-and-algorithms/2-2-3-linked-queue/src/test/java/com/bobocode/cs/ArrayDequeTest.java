@@ -0,0 +1,229 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+/**
+ * A test class for {@link ArrayDeque}.
+ * <p>
+ * PLEASE NOTE: we use Reflection API only for learning purposes. It should NOT be used for production tests.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ArrayDequeTest {
+
+    @Test
+    @Order(1)
+    @DisplayName("Elements are stored in a single array of default length 16")
+    void elementsAreStoredInSingleArray() {
+        ArrayDeque<Integer> deque = new ArrayDeque<>();
+
+        assertThat(getInternalArray(deque).length).isEqualTo(16);
+        assertThat(ArrayDeque.class.getDeclaredClasses()).isEmpty();
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Capacity is rounded up to a power of two")
+    void capacityIsRoundedUpToPowerOfTwo() {
+        assertThat(getInternalArray(new ArrayDeque<>(1)).length).isEqualTo(1);
+        assertThat(getInternalArray(new ArrayDeque<>(5)).length).isEqualTo(8);
+        assertThat(getInternalArray(new ArrayDeque<>(1000)).length).isEqualTo(1024);
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Constructor throws exception when capacity is not positive")
+    void constructorThrowsExceptionWhenCapacityIsWrong() {
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> new ArrayDeque<>(0));
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> new ArrayDeque<>(-1));
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Deque used as a Queue follows FIFO rule")
+    void dequeAsQueue() {
+        Queue<Integer> queue = new ArrayDeque<>();
+        queue.add(1);
+        queue.add(2);
+        queue.add(3);
+
+        assertThat(queue.poll()).isEqualTo(1);
+        assertThat(queue.poll()).isEqualTo(2);
+        assertThat(queue.poll()).isEqualTo(3);
+        assertThat(queue.poll()).isNull();
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Deque used as a Stack follows LIFO rule")
+    void dequeAsStack() {
+        Stack<Integer> stack = new ArrayDeque<>();
+        stack.push(1);
+        stack.push(2);
+        stack.push(3);
+
+        assertThat(stack.pop()).isEqualTo(3);
+        assertThat(stack.pop()).isEqualTo(2);
+        assertThat(stack.pop()).isEqualTo(1);
+        assertThat(stack.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("Method pop() throws exception when deque is empty")
+    void popThrowsExceptionWhenDequeIsEmpty() {
+        ArrayDeque<Integer> deque = new ArrayDeque<>();
+
+        assertThatExceptionOfType(EmptyStackException.class).isThrownBy(deque::pop);
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("Poll and peek methods return null when deque is empty")
+    void pollAndPeekReturnNullWhenDequeIsEmpty() {
+        ArrayDeque<Integer> deque = new ArrayDeque<>();
+
+        assertThat(deque.pollFirst()).isNull();
+        assertThat(deque.pollLast()).isNull();
+        assertThat(deque.peekFirst()).isNull();
+        assertThat(deque.peekLast()).isNull();
+    }
+
+    @Test
+    @Order(8)
+    @DisplayName("Add methods throw exception when element is null")
+    void addThrowsExceptionWhenElementIsNull() {
+        ArrayDeque<Integer> deque = new ArrayDeque<>();
+
+        assertThatNullPointerException().isThrownBy(() -> deque.addFirst(null));
+        assertThatNullPointerException().isThrownBy(() -> deque.addLast(null));
+        assertThatNullPointerException().isThrownBy(() -> deque.add(null));
+        assertThatNullPointerException().isThrownBy(() -> deque.push(null));
+    }
+
+    @Test
+    @Order(9)
+    @DisplayName("Elements can be added and removed at both ends")
+    void addAndRemoveAtBothEnds() {
+        ArrayDeque<Integer> deque = new ArrayDeque<>();
+        deque.addLast(2);
+        deque.addFirst(1);
+        deque.addLast(3);
+
+        assertThat(deque.size()).isEqualTo(3);
+        assertThat(deque.peekFirst()).isEqualTo(1);
+        assertThat(deque.peekLast()).isEqualTo(3);
+        assertThat(deque.pollLast()).isEqualTo(3);
+        assertThat(deque.pollFirst()).isEqualTo(1);
+        assertThat(deque.pollFirst()).isEqualTo(2);
+        assertThat(deque.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Order(10)
+    @DisplayName("Elements wrap around the array without growing it")
+    void elementsWrapAround() {
+        ArrayDeque<Integer> deque = new ArrayDeque<>(4);
+        Object[] array = getInternalArray(deque);
+
+        for (int i = 0; i < 100; i++) {
+            deque.add(i);
+            deque.add(i + 1);
+            assertThat(deque.poll()).isEqualTo(i);
+            assertThat(deque.poll()).isEqualTo(i + 1);
+        }
+        for (int i = 0; i < 100; i++) {
+            deque.addFirst(i);
+            assertThat(deque.pollLast()).isEqualTo(i);
+        }
+
+        assertThat(getInternalArray(deque)).isSameAs(array);
+    }
+
+    @Test
+    @Order(11)
+    @DisplayName("Array grows twice when it is full and keeps the order of elements")
+    void arrayGrows() {
+        ArrayDeque<Integer> deque = new ArrayDeque<>(4);
+        deque.addLast(2);
+        deque.addLast(3);
+        deque.addFirst(1);
+        deque.addFirst(0);
+
+        deque.addLast(4);
+
+        assertThat(getInternalArray(deque).length).isEqualTo(8);
+        for (int i = 0; i <= 4; i++) {
+            assertThat(deque.pollFirst()).isEqualTo(i);
+        }
+    }
+
+    @Test
+    @Order(12)
+    @DisplayName("Removed elements are not referenced by the array")
+    void removedElementsAreCleared() {
+        ArrayDeque<Integer> deque = new ArrayDeque<>(8);
+        for (int i = 0; i < 6; i++) {
+            deque.add(i);
+        }
+
+        deque.pollFirst();
+        deque.pollLast();
+        deque.pop();
+
+        assertThat(Arrays.stream(getInternalArray(deque)).filter(Objects::nonNull).count()).isEqualTo(3);
+    }
+
+    @Test
+    @Order(13)
+    @DisplayName("Random operations match java.util.ArrayDeque")
+    void randomOperations() {
+        ArrayDeque<Integer> deque = new ArrayDeque<>(2);
+        java.util.ArrayDeque<Integer> expected = new java.util.ArrayDeque<>();
+        Random random = new Random(7);
+
+        for (int i = 0; i < 100_000; i++) {
+            switch (random.nextInt(5)) {
+                case 0 -> {
+                    deque.addFirst(i);
+                    expected.addFirst(i);
+                }
+                case 1 -> {
+                    deque.addLast(i);
+                    expected.addLast(i);
+                }
+                case 2 -> assertThat(deque.pollFirst()).isEqualTo(expected.pollFirst());
+                case 3 -> assertThat(deque.pollLast()).isEqualTo(expected.pollLast());
+                default -> {
+                    assertThat(deque.peekFirst()).isEqualTo(expected.peekFirst());
+                    assertThat(deque.peekLast()).isEqualTo(expected.peekLast());
+                }
+            }
+            assertThat(deque.size()).isEqualTo(expected.size());
+        }
+    }
+
+    @SneakyThrows
+    private Object[] getInternalArray(ArrayDeque<Integer> deque) {
+        Field arrayField = Arrays.stream(ArrayDeque.class.getDeclaredFields())
+                .filter(field -> field.getType().equals(Object[].class))
+                .findAny()
+                .orElseThrow();
+        arrayField.setAccessible(true);
+        return (Object[]) arrayField.get(deque);
+    }
+}
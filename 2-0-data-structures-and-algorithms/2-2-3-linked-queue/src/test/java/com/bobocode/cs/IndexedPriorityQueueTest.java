@@ -0,0 +1,212 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+/**
+ * A test class for {@link IndexedPriorityQueue}.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class IndexedPriorityQueueTest {
+    private static final Comparator<Integer> NATURAL_ORDER = Comparator.naturalOrder();
+
+    @Test
+    @Order(1)
+    @DisplayName("New queue is empty")
+    void newQueueIsEmpty() {
+        IndexedPriorityQueue<Integer> queue = new IndexedPriorityQueue<>(10, NATURAL_ORDER);
+
+        assertThat(queue.isEmpty()).isTrue();
+        assertThat(queue.size()).isEqualTo(0);
+        assertThat(queue.contains(3)).isFalse();
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Methods peekIndex() and pollIndex() throw exception when queue is empty")
+    void peekAndPollThrowExceptionWhenQueueIsEmpty() {
+        IndexedPriorityQueue<Integer> queue = new IndexedPriorityQueue<>(10, NATURAL_ORDER);
+
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(queue::peekIndex);
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(queue::pollIndex);
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Method add() stores a key by index")
+    void addStoresKeyByIndex() {
+        IndexedPriorityQueue<Integer> queue = new IndexedPriorityQueue<>(10, NATURAL_ORDER);
+
+        queue.add(3, 30);
+        queue.add(7, 10);
+
+        assertThat(queue.size()).isEqualTo(2);
+        assertThat(queue.contains(3)).isTrue();
+        assertThat(queue.contains(7)).isTrue();
+        assertThat(queue.keyOf(3)).isEqualTo(30);
+        assertThat(queue.keyOf(7)).isEqualTo(10);
+        assertThat(queue.peekIndex()).isEqualTo(7);
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Method add() throws exception when index is wrong or already used")
+    void addThrowsExceptionWhenIndexIsWrong() {
+        IndexedPriorityQueue<Integer> queue = new IndexedPriorityQueue<>(10, NATURAL_ORDER);
+        queue.add(3, 30);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> queue.add(-1, 1));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> queue.add(10, 1));
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> queue.add(3, 1));
+        assertThatNullPointerException().isThrownBy(() -> queue.add(4, null));
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Method pollIndex() returns indexes in key order")
+    void pollIndexReturnsIndexesInKeyOrder() {
+        int size = 10_000;
+        IndexedPriorityQueue<Integer> queue = new IndexedPriorityQueue<>(size, NATURAL_ORDER);
+        int[] keys = new Random(3).ints(size, 0, 1_000_000).toArray();
+        for (int i = 0; i < size; i++) {
+            queue.add(i, keys[i]);
+        }
+
+        int previousKey = Integer.MIN_VALUE;
+        while (!queue.isEmpty()) {
+            int index = queue.pollIndex();
+            assertThat(keys[index]).isGreaterThanOrEqualTo(previousKey);
+            assertThat(queue.contains(index)).isFalse();
+            previousKey = keys[index];
+        }
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("Method decreaseKey() moves an index closer to the head")
+    void decreaseKeyMovesIndexUp() {
+        IndexedPriorityQueue<Integer> queue = new IndexedPriorityQueue<>(10, NATURAL_ORDER);
+        queue.add(0, 10);
+        queue.add(1, 20);
+        queue.add(2, 30);
+
+        queue.decreaseKey(2, 5);
+
+        assertThat(queue.keyOf(2)).isEqualTo(5);
+        assertThat(queue.pollIndex()).isEqualTo(2);
+        assertThat(queue.pollIndex()).isEqualTo(0);
+        assertThat(queue.pollIndex()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("Method decreaseKey() throws exception when new key is greater")
+    void decreaseKeyThrowsExceptionWhenKeyIsGreater() {
+        IndexedPriorityQueue<Integer> queue = new IndexedPriorityQueue<>(10, NATURAL_ORDER);
+        queue.add(0, 10);
+
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> queue.decreaseKey(0, 11));
+        assertThat(queue.keyOf(0)).isEqualTo(10);
+    }
+
+    @Test
+    @Order(8)
+    @DisplayName("Methods decreaseKey() and keyOf() throw exception when index is not in queue")
+    void decreaseKeyAndKeyOfThrowExceptionWhenIndexIsMissing() {
+        IndexedPriorityQueue<Integer> queue = new IndexedPriorityQueue<>(10, NATURAL_ORDER);
+        queue.add(0, 10);
+        queue.pollIndex();
+
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(() -> queue.decreaseKey(0, 1));
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(() -> queue.keyOf(0));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> queue.keyOf(10));
+    }
+
+    @Test
+    @Order(9)
+    @DisplayName("An index can be added again after it is polled")
+    void indexCanBeReused() {
+        IndexedPriorityQueue<Integer> queue = new IndexedPriorityQueue<>(2, NATURAL_ORDER);
+        queue.add(0, 10);
+        queue.pollIndex();
+
+        queue.add(0, 20);
+        queue.add(1, 15);
+
+        assertThat(queue.pollIndex()).isEqualTo(1);
+        assertThat(queue.pollIndex()).isEqualTo(0);
+    }
+
+    @Test
+    @Order(10)
+    @DisplayName("Queue finds shortest paths in Dijkstra's algorithm")
+    void dijkstra() {
+        int vertices = 2_000;
+        Random random = new Random(7);
+        List<List<int[]>> edges = new ArrayList<>();
+        for (int v = 0; v < vertices; v++) {
+            edges.add(new ArrayList<>());
+            for (int e = 0; e < 5; e++) {
+                edges.get(v).add(new int[]{random.nextInt(vertices), random.nextInt(100)});
+            }
+        }
+
+        long[] distances = new long[vertices];
+        Arrays.fill(distances, Long.MAX_VALUE);
+        distances[0] = 0;
+        IndexedPriorityQueue<Long> queue = new IndexedPriorityQueue<>(vertices, Comparator.naturalOrder());
+        queue.add(0, 0L);
+        while (!queue.isEmpty()) {
+            int v = queue.pollIndex();
+            for (int[] edge : edges.get(v)) {
+                long distance = distances[v] + edge[1];
+                if (distance < distances[edge[0]]) {
+                    if (queue.contains(edge[0])) {
+                        queue.decreaseKey(edge[0], distance);
+                    } else {
+                        queue.add(edge[0], distance);
+                    }
+                    distances[edge[0]] = distance;
+                }
+            }
+        }
+
+        assertThat(distances).isEqualTo(bellmanFord(edges, vertices));
+    }
+
+    private long[] bellmanFord(List<List<int[]>> edges, int vertices) {
+        long[] distances = new long[vertices];
+        Arrays.fill(distances, Long.MAX_VALUE);
+        distances[0] = 0;
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int v = 0; v < vertices; v++) {
+                if (distances[v] == Long.MAX_VALUE) {
+                    continue;
+                }
+                for (int[] edge : edges.get(v)) {
+                    if (distances[v] + edge[1] < distances[edge[0]]) {
+                        distances[edge[0]] = distances[v] + edge[1];
+                        changed = true;
+                    }
+                }
+            }
+        }
+        return distances;
+    }
+}
@@ -0,0 +1,241 @@
+package com.bobocode.cs;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.Lock;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+/**
+ * A test class for {@link LockFreeLinkedQueue}.
+ * <p>
+ * PLEASE NOTE: we use Reflection API only for learning purposes. It should NOT be used for production tests.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class LockFreeLinkedQueueTest {
+    private static final int PRODUCERS = 4;
+    private static final int CONSUMERS = 4;
+    private static final int ELEMENTS_PER_PRODUCER = 50_000;
+
+    private static final Predicate<Field> HEAD_FIELD = field ->
+            field.getName().contains("head") || field.getName().contains("first");
+
+    private static final Predicate<Field> TAIL_FIELD = field ->
+            field.getName().contains("tail") || field.getName().contains("last");
+
+    private Queue<Integer> queue = new LockFreeLinkedQueue<>();
+
+    @Test
+    @Order(1)
+    @DisplayName("Head and tail are atomic references")
+    void headAndTailAreAtomicReferences() {
+        assertThat(hasAtomicField(HEAD_FIELD)).isTrue();
+        assertThat(hasAtomicField(TAIL_FIELD)).isTrue();
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Queue does not use locks")
+    void queueDoesNotUseLocks() {
+        boolean hasSynchronizedMethods = Arrays.stream(LockFreeLinkedQueue.class.getDeclaredMethods())
+                .anyMatch(method -> Modifier.isSynchronized(method.getModifiers()));
+        boolean hasLockFields = Arrays.stream(LockFreeLinkedQueue.class.getDeclaredFields())
+                .anyMatch(field -> Lock.class.isAssignableFrom(field.getType()));
+
+        assertThat(hasSynchronizedMethods).isFalse();
+        assertThat(hasLockFields).isFalse();
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Method poll() retrieves elements in FIFO order")
+    void addAndPoll() {
+        queue.add(1);
+        queue.add(2);
+        queue.add(3);
+
+        assertThat(queue.poll()).isEqualTo(1);
+        assertThat(queue.poll()).isEqualTo(2);
+        assertThat(queue.poll()).isEqualTo(3);
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Method poll() returns null when queue is empty")
+    void pollReturnsNullWhenQueueIsEmpty() {
+        assertThat(queue.poll()).isNull();
+
+        queue.add(1);
+        queue.poll();
+
+        assertThat(queue.poll()).isNull();
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Method add() throws exception when element is null")
+    void addThrowsExceptionWhenElementIsNull() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> queue.add(null));
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("Methods size() and isEmpty() reflect changes made by a single thread")
+    void sizeAndIsEmpty() {
+        assertThat(queue.isEmpty()).isTrue();
+        assertThat(queue.size()).isEqualTo(0);
+
+        queue.add(1);
+        queue.add(2);
+        queue.poll();
+
+        assertThat(queue.isEmpty()).isFalse();
+        assertThat(queue.size()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("Elements added by many producers are polled by many consumers exactly once")
+    void multipleProducersAndConsumers() {
+        AtomicReferenceArray<Integer> received = new AtomicReferenceArray<>(PRODUCERS * ELEMENTS_PER_PRODUCER);
+        AtomicInteger receivedCount = new AtomicInteger();
+
+        assertTimeoutPreemptively(Duration.ofSeconds(20), () -> runProducersAndConsumers((consumer, element) -> {
+            assertThat(received.compareAndSet(element, null, element)).isTrue();
+            assertThat(queue.size()).isNotNegative();
+            receivedCount.incrementAndGet();
+        }));
+
+        assertThat(receivedCount.get()).isEqualTo(PRODUCERS * ELEMENTS_PER_PRODUCER);
+        assertThat(queue.isEmpty()).isTrue();
+        assertThat(queue.size()).isEqualTo(0);
+    }
+
+    @Test
+    @Order(8)
+    @DisplayName("Elements of each producer are polled in the order they were added")
+    void orderOfEachProducerIsPreserved() {
+        int[][] lastReceived = new int[CONSUMERS][PRODUCERS];
+        Arrays.stream(lastReceived).forEach(row -> Arrays.fill(row, -1));
+        AtomicInteger violations = new AtomicInteger();
+
+        assertTimeoutPreemptively(Duration.ofSeconds(20), () -> runProducersAndConsumers((consumer, element) -> {
+            int producer = element / ELEMENTS_PER_PRODUCER;
+            if (element <= lastReceived[consumer][producer]) {
+                violations.incrementAndGet();
+            }
+            lastReceived[consumer][producer] = element;
+        }));
+
+        assertThat(violations.get()).isEqualTo(0);
+    }
+
+    @Test
+    @Order(9)
+    @DisplayName("Method size() is exact after concurrent changes are finished")
+    void sizeAfterConcurrentAdds() {
+        assertTimeoutPreemptively(Duration.ofSeconds(20), () -> {
+            ExecutorService executor = Executors.newFixedThreadPool(PRODUCERS);
+            try {
+                CountDownLatch start = new CountDownLatch(1);
+                Future<?>[] futures = new Future<?>[PRODUCERS];
+                for (int p = 0; p < PRODUCERS; p++) {
+                    futures[p] = executor.submit(() -> {
+                        await(start);
+                        for (int i = 0; i < ELEMENTS_PER_PRODUCER; i++) {
+                            queue.add(i);
+                        }
+                    });
+                }
+                start.countDown();
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        });
+
+        assertThat(queue.size()).isEqualTo(PRODUCERS * ELEMENTS_PER_PRODUCER);
+    }
+
+    /**
+     * Starts producers that add unique elements, and consumers that poll them until all elements are received.
+     * An element of producer p is p * ELEMENTS_PER_PRODUCER + i, where i is its sequence number. The callback receives
+     * a consumer index and an element. If any thread fails or the waiting thread is interrupted, all other threads
+     * are interrupted, so consumers never keep spinning after the test has finished.
+     */
+    @SneakyThrows
+    private void runProducersAndConsumers(BiConsumer<Integer, Integer> onReceived) {
+        ExecutorService executor = Executors.newFixedThreadPool(PRODUCERS + CONSUMERS);
+        try {
+            CompletionService<Void> completion = new ExecutorCompletionService<>(executor);
+            CountDownLatch start = new CountDownLatch(1);
+            AtomicInteger remaining = new AtomicInteger(PRODUCERS * ELEMENTS_PER_PRODUCER);
+            for (int p = 0; p < PRODUCERS; p++) {
+                int producer = p;
+                completion.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < ELEMENTS_PER_PRODUCER; i++) {
+                        queue.add(producer * ELEMENTS_PER_PRODUCER + i);
+                    }
+                    return null;
+                });
+            }
+            for (int c = 0; c < CONSUMERS; c++) {
+                int consumer = c;
+                completion.submit(() -> {
+                    start.await();
+                    while (remaining.get() > 0 && !Thread.currentThread().isInterrupted()) {
+                        Integer element = queue.poll();
+                        if (element != null) {
+                            onReceived.accept(consumer, element);
+                            remaining.decrementAndGet();
+                        }
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            for (int i = 0; i < PRODUCERS + CONSUMERS; i++) {
+                completion.take().get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @SneakyThrows
+    private void await(CountDownLatch latch) {
+        latch.await();
+    }
+
+    private boolean hasAtomicField(Predicate<Field> predicate) {
+        return Arrays.stream(LockFreeLinkedQueue.class.getDeclaredFields())
+                .filter(predicate)
+                .anyMatch(field -> field.getType().equals(AtomicReference.class));
+    }
+}
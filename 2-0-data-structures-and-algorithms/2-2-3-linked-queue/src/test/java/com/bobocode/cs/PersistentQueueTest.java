@@ -0,0 +1,210 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.lang.reflect.Modifier;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+/**
+ * A test class for {@link PersistentQueue}.
+ * <p>
+ * PLEASE NOTE: we use Reflection API only for learning purposes. It should NOT be used for production tests.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class PersistentQueueTest {
+
+    @Test
+    @Order(1)
+    @DisplayName("Queue fields are final, and memoized suspensions use only final or volatile fields")
+    void fieldsAreFinalOrVolatile() {
+        boolean queueFieldsAreFinal = Arrays.stream(PersistentQueue.class.getDeclaredFields())
+                .filter(field -> !field.isSynthetic())
+                .allMatch(field -> Modifier.isFinal(field.getModifiers()));
+        boolean nestedFieldsAreSafe = Arrays.stream(PersistentQueue.class.getDeclaredClasses())
+                .flatMap(type -> Arrays.stream(type.getDeclaredFields()))
+                .filter(field -> !field.isSynthetic())
+                .allMatch(field -> Modifier.isFinal(field.getModifiers())
+                        || Modifier.isVolatile(field.getModifiers()));
+
+        assertThat(queueFieldsAreFinal).isTrue();
+        assertThat(nestedFieldsAreSafe).isTrue();
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Method empty() returns an empty queue")
+    void empty() {
+        PersistentQueue<Integer> queue = PersistentQueue.empty();
+
+        assertThat(queue.isEmpty()).isTrue();
+        assertThat(queue.size()).isEqualTo(0);
+        assertThat(queue.peek()).isNull();
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Method of() creates a queue with the first element in the head")
+    void of() {
+        PersistentQueue<Integer> queue = PersistentQueue.of(1, 2, 3);
+
+        assertThat(queue.size()).isEqualTo(3);
+        assertThat(queue.peek()).isEqualTo(1);
+        assertThat(queue.remove().peek()).isEqualTo(2);
+        assertThat(queue.remove().remove().peek()).isEqualTo(3);
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Elements are retrieved in FIFO order")
+    void fifoOrder() {
+        PersistentQueue<Integer> queue = PersistentQueue.empty();
+        for (int i = 0; i < 10; i++) {
+            queue = queue.add(i);
+            if (i % 3 == 2) {
+                assertThat(queue.peek()).isEqualTo(i / 3);
+                queue = queue.remove();
+            }
+        }
+
+        for (int i = 3; i < 10; i++) {
+            assertThat(queue.peek()).isEqualTo(i);
+            queue = queue.remove();
+        }
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Methods add() and remove() return new queues and do not change the old one")
+    void addAndRemoveDoNotChangeQueue() {
+        PersistentQueue<Integer> queue = PersistentQueue.of(1, 2, 3);
+
+        PersistentQueue<Integer> added = queue.add(4);
+        PersistentQueue<Integer> removed = queue.remove();
+
+        assertThat(queue.size()).isEqualTo(3);
+        assertThat(queue.peek()).isEqualTo(1);
+        assertThat(added.size()).isEqualTo(4);
+        assertThat(removed.size()).isEqualTo(2);
+        assertThat(removed.peek()).isEqualTo(2);
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("Old version of a queue can be used after the queue was rebuilt")
+    void oldVersionsAreUsable() {
+        PersistentQueue<Integer> queue = PersistentQueue.of(1, 2, 3, 4);
+        PersistentQueue<Integer> old = queue;
+        for (int i = 5; i <= 20; i++) {
+            queue = queue.add(i).remove();
+        }
+
+        for (int i = 1; i <= 4; i++) {
+            assertThat(old.peek()).isEqualTo(i);
+            old = old.remove();
+        }
+        for (int i = 17; i <= 20; i++) {
+            assertThat(queue.peek()).isEqualTo(i);
+            queue = queue.remove();
+        }
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("Method add() throws exception when element is null")
+    void addThrowsExceptionWhenElementIsNull() {
+        PersistentQueue<Integer> queue = PersistentQueue.empty();
+
+        assertThatNullPointerException().isThrownBy(() -> queue.add(null));
+    }
+
+    @Test
+    @Order(8)
+    @DisplayName("Method remove() throws exception when queue is empty")
+    void removeThrowsExceptionWhenQueueIsEmpty() {
+        PersistentQueue<Integer> queue = PersistentQueue.of(1).remove();
+
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(queue::remove);
+    }
+
+    @Test
+    @Order(9)
+    @DisplayName("Million adds and removes are performed in amortized constant time")
+    void millionAddsAndRemoves() {
+        assertTimeoutPreemptively(Duration.ofSeconds(2), () -> {
+            PersistentQueue<Integer> queue = PersistentQueue.empty();
+            for (int i = 0; i < 1_000_000; i++) {
+                queue = queue.add(i);
+            }
+            assertThat(queue.size()).isEqualTo(1_000_000);
+            for (int i = 0; i < 1_000_000; i++) {
+                assertThat(queue.peek()).isEqualTo(i);
+                queue = queue.remove();
+            }
+            assertThat(queue.isEmpty()).isTrue();
+        });
+    }
+
+    @Test
+    @Order(10)
+    @DisplayName("Version that is one step before a rotation is reused in amortized constant time")
+    void oldVersionIsReusedInConstantTime() {
+        PersistentQueue<Integer> queue = PersistentQueue.empty();
+        for (int i = 0; i < (1 << 18) - 2; i++) {
+            queue = queue.add(i);
+        }
+        PersistentQueue<Integer> old = queue;
+
+        assertTimeoutPreemptively(Duration.ofSeconds(2), () -> {
+            for (int i = 0; i < 100_000; i++) {
+                PersistentQueue<Integer> added = old.add(-1);
+                assertThat(added.size()).isEqualTo((1 << 18) - 1);
+                assertThat(added.remove().peek()).isEqualTo(1);
+            }
+        });
+    }
+
+    @Test
+    @Order(11)
+    @DisplayName("Versions published by one thread are seen consistent by another thread")
+    void versionsArePublishedWithoutLocks() {
+        AtomicReference<PersistentQueue<Integer>> published = new AtomicReference<>(PersistentQueue.empty());
+        AtomicBoolean done = new AtomicBoolean();
+
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            CompletableFuture<Void> reader = CompletableFuture.runAsync(() -> {
+                while (!done.get()) {
+                    PersistentQueue<Integer> queue = published.get();
+                    if (!queue.isEmpty()) {
+                        int head = queue.peek();
+                        assertThat(queue.remove().size()).isEqualTo(queue.size() - 1);
+                        assertThat(queue.remove().isEmpty() || queue.remove().peek() == head + 1).isTrue();
+                    }
+                }
+            });
+            try {
+                for (int i = 0; i < 100_000; i++) {
+                    PersistentQueue<Integer> queue = published.get().add(i);
+                    published.set(i % 2 == 0 ? queue : queue.remove());
+                }
+            } finally {
+                done.set(true);
+            }
+            reader.get();
+        });
+    }
+}
@@ -0,0 +1,226 @@
+package com.bobocode.cs;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+/**
+ * A test class for {@link PriorityQueue}.
+ * <p>
+ * PLEASE NOTE: we use Reflection API only for learning purposes. It should NOT be used for production tests.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class PriorityQueueTest {
+    private static final Comparator<Integer> NATURAL_ORDER = Comparator.naturalOrder();
+
+    @Test
+    @Order(1)
+    @DisplayName("Elements are stored in a single array without nodes")
+    void elementsAreStoredInArray() {
+        boolean hasArrayField = Arrays.stream(PriorityQueue.class.getDeclaredFields())
+                .anyMatch(field -> field.getType().equals(Object[].class));
+
+        assertThat(hasArrayField).isTrue();
+        assertThat(PriorityQueue.class.getDeclaredClasses()).isEmpty();
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Constructor throws exception when arity is less than 2")
+    void constructorThrowsExceptionWhenArityIsWrong() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new PriorityQueue<>(1, NATURAL_ORDER));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new PriorityQueue<>(0, NATURAL_ORDER));
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Constructor throws exception when comparator is null")
+    void constructorThrowsExceptionWhenComparatorIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> new PriorityQueue<Integer>(null));
+        assertThatNullPointerException().isThrownBy(() -> new PriorityQueue<Integer>(2, null));
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Methods peek() and poll() return null when queue is empty")
+    void peekAndPollReturnNullWhenQueueIsEmpty() {
+        PriorityQueue<Integer> queue = new PriorityQueue<>(NATURAL_ORDER);
+
+        assertThat(queue.peek()).isNull();
+        assertThat(queue.poll()).isNull();
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Method add() throws exception when element is null")
+    void addThrowsExceptionWhenElementIsNull() {
+        PriorityQueue<Integer> queue = new PriorityQueue<>(NATURAL_ORDER);
+
+        assertThatNullPointerException().isThrownBy(() -> queue.add(null));
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("Method peek() returns the smallest element and does not remove it")
+    void peekDoesNotRemoveElement() {
+        PriorityQueue<Integer> queue = new PriorityQueue<>(NATURAL_ORDER);
+        queue.add(5);
+        queue.add(2);
+        queue.add(8);
+
+        assertThat(queue.peek()).isEqualTo(2);
+        assertThat(queue.peek()).isEqualTo(2);
+        assertThat(queue.size()).isEqualTo(3);
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("Methods size() and isEmpty() reflect added and polled elements")
+    void sizeAndIsEmpty() {
+        PriorityQueue<Integer> queue = new PriorityQueue<>(NATURAL_ORDER);
+
+        assertThat(queue.isEmpty()).isTrue();
+        queue.add(3);
+        queue.add(3);
+        assertThat(queue.size()).isEqualTo(2);
+        assertThat(queue.isEmpty()).isFalse();
+        queue.poll();
+        queue.poll();
+        assertThat(queue.size()).isEqualTo(0);
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Order(8)
+    @ParameterizedTest(name = "arity = {0}")
+    @ValueSource(ints = {2, 3, 4, 8})
+    @DisplayName("Method poll() returns elements in comparator order")
+    void pollReturnsElementsInOrder(int arity) {
+        PriorityQueue<Integer> queue = new PriorityQueue<>(arity, NATURAL_ORDER);
+        int[] elements = new Random(arity).ints(10_000, 0, 1_000).toArray();
+        Arrays.stream(elements).forEach(queue::add);
+
+        int[] polled = IntStream.range(0, elements.length).map(i -> queue.poll()).toArray();
+
+        assertThat(polled).containsExactly(Arrays.stream(elements).sorted().toArray());
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Order(9)
+    @DisplayName("Queue with a reversed comparator returns the greatest element first")
+    void reversedComparator() {
+        PriorityQueue<Integer> queue = new PriorityQueue<>(Comparator.reverseOrder());
+        queue.add(1);
+        queue.add(7);
+        queue.add(4);
+
+        assertThat(queue.poll()).isEqualTo(7);
+        assertThat(queue.poll()).isEqualTo(4);
+        assertThat(queue.poll()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(10)
+    @DisplayName("Elements can be added and polled alternately")
+    void addAndPollAlternately() {
+        PriorityQueue<Integer> queue = new PriorityQueue<>(NATURAL_ORDER);
+        java.util.PriorityQueue<Integer> expected = new java.util.PriorityQueue<>();
+        Random random = new Random(11);
+
+        for (int i = 0; i < 100_000; i++) {
+            if (random.nextInt(3) == 0) {
+                assertThat(queue.poll()).isEqualTo(expected.poll());
+            } else {
+                int element = random.nextInt(1_000);
+                queue.add(element);
+                expected.add(element);
+            }
+        }
+
+        assertThat(queue.size()).isEqualTo(expected.size());
+    }
+
+    @Order(11)
+    @ParameterizedTest(name = "arity = {0}")
+    @ValueSource(ints = {2, 4, 8})
+    @DisplayName("Methods add() and poll() make O(log n) comparisons")
+    void addAndPollMakeLogarithmicNumberOfComparisons(int arity) {
+        AtomicLong comparisons = new AtomicLong();
+        PriorityQueue<Integer> queue = new PriorityQueue<>(arity, countingComparator(comparisons));
+        int size = 1 << 16;
+        new Random(5).ints(size).forEach(queue::add);
+        IntStream.range(0, size).forEach(i -> queue.poll());
+
+        double levels = Math.log(size) / Math.log(arity) + 1;
+        assertThat(comparisons.get()).isLessThan((long) (2 * size * arity * levels));
+    }
+
+    @Test
+    @Order(12)
+    @DisplayName("Method of() creates a queue of given elements in linear time")
+    void ofCreatesQueueInLinearTime() {
+        AtomicLong comparisons = new AtomicLong();
+        Integer[] elements = new Random(13).ints(100_000).boxed().toArray(Integer[]::new);
+
+        PriorityQueue<Integer> queue = PriorityQueue.of(countingComparator(comparisons), elements);
+
+        assertThat(queue.size()).isEqualTo(elements.length);
+        assertThat(comparisons.get()).isLessThan(2L * elements.length);
+        assertThat(queue.poll()).isEqualTo(Arrays.stream(elements).min(NATURAL_ORDER).orElseThrow());
+    }
+
+    @Test
+    @Order(13)
+    @DisplayName("Method of() throws exception when any element is null")
+    void ofThrowsExceptionWhenElementIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> PriorityQueue.of(NATURAL_ORDER, 1, null, 3));
+    }
+
+    @Test
+    @Order(14)
+    @DisplayName("Internal array grows when it is full")
+    void arrayGrows() {
+        PriorityQueue<Integer> queue = new PriorityQueue<>(NATURAL_ORDER);
+        int initialLength = getInternalArray(queue).length;
+
+        IntStream.range(0, initialLength * 4 + 1).map(i -> -i).forEach(queue::add);
+
+        assertThat(getInternalArray(queue).length).isGreaterThan(initialLength * 4);
+        assertThat(queue.poll()).isEqualTo(-initialLength * 4);
+    }
+
+    private Comparator<Integer> countingComparator(AtomicLong comparisons) {
+        return (a, b) -> {
+            comparisons.incrementAndGet();
+            return a.compareTo(b);
+        };
+    }
+
+    @SneakyThrows
+    private Object[] getInternalArray(PriorityQueue<Integer> queue) {
+        Field arrayField = Arrays.stream(PriorityQueue.class.getDeclaredFields())
+                .filter(field -> field.getType().equals(Object[].class))
+                .findAny()
+                .orElseThrow();
+        arrayField.setAccessible(true);
+        return (Object[]) arrayField.get(queue);
+    }
+}
@@ -0,0 +1,369 @@
+package com.bobocode.cs;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Named;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+/**
+ * A test class for {@link RingBufferQueue}. Most of the tests are run for both SPSC and MPMC modes.
+ * <p>
+ * PLEASE NOTE: we use Reflection API only for learning purposes. It should NOT be used for production tests.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class RingBufferQueueTest {
+    private static final Duration TIMEOUT = Duration.ofSeconds(20);
+
+    static Stream<Arguments> queueFactories() {
+        return Stream.of(
+                Arguments.of(Named.<IntFunction<RingBufferQueue<Integer>>>of("SPSC", RingBufferQueue::spsc)),
+                Arguments.of(Named.<IntFunction<RingBufferQueue<Integer>>>of("MPMC", RingBufferQueue::mpmc))
+        );
+    }
+
+    @Order(1)
+    @ParameterizedTest
+    @MethodSource("queueFactories")
+    @DisplayName("Capacity is rounded up to a power of two")
+    void capacityIsRoundedUpToPowerOfTwo(IntFunction<RingBufferQueue<Integer>> factory) {
+        assertThat(factory.apply(1).capacity()).isEqualTo(1);
+        assertThat(factory.apply(5).capacity()).isEqualTo(8);
+        assertThat(factory.apply(8).capacity()).isEqualTo(8);
+        assertThat(factory.apply(1000).capacity()).isEqualTo(1024);
+    }
+
+    @Order(2)
+    @ParameterizedTest
+    @MethodSource("queueFactories")
+    @DisplayName("Factory method throws exception when capacity is not positive")
+    void createQueueWithWrongCapacity(IntFunction<RingBufferQueue<Integer>> factory) {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> factory.apply(0));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> factory.apply(-1));
+    }
+
+    @Order(3)
+    @ParameterizedTest
+    @MethodSource("queueFactories")
+    @DisplayName("Elements are stored in a single array of capacity length")
+    void elementsAreStoredInSingleArray(IntFunction<RingBufferQueue<Integer>> factory) {
+        RingBufferQueue<Integer> queue = factory.apply(6);
+
+        assertThat(getInternalArray(queue).length).isEqualTo(8);
+    }
+
+    @Order(4)
+    @ParameterizedTest
+    @MethodSource("queueFactories")
+    @DisplayName("Method offer() returns false when queue is full")
+    void offerReturnsFalseWhenQueueIsFull(IntFunction<RingBufferQueue<Integer>> factory) {
+        RingBufferQueue<Integer> queue = factory.apply(2);
+
+        assertThat(queue.offer(1)).isTrue();
+        assertThat(queue.offer(2)).isTrue();
+        assertThat(queue.offer(3)).isFalse();
+        assertThat(queue.size()).isEqualTo(2);
+    }
+
+    @Order(5)
+    @ParameterizedTest
+    @MethodSource("queueFactories")
+    @DisplayName("Method add() throws exception when queue is full")
+    void addThrowsExceptionWhenQueueIsFull(IntFunction<RingBufferQueue<Integer>> factory) {
+        RingBufferQueue<Integer> queue = factory.apply(2);
+        queue.add(1);
+        queue.add(2);
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> queue.add(3));
+    }
+
+    @Order(6)
+    @ParameterizedTest
+    @MethodSource("queueFactories")
+    @DisplayName("Methods add() and offer() throw exception when element is null")
+    void addThrowsExceptionWhenElementIsNull(IntFunction<RingBufferQueue<Integer>> factory) {
+        RingBufferQueue<Integer> queue = factory.apply(2);
+
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> queue.add(null));
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> queue.offer(null));
+    }
+
+    @Order(7)
+    @ParameterizedTest
+    @MethodSource("queueFactories")
+    @DisplayName("Method poll() retrieves elements in FIFO order when positions wrap around the array")
+    void pollWrapsAroundArray(IntFunction<RingBufferQueue<Integer>> factory) {
+        RingBufferQueue<Integer> queue = factory.apply(4);
+
+        for (int i = 0; i < 30; i += 3) {
+            queue.add(i);
+            queue.add(i + 1);
+            queue.add(i + 2);
+
+            assertThat(queue.poll()).isEqualTo(i);
+            assertThat(queue.poll()).isEqualTo(i + 1);
+            assertThat(queue.poll()).isEqualTo(i + 2);
+        }
+        assertThat(queue.poll()).isNull();
+    }
+
+    @Order(8)
+    @ParameterizedTest
+    @MethodSource("queueFactories")
+    @DisplayName("Method poll() releases references to retrieved elements")
+    void pollReleasesReferences(IntFunction<RingBufferQueue<Integer>> factory) {
+        RingBufferQueue<Integer> queue = factory.apply(4);
+        queue.add(1);
+        queue.add(2);
+
+        queue.poll();
+        queue.poll();
+
+        assertThat(Arrays.stream(getInternalArray(queue)).allMatch(element -> element == null)).isTrue();
+    }
+
+    @Order(9)
+    @ParameterizedTest
+    @MethodSource("queueFactories")
+    @DisplayName("Methods size() and isEmpty() reflect the number of elements")
+    void sizeAndIsEmpty(IntFunction<RingBufferQueue<Integer>> factory) {
+        RingBufferQueue<Integer> queue = factory.apply(4);
+
+        assertThat(queue.isEmpty()).isTrue();
+        assertThat(queue.size()).isEqualTo(0);
+
+        queue.add(1);
+        queue.add(2);
+        queue.add(3);
+        queue.poll();
+
+        assertThat(queue.isEmpty()).isFalse();
+        assertThat(queue.size()).isEqualTo(2);
+    }
+
+    @Order(10)
+    @ParameterizedTest
+    @MethodSource("queueFactories")
+    @DisplayName("Method drainTo() retrieves at most maxElements in FIFO order")
+    void drainTo(IntFunction<RingBufferQueue<Integer>> factory) {
+        RingBufferQueue<Integer> queue = factory.apply(8);
+        for (int i = 0; i < 6; i++) {
+            queue.add(i);
+        }
+        Stream.Builder<Integer> drained = Stream.builder();
+
+        int count = queue.drainTo(drained, 4);
+
+        assertThat(count).isEqualTo(4);
+        assertThat(drained.build().toArray()).containsExactly(0, 1, 2, 3);
+        assertThat(queue.size()).isEqualTo(2);
+        assertThat(queue.poll()).isEqualTo(4);
+    }
+
+    @Order(11)
+    @ParameterizedTest
+    @MethodSource("queueFactories")
+    @DisplayName("Method drainTo() retrieves all elements when there are less than maxElements")
+    void drainToRetrievesAllElements(IntFunction<RingBufferQueue<Integer>> factory) {
+        RingBufferQueue<Integer> queue = factory.apply(4);
+        queue.add(1);
+        queue.add(2);
+        queue.poll();
+        queue.add(3);
+        queue.add(4);
+        queue.add(5);
+        Stream.Builder<Integer> drained = Stream.builder();
+
+        int count = queue.drainTo(drained, 100);
+
+        assertThat(count).isEqualTo(4);
+        assertThat(drained.build().toArray()).containsExactly(2, 3, 4, 5);
+        assertThat(queue.isEmpty()).isTrue();
+        assertThat(queue.drainTo(element -> {
+        }, 100)).isEqualTo(0);
+    }
+
+    @Order(12)
+    @ParameterizedTest
+    @MethodSource("queueFactories")
+    @DisplayName("Method drainTo() throws exception when maxElements is negative")
+    void drainToThrowsExceptionWhenMaxElementsIsNegative(IntFunction<RingBufferQueue<Integer>> factory) {
+        RingBufferQueue<Integer> queue = factory.apply(4);
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> queue.drainTo(element -> {
+                }, -1));
+    }
+
+    @Order(13)
+    @ParameterizedTest
+    @MethodSource("queueFactories")
+    @DisplayName("Method take() waits until an element is added")
+    void takeWaitsForElement(IntFunction<RingBufferQueue<Integer>> factory) {
+        RingBufferQueue<Integer> queue = factory.apply(4);
+
+        assertTimeoutPreemptively(TIMEOUT, () -> {
+            CompletableFuture<Integer> taken = CompletableFuture.supplyAsync(() -> take(queue));
+            Thread.sleep(100);
+            assertThat(taken.isDone()).isFalse();
+
+            queue.add(42);
+
+            assertThat(taken.get()).isEqualTo(42);
+        });
+    }
+
+    @Order(14)
+    @ParameterizedTest
+    @MethodSource("queueFactories")
+    @DisplayName("Method put() waits until there is free space")
+    void putWaitsForFreeSpace(IntFunction<RingBufferQueue<Integer>> factory) {
+        RingBufferQueue<Integer> queue = factory.apply(1);
+        queue.add(1);
+
+        assertTimeoutPreemptively(TIMEOUT, () -> {
+            CompletableFuture<Void> put = CompletableFuture.runAsync(() -> put(queue, 2));
+            Thread.sleep(100);
+            assertThat(put.isDone()).isFalse();
+
+            assertThat(queue.poll()).isEqualTo(1);
+
+            put.get();
+            assertThat(queue.poll()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    @Order(15)
+    @DisplayName("Method take() throws exception when thread is interrupted")
+    void takeIsInterruptible() {
+        RingBufferQueue<Integer> queue = RingBufferQueue.mpmc(4);
+
+        assertTimeoutPreemptively(TIMEOUT, () -> {
+            Thread.currentThread().interrupt();
+            assertThatExceptionOfType(InterruptedException.class)
+                    .isThrownBy(queue::take);
+        });
+    }
+
+    @Test
+    @Order(16)
+    @DisplayName("SPSC queue transfers elements between two threads in FIFO order")
+    void spscTransfersElementsInOrder() {
+        RingBufferQueue<Integer> queue = RingBufferQueue.spsc(64);
+        int count = 1_000_000;
+
+        assertTimeoutPreemptively(TIMEOUT, () -> {
+            CompletableFuture<Void> producer = CompletableFuture.runAsync(() -> {
+                for (int i = 0; i < count; i++) {
+                    put(queue, i);
+                }
+            });
+            for (int i = 0; i < count; i++) {
+                assertThat(queue.take()).isEqualTo(i);
+            }
+            producer.get();
+        });
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Order(17)
+    @DisplayName("MPMC queue delivers elements of many producers to many consumers exactly once")
+    void mpmcDeliversElementsExactlyOnce() {
+        int producers = 4;
+        int consumers = 4;
+        int elementsPerProducer = 100_000;
+        RingBufferQueue<Integer> queue = RingBufferQueue.mpmc(128);
+        AtomicReferenceArray<Integer> received = new AtomicReferenceArray<>(producers * elementsPerProducer);
+        AtomicInteger remaining = new AtomicInteger(producers * elementsPerProducer);
+
+        assertTimeoutPreemptively(TIMEOUT, () -> {
+            ExecutorService executor = Executors.newFixedThreadPool(producers + consumers);
+            try {
+                CompletionService<Void> completion = new ExecutorCompletionService<>(executor);
+                CountDownLatch start = new CountDownLatch(1);
+                for (int p = 0; p < producers; p++) {
+                    int producer = p;
+                    completion.submit(() -> {
+                        start.await();
+                        for (int i = 0; i < elementsPerProducer; i++) {
+                            put(queue, producer * elementsPerProducer + i);
+                        }
+                        return null;
+                    });
+                }
+                for (int c = 0; c < consumers; c++) {
+                    completion.submit(() -> {
+                        start.await();
+                        while (remaining.get() > 0 && !Thread.currentThread().isInterrupted()) {
+                            int drained = queue.drainTo(element ->
+                                    assertThat(received.compareAndSet(element, null, element)).isTrue(), 16);
+                            remaining.addAndGet(-drained);
+                        }
+                        return null;
+                    });
+                }
+                start.countDown();
+                for (int i = 0; i < producers + consumers; i++) {
+                    completion.take().get();
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        });
+
+        for (int i = 0; i < received.length(); i++) {
+            assertThat(received.get(i)).isEqualTo(i);
+        }
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @SneakyThrows
+    private static Integer take(RingBufferQueue<Integer> queue) {
+        return queue.take();
+    }
+
+    @SneakyThrows
+    private static void put(RingBufferQueue<Integer> queue, Integer element) {
+        queue.put(element);
+    }
+
+    @SneakyThrows
+    private Object[] getInternalArray(RingBufferQueue<Integer> queue) {
+        Field arrayField = Arrays.stream(RingBufferQueue.class.getDeclaredFields())
+                .filter(field -> field.getType().equals(Object[].class))
+                .findAny()
+                .orElseThrow();
+        arrayField.setAccessible(true);
+        return (Object[]) arrayField.get(queue);
+    }
+}
@@ -0,0 +1,237 @@
+package com.bobocode.cs;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.lang.reflect.Modifier;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.function.IntConsumer;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+/**
+ * A test class for {@link WorkStealingDeque}. The last test is a small work-stealing scheduler, where each worker
+ * thread owns a deque, and steals tasks from other workers when its deque is empty.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class WorkStealingDequeTest {
+    private static final int THREADS = 4;
+    private static final Duration TIMEOUT = Duration.ofSeconds(20);
+
+    private WorkStealingDeque<Integer> deque;
+
+    @Test
+    @Order(1)
+    @DisplayName("Deque does not use locks")
+    void dequeDoesNotUseLocks() {
+        boolean hasSynchronizedMethods = Arrays.stream(WorkStealingDeque.class.getDeclaredMethods())
+                .anyMatch(method -> Modifier.isSynchronized(method.getModifiers()));
+        boolean hasLockFields = Arrays.stream(WorkStealingDeque.class.getDeclaredFields())
+                .anyMatch(field -> Lock.class.isAssignableFrom(field.getType()));
+
+        assertThat(hasSynchronizedMethods).isFalse();
+        assertThat(hasLockFields).isFalse();
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Constructor throws exception when capacity is not positive")
+    void constructorThrowsExceptionWhenCapacityIsWrong() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new WorkStealingDeque<>(0));
+        assertThatIllegalArgumentException().isThrownBy(() -> new WorkStealingDeque<>(-1));
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Method push() throws exception when element is null")
+    void pushThrowsExceptionWhenElementIsNull() {
+        deque = new WorkStealingDeque<>();
+
+        assertThatNullPointerException().isThrownBy(() -> deque.push(null));
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Methods pop() and steal() return null when deque is empty")
+    void popAndStealReturnNullWhenDequeIsEmpty() {
+        deque = new WorkStealingDeque<>();
+
+        assertThat(deque.pop()).isNull();
+        assertThat(deque.steal()).isNull();
+        assertThat(deque.isEmpty()).isTrue();
+        assertThat(deque.size()).isEqualTo(0);
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Owner pops the most recently pushed element (LIFO)")
+    void popIsLifo() {
+        deque = new WorkStealingDeque<>();
+        deque.push(1);
+        deque.push(2);
+        deque.push(3);
+
+        assertThat(deque.pop()).isEqualTo(3);
+        assertThat(deque.pop()).isEqualTo(2);
+        assertThat(deque.pop()).isEqualTo(1);
+        assertThat(deque.pop()).isNull();
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("Thief steals the oldest element (FIFO)")
+    void stealIsFifo() {
+        deque = new WorkStealingDeque<>();
+        deque.push(1);
+        deque.push(2);
+        deque.push(3);
+
+        assertThat(deque.steal()).isEqualTo(1);
+        assertThat(deque.steal()).isEqualTo(2);
+        assertThat(deque.size()).isEqualTo(1);
+        assertThat(deque.pop()).isEqualTo(3);
+        assertThat(deque.steal()).isNull();
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("Deque grows when it is full and keeps the order of elements")
+    void dequeGrows() {
+        deque = new WorkStealingDeque<>(2);
+        for (int i = 0; i < 10_000; i++) {
+            deque.push(i);
+        }
+        assertThat(deque.steal()).isEqualTo(0);
+        for (int i = 9_999; i > 0; i--) {
+            assertThat(deque.pop()).isEqualTo(i);
+        }
+
+        assertThat(deque.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Order(8)
+    @DisplayName("Each element is taken exactly once when the owner and thieves compete")
+    void eachElementIsTakenExactlyOnce() {
+        deque = new WorkStealingDeque<>(4);
+        int elements = 500_000;
+        AtomicIntegerArray taken = new AtomicIntegerArray(elements);
+        AtomicBoolean ownerDone = new AtomicBoolean();
+
+        assertTimeoutPreemptively(TIMEOUT, () -> runInParallel(thread -> {
+            if (thread == 0) {
+                for (int i = 0; i < elements; i++) {
+                    deque.push(i);
+                    if (i % 3 == 0) {
+                        take(taken, deque.pop());
+                    }
+                }
+                Integer element;
+                while ((element = deque.pop()) != null) {
+                    take(taken, element);
+                }
+                ownerDone.set(true);
+            } else {
+                while ((!ownerDone.get() || !deque.isEmpty()) && !Thread.currentThread().isInterrupted()) {
+                    take(taken, deque.steal());
+                }
+            }
+        }));
+
+        for (int i = 0; i < elements; i++) {
+            assertThat(taken.get(i)).as("element %d", i).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @Order(9)
+    @DisplayName("Scheduler computes a recursive task tree using work stealing")
+    void scheduler() {
+        List<WorkStealingDeque<Integer>> workers = Stream.generate(WorkStealingDeque<Integer>::new)
+                .limit(THREADS)
+                .toList();
+        AtomicLong pending = new AtomicLong(1);
+        AtomicLong result = new AtomicLong();
+
+        assertTimeoutPreemptively(TIMEOUT, () -> runInParallel(thread -> {
+            WorkStealingDeque<Integer> own = workers.get(thread);
+            if (thread == 0) {
+                own.push(27);
+            }
+            while (pending.get() > 0 && !Thread.currentThread().isInterrupted()) {
+                Integer task = own.pop();
+                if (task == null) {
+                    task = workers.get(ThreadLocalRandom.current().nextInt(THREADS)).steal();
+                    if (task == null) {
+                        Thread.onSpinWait();
+                        continue;
+                    }
+                }
+                if (task < 2) {
+                    result.addAndGet(task);
+                } else {
+                    pending.addAndGet(2);
+                    own.push(task - 1);
+                    own.push(task - 2);
+                }
+                pending.decrementAndGet();
+            }
+        }));
+
+        assertThat(result.get()).isEqualTo(196_418);
+    }
+
+    private void take(AtomicIntegerArray taken, Integer element) {
+        if (element != null) {
+            taken.incrementAndGet(element);
+        }
+    }
+
+    /**
+     * Runs the task in {@link WorkStealingDequeTest#THREADS} threads at the same time, and waits until all of them
+     * are finished. The task receives a thread index. If any task fails or the waiting thread is interrupted, all
+     * other tasks are interrupted, so a test never leaves busy threads behind.
+     */
+    @SneakyThrows
+    private void runInParallel(IntConsumer task) {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            CompletionService<Void> completion = new ExecutorCompletionService<>(executor);
+            CountDownLatch start = new CountDownLatch(1);
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                completion.submit(() -> {
+                    start.await();
+                    task.accept(thread);
+                    return null;
+                });
+            }
+            start.countDown();
+            for (int t = 0; t < THREADS; t++) {
+                completion.take().get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -3,9 +3,23 @@ package com.bobocode.cs;
 
 import com.bobocode.util.ExerciseNotCompletedException;
 
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Spliterator;
+
 /**
- * {@link LinkedList} is a list implementation that is based on singly linked generic nodes. A node is implemented as
- * inner static class {@link Node<T>}.
+ * {@link LinkedList} is a list implementation that is based on doubly linked generic nodes. A node is implemented as
+ * inner static class {@link Node<T>}. Each node stores references to both next and previous nodes, so the list can be
+ * traversed in both directions.
+ * <p>
+ * Operations that access an element by index look for the node starting from the closest position: the head,
+ * the tail, or the node that was accessed last time. The last accessed node and its index are stored in the list as
+ * a cursor. So accessing elements by index one by one (e.g. in a {@code for} loop with {@code get(i)}) is performed
+ * in constant time O(1) per step, and accessing a random element requires at most n/2 steps. Any structural change of
+ * the list should keep the cursor valid or reset it.
+ * <p>
+ * PLEASE NOTE: the cursor node must be stored in a field called {@code cursor}, so the tests do not confuse it with
+ * the tail node.
  *
  * @param <T> generic type parameter
  * @author Taras Boychuk
@@ -35,8 +49,9 @@ public class LinkedList<T> implements List<T> {
     }
 
     /**
-     * Adds a new element to the specific position in the list. In case provided index in out of the list bounds it
-     * throws {@link IndexOutOfBoundsException}
+     * Adds a new element to the specific position in the list. The node that is currently stored at this position is
+     * found starting from the closest position (see {@link LinkedList}). In case provided index in out of the list
+     * bounds it throws {@link IndexOutOfBoundsException}
      *
      * @param index   an index of new element
      * @param element element to add
@@ -47,7 +62,33 @@ public class LinkedList<T> implements List<T> {
     }
 
     /**
-     * Changes the value of an list element at specific position. In case provided index in out of the list bounds it
+     * Adds all elements of the collection to the end of the list. A chain of new nodes is built first, and then it is
+     * linked to the list tail at once.
+     *
+     * @param elements elements to add
+     */
+    @Override
+    public void addAll(Collection<? extends T> elements) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Inserts all elements of the collection starting from the specific position. A chain of new nodes is built
+     * first, and then it is spliced into the list in one pass, so the list is traversed only once to find the
+     * insertion point, no matter how many elements are inserted. In case provided index is out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index    an index of the first inserted element
+     * @param elements elements to add
+     */
+    @Override
+    public void addAll(int index, Collection<? extends T> elements) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Changes the value of an list element at specific position. The node is found starting from the closest position
+     * (see {@link LinkedList}). In case provided index in out of the list bounds it
      * throws {@link IndexOutOfBoundsException}
      *
      * @param index   an position of element to change
@@ -59,8 +100,9 @@ public class LinkedList<T> implements List<T> {
     }
 
     /**
-     * Retrieves an elements by its position index. In case provided index in out of the list bounds it
-     * throws {@link IndexOutOfBoundsException}
+     * Retrieves an elements by its position index. The node is found starting from the closest position
+     * (see {@link LinkedList}), so retrieving the next or previous element after the last call is performed in
+     * constant time O(1). In case provided index in out of the list bounds it throws {@link IndexOutOfBoundsException}
      *
      * @param index element index
      * @return an element value
@@ -93,8 +135,9 @@ public class LinkedList<T> implements List<T> {
     }
 
     /**
-     * Removes an elements by its position index. In case provided index in out of the list bounds it
-     * throws {@link IndexOutOfBoundsException}
+     * Removes an elements by its position index. The node is found starting from the closest position
+     * (see {@link LinkedList}), and then its previous and next nodes are linked with each other. In case provided
+     * index in out of the list bounds it throws {@link IndexOutOfBoundsException}
      *
      * @param index element index
      * @return deleted element
@@ -104,6 +147,35 @@ public class LinkedList<T> implements List<T> {
         throw new ExerciseNotCompletedException(); // todo: implement this method
     }
 
+    /**
+     * Removes all elements whose index is between fromIndex (inclusive) and toIndex (exclusive). The list is
+     * traversed only once to find the first and the last removed node, and then the whole range is unlinked at once.
+     * In case provided range is out of the list bounds, or fromIndex is greater than toIndex it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param fromIndex an index of the first removed element
+     * @param toIndex   an index after the last removed element
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns a view of the list part between fromIndex (inclusive) and toIndex (exclusive). The view does not copy
+     * elements. It works with the same nodes, so changes made through the view are reflected in this list.
+     * In case provided range is out of the list bounds, or fromIndex is greater than toIndex it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param fromIndex an index of the first view element
+     * @param toIndex   an index after the last view element
+     * @return a list view
+     */
+    @Override
+    public List<T> subList(int fromIndex, int toIndex) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
 
     /**
      * Checks if a specific exists in he list
@@ -142,4 +214,29 @@ public class LinkedList<T> implements List<T> {
     public void clear() {
         throw new ExerciseNotCompletedException(); // todo: implement this method
     }
+
+    /**
+     * Returns a fail-fast iterator over list elements. The list tracks structural modifications (the ones that change
+     * its size) using a modification counter. If the list is structurally modified after the iterator was created,
+     * the iterator throws {@link java.util.ConcurrentModificationException} instead of returning wrong elements.
+     *
+     * @return a new iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns a fail-fast {@link Spliterator} over list elements. It reports {@link Spliterator#ORDERED} and
+     * {@link Spliterator#SIZED} characteristics. Since nodes cannot be accessed by index, it splits the list by
+     * copying the next batch of elements into an array, and the batch size grows with each split, so
+     * {@link List#parallelStream()} can still use all cores.
+     *
+     * @return a new spliterator
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
 }
@@ -0,0 +1,241 @@
+package com.bobocode.cs;
+
+import com.bobocode.util.ExerciseNotCompletedException;
+
+import java.util.Collection;
+import java.util.Iterator;
+
+/**
+ * {@link UnrolledLinkedList} is a list implementation that is based on linked nodes, where each node stores a small
+ * array of elements instead of a single element. A node is implemented as inner static class {@link Node<T>}, that
+ * holds an array of elements, a number of elements stored in this array, and a reference to the next node.
+ * <p>
+ * Storing several elements in one node reduces memory overhead, because a node header and a reference to the next
+ * node are shared by the whole array. It also makes traversal much more cache-friendly, because elements of one node
+ * are stored in a contiguous array. Looking for an element by index skips whole nodes, so it is performed in O(n/c),
+ * where c is a node capacity.
+ * <p>
+ * In order to keep nodes dense, the list is rebalanced on each change:
+ * <ul>
+ *     <li>when an element is added to a full node, the node is split into two nodes, and each of them stores
+ *     a half of elements</li>
+ *     <li>when an element is removed, and the node becomes less than half full, it takes elements from the next node,
+ *     or it is merged with the next node if both of them fit in one node</li>
+ * </ul>
+ * So each node, except the last one, stores at least c/2 elements.
+ *
+ * @param <T> generic type parameter
+ * @see LinkedList
+ */
+public class UnrolledLinkedList<T> implements List<T> {
+
+    /**
+     * This constructor creates an instance of {@link UnrolledLinkedList} with a specific node capacity.
+     *
+     * @param nodeCapacity - the maximum number of elements that can be stored in one node
+     * @throws IllegalArgumentException – if the specified node capacity is less than 2
+     */
+    public UnrolledLinkedList(int nodeCapacity) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * This constructor creates an instance of {@link UnrolledLinkedList} with a default node capacity.
+     * A default node capacity is 16;
+     */
+    public UnrolledLinkedList() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * This method creates a list of provided elements
+     *
+     * @param elements elements to add
+     * @param <T>      generic type
+     * @return a new list of elements the were passed as method parameters
+     */
+    public static <T> UnrolledLinkedList<T> of(T... elements) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Adds an element to the end of the list. If the last node is full, a new node is created.
+     *
+     * @param element element to add
+     */
+    @Override
+    public void add(T element) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Adds a new element to the specific position in the list. If the node that stores this position is full, it is
+     * split into two nodes first. In case provided index is out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   an index of new element
+     * @param element element to add
+     */
+    @Override
+    public void add(int index, T element) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Adds all elements of the collection to the end of the list.
+     *
+     * @param elements elements to add
+     */
+    @Override
+    public void addAll(Collection<? extends T> elements) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Inserts all elements of the collection starting from the specific position. In case provided index is out of
+     * the list bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param index    an index of the first inserted element
+     * @param elements elements to add
+     */
+    @Override
+    public void addAll(int index, Collection<? extends T> elements) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Changes the value of a list element at specific position. In case provided index is out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   an position of element to change
+     * @param element a new element value
+     */
+    @Override
+    public void set(int index, T element) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Retrieves an elements by its position index. Nodes that do not store this position are skipped as a whole.
+     * In case provided index is out of the list bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     * @return an element value
+     */
+    @Override
+    public T get(int index) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns the first element of the list. Operation is performed in constant time O(1)
+     *
+     * @return the first element of the list
+     * @throws java.util.NoSuchElementException if list is empty
+     */
+    @Override
+    public T getFirst() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns the last element of the list. Operation is performed in constant time O(1)
+     *
+     * @return the last element of the list
+     * @throws java.util.NoSuchElementException if list is empty
+     */
+    @Override
+    public T getLast() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Removes an elements by its position index. If the node becomes less than half full, it takes elements from
+     * the next node, or it is merged with the next node. In case provided index is out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     * @return deleted element
+     */
+    @Override
+    public T remove(int index) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Removes all elements whose index is between fromIndex (inclusive) and toIndex (exclusive). Nodes that are
+     * completely covered by the range are unlinked as a whole. In case provided range is out of the list bounds,
+     * or fromIndex is greater than toIndex it throws {@link IndexOutOfBoundsException}
+     *
+     * @param fromIndex an index of the first removed element
+     * @param toIndex   an index after the last removed element
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns a view of the list part between fromIndex (inclusive) and toIndex (exclusive). The view does not copy
+     * elements, so changes made through the view are reflected in this list. In case provided range is out of the
+     * list bounds, or fromIndex is greater than toIndex it throws {@link IndexOutOfBoundsException}
+     *
+     * @param fromIndex an index of the first view element
+     * @param toIndex   an index after the last view element
+     * @return a list view
+     */
+    @Override
+    public List<T> subList(int fromIndex, int toIndex) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Checks if a specific exists in he list
+     *
+     * @return {@code true} if element exist, {@code false} otherwise
+     */
+    @Override
+    public boolean contains(T element) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Checks if a list is empty
+     *
+     * @return {@code true} if list is empty, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns the number of elements in the list
+     *
+     * @return number of elements
+     */
+    @Override
+    public int size() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Removes all list elements
+     */
+    @Override
+    public void clear() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns a fail-fast iterator over list elements. It goes through the array of each node, and then moves to
+     * the next node. If the list was structurally modified after the iterator was created, it
+     * throws {@link java.util.ConcurrentModificationException}
+     *
+     * @return a new iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+}
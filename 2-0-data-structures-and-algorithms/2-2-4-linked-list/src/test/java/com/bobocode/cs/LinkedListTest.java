@@ -10,12 +10,20 @@ import org.junit.jupiter.api.TestMethodOrder;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
 import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 
 /**
  * A reflection-based test class for {@link LinkedList}.
@@ -30,12 +38,21 @@ public class LinkedListTest {
     private static final Predicate<Field> NODE_FIELD = field ->
             field.getType().getSimpleName().equals("Node");
 
+    private static final Predicate<Field> NEXT_NODE_FIELD = field ->
+            field.getType().getSimpleName().equals("Node")
+            && field.getName().toLowerCase().contains("next");
+
+    private static final Predicate<Field> PREVIOUS_NODE_FIELD = field ->
+            field.getType().getSimpleName().equals("Node")
+            && field.getName().toLowerCase().contains("prev");
+
     private static final Predicate<Field> HEAD_NODE_FIELD = field ->
             field.getType().getSimpleName().equals("Node")
             && (field.getName().contains("head") || field.getName().contains("first"));
 
     private static final Predicate<Field> TAIL_NODE_FIELD = field ->
             field.getType().getSimpleName().equals("Node")
+            && !field.getName().equals("cursor")
             && (field.getName().equals("tail") || field.getName().contains("last"));
 
     private static final Predicate<Field> SIZE_FIELD = field ->
@@ -65,11 +82,15 @@ public class LinkedListTest {
         boolean hasElementField = Arrays.stream(innerClass.getDeclaredFields())
                 .anyMatch(ELEMENT_FIELD);
 
-        boolean hasNodeField = Arrays.stream(innerClass.getDeclaredFields())
-                .anyMatch(NODE_FIELD);
+        boolean hasNextField = Arrays.stream(innerClass.getDeclaredFields())
+                .anyMatch(NEXT_NODE_FIELD);
+
+        boolean hasPreviousField = Arrays.stream(innerClass.getDeclaredFields())
+                .anyMatch(PREVIOUS_NODE_FIELD);
 
         assertThat(hasElementField).isTrue();
-        assertThat(hasNodeField).isTrue();
+        assertThat(hasNextField).isTrue();
+        assertThat(hasPreviousField).isTrue();
     }
 
     private Class<?> getInnerClass() {
@@ -510,17 +531,404 @@ public class LinkedListTest {
                 .isThrownBy(() -> getInternalElement(0));
     }
 
+    @Test
+    @Order(42)
+    void addAllAppendsElements() {
+        addInternalElements(1, 2);
+
+        intList.addAll(Arrays.asList(3, 4, 5));
+
+        assertThat(getInternalSize()).isEqualTo(5);
+        for (int i = 0; i < 5; i++) {
+            assertThat(getInternalElement(i)).isEqualTo(i + 1);
+        }
+    }
+
+    @Test
+    @Order(43)
+    void addAllIntoEmptyList() {
+        intList.addAll(Arrays.asList(1, 2, 3));
+
+        assertThat(getInternalElement(0)).isEqualTo(1);
+        assertThat(getInternalElement(2)).isEqualTo(3);
+        assertThat(intList.getLast()).isEqualTo(3);
+    }
+
+    @Test
+    @Order(44)
+    void addAllUpdatesTail() {
+        addInternalElements(1, 2);
+
+        intList.addAll(Arrays.asList(3, 4));
+        intList.add(5);
+
+        assertThat(intList.getLast()).isEqualTo(5);
+        assertThat(getInternalElement(4)).isEqualTo(5);
+    }
+
+    @Test
+    @Order(45)
+    void addAllByIndexSplicesElements() {
+        addInternalElements(1, 2, 6, 7);
+
+        intList.addAll(2, Arrays.asList(3, 4, 5));
+
+        assertThat(getInternalSize()).isEqualTo(7);
+        for (int i = 0; i < 7; i++) {
+            assertThat(getInternalElement(i)).isEqualTo(i + 1);
+        }
+    }
+
+    @Test
+    @Order(46)
+    void addAllByIndexToTheHead() {
+        addInternalElements(3, 4);
+
+        intList.addAll(0, Arrays.asList(1, 2));
+
+        assertThat(intList.getFirst()).isEqualTo(1);
+        assertThat(getInternalElement(2)).isEqualTo(3);
+        assertThat(intList.getLast()).isEqualTo(4);
+    }
+
+    @Test
+    @Order(47)
+    void addAllByIndexToTheEndUpdatesTail() {
+        addInternalElements(1, 2);
+
+        intList.addAll(2, Arrays.asList(3, 4));
+
+        assertThat(intList.getLast()).isEqualTo(4);
+        assertThat(getInternalSize()).isEqualTo(4);
+    }
+
+    @Test
+    @Order(48)
+    void addAllByIndexThrowsExceptionWhenIndexIsOutOfBounds() {
+        addInternalElements(1, 2);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> intList.addAll(3, Arrays.asList(3, 4)));
+    }
+
+    @Test
+    @Order(49)
+    void removeRange() {
+        addInternalElements(1, 2, 3, 4, 5, 6);
+
+        intList.removeRange(1, 4);
+
+        assertThat(getInternalSize()).isEqualTo(3);
+        assertThat(getInternalElement(0)).isEqualTo(1);
+        assertThat(getInternalElement(1)).isEqualTo(5);
+        assertThat(getInternalElement(2)).isEqualTo(6);
+    }
+
+    @Test
+    @Order(50)
+    void removeRangeFromTheHead() {
+        addInternalElements(1, 2, 3, 4);
+
+        intList.removeRange(0, 2);
+
+        assertThat(intList.getFirst()).isEqualTo(3);
+        assertThat(getInternalSize()).isEqualTo(2);
+    }
+
+    @Test
+    @Order(51)
+    void removeRangeFromTheTailUpdatesTail() {
+        addInternalElements(1, 2, 3, 4);
+
+        intList.removeRange(2, 4);
+
+        assertThat(intList.getLast()).isEqualTo(2);
+        assertThat(getInternalSize()).isEqualTo(2);
+    }
+
+    @Test
+    @Order(52)
+    void removeRangeOfAllElements() {
+        addInternalElements(1, 2, 3);
+
+        intList.removeRange(0, 3);
+
+        assertThat(intList.isEmpty()).isTrue();
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(() -> intList.getLast());
+    }
+
+    @Test
+    @Order(53)
+    void removeRangeThrowsExceptionWhenRangeIsOutOfBounds() {
+        addInternalElements(1, 2, 3);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> intList.removeRange(1, 4));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> intList.removeRange(2, 1));
+    }
+
+    @Test
+    @Order(54)
+    void subListReturnsElementsOfTheRange() {
+        addInternalElements(1, 2, 3, 4, 5);
+
+        List<Integer> subList = intList.subList(1, 4);
+
+        assertThat(subList.size()).isEqualTo(3);
+        assertThat(subList.getFirst()).isEqualTo(2);
+        assertThat(subList.getLast()).isEqualTo(4);
+        assertThat(subList.contains(5)).isFalse();
+    }
+
+    @Test
+    @Order(55)
+    void subListIsBackedByTheList() {
+        addInternalElements(1, 2, 3, 4, 5);
+        List<Integer> subList = intList.subList(1, 4);
+
+        subList.set(0, 20);
+        subList.add(1, 25);
+
+        assertThat(subList.size()).isEqualTo(4);
+        assertThat(getInternalSize()).isEqualTo(6);
+        assertThat(getInternalElement(1)).isEqualTo(20);
+        assertThat(getInternalElement(2)).isEqualTo(25);
+        assertThat(getInternalElement(5)).isEqualTo(5);
+    }
+
+    @Test
+    @Order(56)
+    void subListThrowsExceptionWhenRangeIsOutOfBounds() {
+        addInternalElements(1, 2, 3);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> intList.subList(0, 4));
+    }
+
+    @Test
+    @Order(57)
+    void iteratorReturnsElementsInOrder() {
+        addInternalElements(1, 2, 3);
+
+        Iterator<Integer> iterator = intList.iterator();
+
+        assertThat(iterator.hasNext()).isTrue();
+        assertThat(iterator.next()).isEqualTo(1);
+        assertThat(iterator.next()).isEqualTo(2);
+        assertThat(iterator.next()).isEqualTo(3);
+        assertThat(iterator.hasNext()).isFalse();
+    }
+
+    @Test
+    @Order(58)
+    void iteratorThrowsExceptionWhenThereAreNoMoreElements() {
+        Iterator<Integer> iterator = intList.iterator();
+
+        assertThat(iterator.hasNext()).isFalse();
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(iterator::next);
+    }
+
+    @Test
+    @Order(59)
+    void forEachLoop() {
+        addInternalElements(4, 5, 6);
+        int sum = 0;
+
+        for (int element : intList) {
+            sum += element;
+        }
+
+        assertThat(sum).isEqualTo(15);
+    }
+
+    @Test
+    @Order(60)
+    void iteratorIsFailFastWhenElementIsAdded() {
+        addInternalElements(1, 2, 3);
+        Iterator<Integer> iterator = intList.iterator();
+        iterator.next();
+
+        intList.add(4);
+
+        assertThatExceptionOfType(ConcurrentModificationException.class)
+                .isThrownBy(iterator::next);
+    }
+
+    @Test
+    @Order(61)
+    void iteratorIsFailFastWhenElementIsRemoved() {
+        addInternalElements(1, 2, 3);
+        Iterator<Integer> iterator = intList.iterator();
+        iterator.next();
+
+        intList.remove(0);
+
+        assertThatExceptionOfType(ConcurrentModificationException.class)
+                .isThrownBy(iterator::next);
+    }
+
+    @Test
+    @Order(62)
+    void iteratorIsNotAffectedBySet() {
+        addInternalElements(1, 2, 3);
+        Iterator<Integer> iterator = intList.iterator();
+        iterator.next();
+
+        intList.set(1, 20);
+
+        assertThat(iterator.next()).isEqualTo(20);
+    }
+
+    @Test
+    @Order(63)
+    void spliteratorCharacteristics() {
+        addInternalElements(1, 2, 3);
+
+        Spliterator<Integer> spliterator = intList.spliterator();
+
+        assertThat(spliterator.hasCharacteristics(Spliterator.ORDERED | Spliterator.SIZED)).isTrue();
+        assertThat(spliterator.getExactSizeIfKnown()).isEqualTo(3);
+    }
+
+    @Test
+    @Order(64)
+    void spliteratorSplitsTheList() {
+        intList = LinkedList.of(IntStream.range(0, 10_000).boxed().toArray(Integer[]::new));
+
+        Spliterator<Integer> suffix = intList.spliterator();
+        Spliterator<Integer> prefix = suffix.trySplit();
+
+        assertThat(prefix).isNotNull();
+        assertThat(prefix.estimateSize() + suffix.estimateSize()).isEqualTo(10_000);
+        Object[] elements = Stream.concat(StreamSupport.stream(prefix, false), StreamSupport.stream(suffix, false))
+                .toArray();
+        assertThat(elements).isEqualTo(IntStream.range(0, 10_000).boxed().toArray());
+    }
+
+    @Test
+    @Order(65)
+    void stream() {
+        addInternalElements(1, 2, 3, 4);
+
+        assertThat(intList.stream().mapToInt(Integer::intValue).sum()).isEqualTo(10);
+    }
+
+    @Test
+    @Order(66)
+    void parallelStream() {
+        intList = LinkedList.of(IntStream.range(0, 10_000).boxed().toArray(Integer[]::new));
+
+        long sum = intList.parallelStream().mapToLong(Integer::longValue).sum();
+
+        assertThat(sum).isEqualTo(10_000L * 9_999 / 2);
+    }
+
+    @Test
+    @Order(67)
+    void addLinksPreviousNodes() {
+        intList.add(1);
+        intList.add(2);
+        intList.add(0, 0);
+        intList.add(2, 15);
+
+        assertThat(getInternalElementsBackwards()).containsExactly(2, 15, 1, 0);
+    }
+
+    @Test
+    @Order(68)
+    void removeRelinksPreviousNodes() {
+        addInternalElements(1, 2, 3, 4, 5);
+
+        intList.remove(4);
+        intList.remove(2);
+        intList.remove(0);
+
+        assertThat(getInternalElementsBackwards()).containsExactly(4, 2);
+    }
+
+    @Test
+    @Order(69)
+    void bulkOperationsRelinkPreviousNodes() {
+        addInternalElements(1, 6);
+
+        intList.addAll(1, Arrays.asList(2, 3, 4, 5));
+        intList.addAll(Arrays.asList(7, 8));
+        intList.removeRange(0, 2);
+
+        assertThat(getInternalElementsBackwards()).containsExactly(8, 7, 6, 5, 4, 3);
+    }
+
+    @Test
+    @Order(70)
+    void getByIndexCloseToTail() {
+        addInternalElements(1, 2, 3, 4, 5, 6, 7, 8);
+
+        assertThat(intList.get(7)).isEqualTo(8);
+        assertThat(intList.get(6)).isEqualTo(7);
+        assertThat(intList.get(1)).isEqualTo(2);
+        assertThat(intList.get(5)).isEqualTo(6);
+    }
+
+    @Test
+    @Order(71)
+    void indexOperationsAfterStructuralChanges() {
+        intList = LinkedList.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+
+        assertThat(intList.get(5)).isEqualTo(5);
+        intList.remove(5);
+        assertThat(intList.get(5)).isEqualTo(6);
+        intList.add(3, 30);
+        assertThat(intList.get(4)).isEqualTo(3);
+        assertThat(intList.get(5)).isEqualTo(4);
+        intList.removeRange(0, 4);
+        assertThat(intList.get(0)).isEqualTo(3);
+        intList.clear();
+        intList.add(100);
+        assertThat(intList.get(0)).isEqualTo(100);
+    }
+
+    @Test
+    @Order(72)
+    void sequentialAccessByIndexIsPerformedInConstantTime() {
+        int size = 200_000;
+        intList = LinkedList.of(IntStream.range(0, size).boxed().toArray(Integer[]::new));
+
+        assertTimeoutPreemptively(Duration.ofSeconds(2), () -> {
+            for (int i = 0; i < size; i++) {
+                assertThat(intList.get(i)).isEqualTo(i);
+            }
+            for (int i = size - 1; i >= 0; i--) {
+                intList.set(i, -i);
+            }
+        });
+        assertThat(intList.get(size / 2)).isEqualTo(-size / 2);
+    }
+
     @SneakyThrows
     private int getInternalElement(int index) {
 
         Object head = getAccessibleFieldByPredicate(intList, HEAD_NODE_FIELD).get(intList);
 
         for (int j = 0; j < index; j++) {
-            head = getAccessibleFieldByPredicate(head, NODE_FIELD).get(head);
+            head = getAccessibleFieldByPredicate(head, NEXT_NODE_FIELD).get(head);
         }
         return (int) getAccessibleFieldByPredicate(head, ELEMENT_FIELD).get(head);
     }
 
+    @SneakyThrows
+    private Object[] getInternalElementsBackwards() {
+        Stream.Builder<Object> elements = Stream.builder();
+        Object node = getInternalTailField().get(intList);
+        while (node != null) {
+            elements.add(getAccessibleFieldByPredicate(node, ELEMENT_FIELD).get(node));
+            node = getAccessibleFieldByPredicate(node, PREVIOUS_NODE_FIELD).get(node);
+        }
+        return elements.build().toArray();
+    }
+
     @SneakyThrows
     private int getInternalSize() {
         return (int) getAccessibleFieldByPredicate(intList, SIZE_FIELD).get(intList);
@@ -538,7 +946,10 @@ public class LinkedListTest {
         for (int element : elements) {
             nodeObject = createNodeObjectWithInternalElement(nodeType, element);
             nodeField.set(previousObject, nodeObject);
-            nodeField = getAccessibleFieldByPredicate(nodeObject, NODE_FIELD);
+            if (previousObject != intList) {
+                getAccessibleFieldByPredicate(nodeObject, PREVIOUS_NODE_FIELD).set(nodeObject, previousObject);
+            }
+            nodeField = getAccessibleFieldByPredicate(nodeObject, NEXT_NODE_FIELD);
             previousObject = nodeObject;
         }
 
@@ -0,0 +1,441 @@
+package com.bobocode.cs;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * A test class for {@link UnrolledLinkedList}.
+ * <p>
+ * PLEASE NOTE: we use Reflection API only for learning purposes. It should NOT be used for production tests.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class UnrolledLinkedListTest {
+
+    private static final Predicate<Field> HEAD_NODE_FIELD = field ->
+            field.getName().toLowerCase().contains("head") || field.getName().toLowerCase().contains("first");
+
+    private List<Integer> unrolledList = new UnrolledLinkedList<>(4);
+
+    @Test
+    @Order(1)
+    @DisplayName("Node stores an array of elements, a number of elements and a reference to the next node")
+    void properNodeFields() {
+        Class<?> nodeClass = getNodeClass();
+
+        boolean hasArrayField = Arrays.stream(nodeClass.getDeclaredFields())
+                .anyMatch(field -> field.getType().equals(Object[].class));
+        boolean hasCountField = Arrays.stream(nodeClass.getDeclaredFields())
+                .anyMatch(field -> field.getType().equals(int.class));
+        boolean hasNextField = Arrays.stream(nodeClass.getDeclaredFields())
+                .anyMatch(field -> field.getType().equals(nodeClass));
+
+        assertThat(hasArrayField).isTrue();
+        assertThat(hasCountField).isTrue();
+        assertThat(hasNextField).isTrue();
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Constructor creates nodes with a specific capacity")
+    void createListWithSpecificNodeCapacity() {
+        unrolledList = new UnrolledLinkedList<>(8);
+        unrolledList.add(1);
+
+        assertThat(getNodeElements(getNodes()[0]).length).isEqualTo(8);
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Constructor throws exception when node capacity is less than 2")
+    void createListWithWrongNodeCapacity() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new UnrolledLinkedList<>(1));
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Method of() creates a list of given elements")
+    void of() {
+        unrolledList = UnrolledLinkedList.of(15, 69, 58, 78);
+
+        assertListElements(15, 69, 58, 78);
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Method add() fills a node before creating a new one")
+    void addFillsNodeBeforeCreatingNewOne() {
+        unrolledList.add(1);
+        unrolledList.add(2);
+        unrolledList.add(3);
+        unrolledList.add(4);
+
+        assertThat(getNodes().length).isEqualTo(1);
+
+        unrolledList.add(5);
+
+        assertThat(getNodes().length).isEqualTo(2);
+        assertListElements(1, 2, 3, 4, 5);
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("Method add() by index splits a full node into two halves")
+    void addByIndexSplitsFullNode() {
+        addElements(1, 2, 4, 5);
+
+        unrolledList.add(2, 3);
+
+        assertThat(getNodes().length).isEqualTo(2);
+        assertNodesAreHalfFull();
+        assertListElements(1, 2, 3, 4, 5);
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("Method add() by index inserts elements to the head")
+    void addByIndexToTheHead() {
+        for (int i = 0; i < 10; i++) {
+            unrolledList.add(0, i);
+        }
+
+        assertListElements(9, 8, 7, 6, 5, 4, 3, 2, 1, 0);
+        assertNodesAreHalfFull();
+    }
+
+    @Test
+    @Order(8)
+    @DisplayName("Method add() by index throws exception when index is out of bounds")
+    void addByIndexThrowsExceptionWhenIndexIsOutOfBounds() {
+        unrolledList = UnrolledLinkedList.of(1, 2);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> unrolledList.add(3, 10));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> unrolledList.add(-1, 10));
+    }
+
+    @Test
+    @Order(9)
+    @DisplayName("Method get() finds elements in different nodes")
+    void get() {
+        fillList(20);
+
+        for (int i = 0; i < 20; i++) {
+            assertThat(unrolledList.get(i)).isEqualTo(i);
+        }
+    }
+
+    @Test
+    @Order(10)
+    @DisplayName("Method get() throws exception when index is out of bounds")
+    void getThrowsExceptionWhenIndexIsOutOfBounds() {
+        fillList(5);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> unrolledList.get(5));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> unrolledList.get(-1));
+    }
+
+    @Test
+    @Order(11)
+    @DisplayName("Methods getFirst() and getLast() return the edge elements")
+    void getFirstAndGetLast() {
+        fillList(10);
+
+        assertThat(unrolledList.getFirst()).isEqualTo(0);
+        assertThat(unrolledList.getLast()).isEqualTo(9);
+    }
+
+    @Test
+    @Order(12)
+    @DisplayName("Methods getFirst() and getLast() throw exception when list is empty")
+    void getFirstAndGetLastOfEmptyList() {
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(() -> unrolledList.getFirst());
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(() -> unrolledList.getLast());
+    }
+
+    @Test
+    @Order(13)
+    @DisplayName("Method set() changes elements in different nodes")
+    void set() {
+        fillList(10);
+
+        unrolledList.set(0, 100);
+        unrolledList.set(5, 500);
+        unrolledList.set(9, 900);
+
+        assertListElements(100, 1, 2, 3, 4, 500, 6, 7, 8, 900);
+    }
+
+    @Test
+    @Order(14)
+    @DisplayName("Method remove() takes elements from the next node when a node is less than half full")
+    void removeTakesElementsFromNextNode() {
+        addElements(1, 2, 3, 4, 5, 6, 7, 8);
+
+        assertThat(unrolledList.remove(0)).isEqualTo(1);
+        assertThat(unrolledList.remove(0)).isEqualTo(2);
+        assertThat(unrolledList.remove(0)).isEqualTo(3);
+
+        assertThat(getNodes().length).isEqualTo(2);
+        assertNodesAreHalfFull();
+        assertListElements(4, 5, 6, 7, 8);
+    }
+
+    @Test
+    @Order(15)
+    @DisplayName("Method remove() merges nodes when they fit in one node")
+    void removeMergesNodes() {
+        addElements(1, 2, 3, 4, 5, 6);
+
+        unrolledList.remove(0);
+        unrolledList.remove(0);
+        unrolledList.remove(0);
+
+        assertThat(getNodes().length).isEqualTo(1);
+        assertListElements(4, 5, 6);
+    }
+
+    @Test
+    @Order(16)
+    @DisplayName("Method remove() releases references to removed elements")
+    void removeReleasesReferences() {
+        addElements(1, 2, 3);
+
+        unrolledList.remove(2);
+        unrolledList.remove(0);
+
+        Object[] elements = getNodeElements(getNodes()[0]);
+        assertThat(elements[0]).isEqualTo(2);
+        assertThat(Arrays.stream(elements, 1, elements.length).allMatch(e -> e == null)).isTrue();
+    }
+
+    @Test
+    @Order(17)
+    @DisplayName("Method remove() throws exception when index is out of bounds")
+    void removeThrowsExceptionWhenIndexIsOutOfBounds() {
+        fillList(5);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> unrolledList.remove(5));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> unrolledList.remove(-1));
+    }
+
+    @Test
+    @Order(18)
+    @DisplayName("Method addAll() inserts all elements at the given position")
+    void addAll() {
+        addElements(1, 2, 9, 10);
+
+        unrolledList.addAll(2, Arrays.asList(3, 4, 5, 6, 7, 8));
+        unrolledList.addAll(Arrays.asList(11, 12));
+
+        assertListElements(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12);
+        assertNodesAreHalfFull();
+    }
+
+    @Test
+    @Order(19)
+    @DisplayName("Method removeRange() removes elements of several nodes")
+    void removeRange() {
+        fillList(20);
+
+        unrolledList.removeRange(3, 17);
+
+        assertListElements(0, 1, 2, 17, 18, 19);
+        assertNodesAreHalfFull();
+    }
+
+    @Test
+    @Order(20)
+    @DisplayName("Method removeRange() throws exception when range is out of bounds")
+    void removeRangeThrowsExceptionWhenRangeIsOutOfBounds() {
+        fillList(5);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> unrolledList.removeRange(2, 6));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> unrolledList.removeRange(3, 2));
+    }
+
+    @Test
+    @Order(21)
+    @DisplayName("Method subList() returns a view that is backed by the list")
+    void subList() {
+        fillList(10);
+
+        List<Integer> subList = unrolledList.subList(3, 7);
+        subList.set(0, 30);
+        subList.remove(3);
+
+        assertThat(subList.size()).isEqualTo(3);
+        assertListElements(0, 1, 2, 30, 4, 5, 7, 8, 9);
+    }
+
+    @Test
+    @Order(22)
+    @DisplayName("Method contains() finds elements in any node")
+    void contains() {
+        fillList(10);
+
+        assertThat(unrolledList.contains(0)).isTrue();
+        assertThat(unrolledList.contains(9)).isTrue();
+        assertThat(unrolledList.contains(10)).isFalse();
+    }
+
+    @Test
+    @Order(23)
+    @DisplayName("Method clear() removes all elements")
+    void clear() {
+        fillList(10);
+
+        unrolledList.clear();
+
+        assertThat(unrolledList.isEmpty()).isTrue();
+        assertThat(unrolledList.size()).isEqualTo(0);
+        assertThat(getNodes()).isEmpty();
+    }
+
+    @Test
+    @Order(24)
+    @DisplayName("Iterator goes through all nodes")
+    void iterator() {
+        fillList(10);
+
+        Object[] elements = unrolledList.stream().toArray();
+
+        assertThat(elements).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+    }
+
+    @Test
+    @Order(25)
+    @DisplayName("Iterator is fail-fast")
+    void iteratorIsFailFast() {
+        fillList(10);
+
+        Iterator<Integer> iterator = unrolledList.iterator();
+        iterator.next();
+        unrolledList.add(1, 10);
+
+        assertThatExceptionOfType(ConcurrentModificationException.class)
+                .isThrownBy(iterator::next);
+    }
+
+    @Test
+    @Order(26)
+    @DisplayName("UnrolledLinkedList works like java.util.ArrayList under random changes")
+    void randomChanges() {
+        java.util.List<Integer> expected = new java.util.ArrayList<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 10_000; i++) {
+            int operation = random.nextInt(4);
+            if (operation < 2 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                unrolledList.add(index, i);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                assertThat(unrolledList.remove(index)).isEqualTo(expected.remove(index));
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.set(index, -i);
+                unrolledList.set(index, -i);
+            }
+        }
+
+        assertThat(unrolledList.size()).isEqualTo(expected.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(unrolledList.get(i)).isEqualTo(expected.get(i));
+        }
+        assertNodesAreHalfFull();
+    }
+
+    private void fillList(int size) {
+        IntStream.range(0, size).forEach(unrolledList::add);
+    }
+
+    private void addElements(Integer... elements) {
+        Arrays.stream(elements).forEach(unrolledList::add);
+    }
+
+    private void assertListElements(Integer... elements) {
+        assertThat(unrolledList.size()).isEqualTo(elements.length);
+        for (int i = 0; i < elements.length; i++) {
+            assertThat(unrolledList.get(i)).isEqualTo(elements[i]);
+        }
+    }
+
+    private void assertNodesAreHalfFull() {
+        Object[] nodes = getNodes();
+        for (int i = 0; i < nodes.length - 1; i++) {
+            assertThat(getNodeSize(nodes[i])).isGreaterThanOrEqualTo(getNodeElements(nodes[i]).length / 2);
+        }
+    }
+
+    private Class<?> getNodeClass() {
+        return Arrays.stream(UnrolledLinkedList.class.getDeclaredClasses())
+                .filter(nestedClass -> Arrays.stream(nestedClass.getDeclaredFields())
+                        .anyMatch(field -> field.getType().equals(Object[].class)))
+                .findAny()
+                .orElseThrow();
+    }
+
+    @SneakyThrows
+    private Object[] getNodes() {
+        Class<?> nodeClass = getNodeClass();
+        Field headField = Arrays.stream(UnrolledLinkedList.class.getDeclaredFields())
+                .filter(field -> field.getType().equals(nodeClass))
+                .filter(HEAD_NODE_FIELD)
+                .findAny()
+                .orElseThrow();
+        Field nextField = getNodeField(field -> field.getType().equals(nodeClass));
+        headField.setAccessible(true);
+
+        java.util.List<Object> nodes = new java.util.ArrayList<>();
+        for (Object node = headField.get(unrolledList); node != null; node = nextField.get(node)) {
+            nodes.add(node);
+        }
+        return nodes.toArray();
+    }
+
+    @SneakyThrows
+    private Object[] getNodeElements(Object node) {
+        return (Object[]) getNodeField(field -> field.getType().equals(Object[].class)).get(node);
+    }
+
+    @SneakyThrows
+    private int getNodeSize(Object node) {
+        return getNodeField(field -> field.getType().equals(int.class)).getInt(node);
+    }
+
+    private Field getNodeField(Predicate<Field> predicate) {
+        Field nodeField = Arrays.stream(getNodeClass().getDeclaredFields())
+                .filter(predicate)
+                .findAny()
+                .orElseThrow();
+        nodeField.setAccessible(true);
+        return nodeField;
+    }
+}
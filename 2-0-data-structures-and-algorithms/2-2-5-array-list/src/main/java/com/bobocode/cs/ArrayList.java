@@ -2,6 +2,10 @@ package com.bobocode.cs;
 
 import com.bobocode.util.ExerciseNotCompletedException;
 
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Spliterator;
+
 /**
  * {@link ArrayList} is an implementation of {@link List} interface. This resizable data structure
  * based on an array and is simplified version of {@link java.util.ArrayList}.
@@ -10,8 +14,23 @@ import com.bobocode.util.ExerciseNotCompletedException;
  */
 public class ArrayList<T> implements List<T> {
 
+    /**
+     * This constructor creates an instance of {@link ArrayList} with a specific capacity of an array inside, and
+     * a specific {@link GrowthPolicy} that is used each time the array is full.
+     *
+     * @param initCapacity - the initial capacity of the list
+     * @param growthPolicy - the policy that calculates a new capacity of the array
+     * @throws IllegalArgumentException – if the specified initial capacity is negative or 0.
+     * @throws NullPointerException     – if the specified growth policy is null
+     */
+    public ArrayList(int initCapacity, GrowthPolicy growthPolicy) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
     /**
      * This constructor creates an instance of {@link ArrayList} with a specific capacity of an array inside.
+     * The array grows one and a half times, like it is done in {@link java.util.ArrayList}
+     * (see {@link GrowthPolicy#multiplicative(double)}).
      *
      * @param initCapacity - the initial capacity of the list
      * @throws IllegalArgumentException – if the specified initial capacity is negative or 0.
@@ -21,8 +40,21 @@ public class ArrayList<T> implements List<T> {
     }
 
     /**
-     * This constructor creates an instance of {@link ArrayList} with a default capacity of an array inside.
+     * This constructor creates an instance of {@link ArrayList} with a default capacity of an array inside, and
+     * a specific {@link GrowthPolicy} that is used each time the array is full.
      * A default size of inner array is 5;
+     *
+     * @param growthPolicy - the policy that calculates a new capacity of the array
+     * @throws NullPointerException – if the specified growth policy is null
+     */
+    public ArrayList(GrowthPolicy growthPolicy) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * This constructor creates an instance of {@link ArrayList} with a default capacity of an array inside.
+     * A default size of inner array is 5; The array grows one and a half times, like it is done in
+     * {@link java.util.ArrayList} (see {@link GrowthPolicy#multiplicative(double)}).
      */
     public ArrayList() {
         throw new ExerciseNotCompletedException(); // todo: implement this method
@@ -38,6 +70,47 @@ public class ArrayList<T> implements List<T> {
         throw new ExerciseNotCompletedException(); // todo: implement this method
     }
 
+    /**
+     * Resizes the inner array, so it can store at least minCapacity elements without further resizing. A new capacity
+     * is calculated by the {@link GrowthPolicy} of this list. It does nothing if the array is already big enough.
+     *
+     * @param minCapacity the desired minimum capacity
+     */
+    @Override
+    public void ensureCapacity(int minCapacity) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Shrinks the inner array, so its length is equal to the list size. It allows to release memory that was reserved
+     * for elements that are never going to be added. It does nothing if the array has no free cells.
+     */
+    public void trimToSize() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns how many times the inner array was reallocated. Each time the list grows (or is trimmed), a new array
+     * is created and all elements are copied to it. This counter allows to tune the initial capacity
+     * and {@link GrowthPolicy} for a specific workload.
+     *
+     * @return number of array reallocations
+     */
+    public long getReallocationCount() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns how many elements were copied because of array reallocations. Shifting elements inside the same array
+     * (e.g. in {@link ArrayList#add(int, Object)}) is not counted. Since the array stores references, the number of
+     * copied bytes is this value multiplied by the reference size (4 bytes with compressed oops, 8 bytes otherwise).
+     *
+     * @return number of elements copied to new arrays
+     */
+    public long getCopiedElementCount() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
     /**
      * Adds an element to the array.
      *
@@ -59,6 +132,31 @@ public class ArrayList<T> implements List<T> {
         throw new ExerciseNotCompletedException(); // todo: implement this method
     }
 
+    /**
+     * Adds all elements of the collection to the end of the list. The inner array is resized at most once, so adding
+     * a big collection does not cause a cascade of resizes.
+     *
+     * @param elements elements to add
+     */
+    @Override
+    public void addAll(Collection<? extends T> elements) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Inserts all elements of the collection starting from the specific position. The inner array is resized at most
+     * once, and the array tail is shifted to the right using a single
+     * {@link System#arraycopy(Object, int, Object, int, int)} call, no matter how many elements are inserted.
+     * In case provided index is out of the list bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param index    an index of the first inserted element
+     * @param elements elements to add
+     */
+    @Override
+    public void addAll(int index, Collection<? extends T> elements) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
     /**
      * Retrieves an element by its position index. In case provided index in out of the list bounds it
      * throws {@link IndexOutOfBoundsException}
@@ -117,6 +215,35 @@ public class ArrayList<T> implements List<T> {
         throw new ExerciseNotCompletedException(); // todo: implement this method
     }
 
+    /**
+     * Removes all elements whose index is between fromIndex (inclusive) and toIndex (exclusive). The array tail is
+     * shifted to the left using a single {@link System#arraycopy(Object, int, Object, int, int)} call, and the freed
+     * cells are cleared. In case provided range is out of the list bounds, or fromIndex is greater than toIndex it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param fromIndex an index of the first removed element
+     * @param toIndex   an index after the last removed element
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns a view of the list part between fromIndex (inclusive) and toIndex (exclusive). The view does not copy
+     * elements. It works with the same inner array using an offset, so changes made through the view are reflected
+     * in this list. In case provided range is out of the list bounds, or fromIndex is greater than toIndex it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param fromIndex an index of the first view element
+     * @param toIndex   an index after the last view element
+     * @return a list view
+     */
+    @Override
+    public List<T> subList(int fromIndex, int toIndex) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
     /**
      * Checks for existing of a specific element in the list.
      *
@@ -153,4 +280,28 @@ public class ArrayList<T> implements List<T> {
     public void clear() {
         throw new ExerciseNotCompletedException(); // todo: implement this method
     }
+
+    /**
+     * Returns a fail-fast iterator over list elements. The list tracks structural modifications (the ones that change
+     * its size) using a modification counter. If the list is structurally modified after the iterator was created,
+     * the iterator throws {@link java.util.ConcurrentModificationException} instead of returning wrong elements.
+     *
+     * @return a new iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns a fail-fast {@link Spliterator} over list elements. It reports {@link Spliterator#ORDERED},
+     * {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED} characteristics, because its range of indexes
+     * can always be split into two exact halves. It allows {@link List#parallelStream()} to scale across cores.
+     *
+     * @return a new spliterator
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
 }
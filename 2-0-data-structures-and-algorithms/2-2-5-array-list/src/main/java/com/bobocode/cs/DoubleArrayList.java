@@ -0,0 +1,182 @@
+package com.bobocode.cs;
+
+import com.bobocode.util.ExerciseNotCompletedException;
+
+import java.util.stream.DoubleStream;
+
+/**
+ * {@link DoubleArrayList} is a primitive-specialized sibling of {@link ArrayList}. It follows the same {@link List}
+ * contract, but stores elements in a {@code double[]} instead of {@code Object[]}, so adding an element never creates
+ * a boxed {@link Double}. It is a simplified version of the primitive lists that you can find in libraries
+ * like Eclipse Collections or fastutil.
+ *
+ * @see ArrayList
+ */
+public class DoubleArrayList {
+
+    /**
+     * This constructor creates an instance of {@link DoubleArrayList} with a specific capacity of an array inside.
+     *
+     * @param initCapacity - the initial capacity of the list
+     * @throws IllegalArgumentException – if the specified initial capacity is negative or 0.
+     */
+    public DoubleArrayList(int initCapacity) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * This constructor creates an instance of {@link DoubleArrayList} with a default capacity of an array inside.
+     * A default size of inner array is 5;
+     */
+    public DoubleArrayList() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Creates and returns an instance of {@link DoubleArrayList} with provided elements
+     *
+     * @param elements to add
+     * @return new instance
+     */
+    public static DoubleArrayList of(double... elements) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Adds an element to the array.
+     *
+     * @param element element to add
+     */
+    public void add(double element) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Adds an element to the specific position in the array. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   index of position
+     * @param element element to add
+     */
+    public void add(int index, double element) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Adds all provided elements to the end of the list. The inner array is resized at most once: if the elements do
+     * not fit, it is replaced with a new array whose length is the greater of the new size and twice the current
+     * length. The elements are copied using a single {@link System#arraycopy(Object, int, Object, int, int)} call.
+     *
+     * @param elements elements to add
+     */
+    public void addAll(double[] elements) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Retrieves an element by its position index. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index index of element
+     * @return en element
+     */
+    public double get(int index) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns the first element of the list. Operation is performed in constant time O(1)
+     *
+     * @return the first element of the list
+     * @throws java.util.NoSuchElementException if list is empty
+     */
+    public double getFirst() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns the last element of the list. Operation is performed in constant time O(1)
+     *
+     * @return the last element of the list
+     * @throws java.util.NoSuchElementException if list is empty
+     */
+    public double getLast() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Changes the value of array at specific position. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   position of value
+     * @param element a new value
+     */
+    public void set(int index, double element) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Removes an elements by its position index. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     * @return deleted element
+     */
+    public double remove(int index) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Checks for existing of a specific element in the list. Elements are compared the same way as
+     * {@link Double#equals(Object)} does it, so {@code NaN} can be found, and {@code 0.0} is not equal to {@code -0.0}.
+     *
+     * @param element is element
+     * @return If element exists method returns true, otherwise it returns false
+     */
+    public boolean contains(double element) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Checks if a list is empty
+     *
+     * @return {@code true} if list is empty, {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * @return amount of saved elements
+     */
+    public int size() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Removes all list elements
+     */
+    public void clear() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns a new array that contains all list elements in the same order. The length of the array is equal
+     * to the list size, and changing the array does not affect the list.
+     *
+     * @return a copy of list elements
+     */
+    public double[] toArray() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Creates a {@link DoubleStream} of list elements. The stream reads the inner array directly, so no elements
+     * are boxed or copied.
+     *
+     * @return a stream of list elements
+     */
+    public DoubleStream stream() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+}
@@ -0,0 +1,245 @@
+package com.bobocode.cs;
+
+import com.bobocode.util.ExerciseNotCompletedException;
+
+import java.util.Collection;
+import java.util.Iterator;
+
+/**
+ * {@link GapBufferList} is an implementation of {@link List} interface that is optimized for inserts and removes
+ * near a moving cursor, e.g. in a text editor. Like {@link ArrayList}, it stores elements in an array, but it keeps
+ * free cells (a gap) in the middle of the array instead of the end of it. The gap is always placed at the position of
+ * the last change.
+ * <p>
+ * When an element is added or removed at the gap position, no elements are shifted, so the operation is performed in
+ * constant time. When the position is different, the gap is moved there first, which requires to shift only
+ * the elements between the old and new positions using {@link System#arraycopy(Object, int, Object, int, int)}.
+ * So operations are performed in O(d), where d is a distance from the previous change, instead of O(n). When the gap
+ * is full, the array is resized and a new gap is created.
+ * <p>
+ * The elements are stored in array cells [0, gapStart) and [gapEnd, array.length), so a list index should be
+ * converted to an array index before accessing the array.
+ *
+ * @param <T> generic type parameter
+ * @see ArrayList
+ */
+public class GapBufferList<T> implements List<T> {
+
+    /**
+     * This constructor creates an instance of {@link GapBufferList} with a specific capacity of an array inside.
+     *
+     * @param initCapacity - the initial capacity of the list
+     * @throws IllegalArgumentException – if the specified initial capacity is negative or 0.
+     */
+    public GapBufferList(int initCapacity) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * This constructor creates an instance of {@link GapBufferList} with a default capacity of an array inside.
+     * A default size of inner array is 16;
+     */
+    public GapBufferList() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Creates and returns an instance of {@link GapBufferList} with provided elements
+     *
+     * @param elements to add
+     * @return new instance
+     */
+    public static <T> GapBufferList<T> of(T... elements) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Adds an element to the end of the list. The gap is moved to the end of the list first.
+     *
+     * @param element element to add
+     */
+    @Override
+    public void add(T element) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Adds an element to the specific position. The gap is moved to this position, and the element is stored in the
+     * first gap cell. In case provided index is out of the list bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   index of position
+     * @param element element to add
+     */
+    @Override
+    public void add(int index, T element) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Adds all elements of the collection to the end of the list. The array is resized at most once.
+     *
+     * @param elements elements to add
+     */
+    @Override
+    public void addAll(Collection<? extends T> elements) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Inserts all elements of the collection starting from the specific position. The gap is moved to this position
+     * once, and the array is resized at most once. In case provided index is out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index    an index of the first inserted element
+     * @param elements elements to add
+     */
+    @Override
+    public void addAll(int index, Collection<? extends T> elements) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Changes the value of an element at specific position. The gap is not moved. In case provided index is out of
+     * the list bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   position of value
+     * @param element a new value
+     */
+    @Override
+    public void set(int index, T element) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Retrieves an element by its position index. The gap is not moved, so this operation is performed in constant
+     * time O(1). In case provided index is out of the list bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param index index of element
+     * @return en element
+     */
+    @Override
+    public T get(int index) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns the first element of the list. Operation is performed in constant time O(1)
+     *
+     * @return the first element of the list
+     * @throws java.util.NoSuchElementException if list is empty
+     */
+    @Override
+    public T getFirst() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns the last element of the list. Operation is performed in constant time O(1)
+     *
+     * @return the last element of the list
+     * @throws java.util.NoSuchElementException if list is empty
+     */
+    @Override
+    public T getLast() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Removes an element by its position index. The gap is moved to this position, and then it is extended to cover
+     * the removed element. In case provided index is out of the list bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     * @return deleted element
+     */
+    @Override
+    public T remove(int index) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Removes all elements whose index is between fromIndex (inclusive) and toIndex (exclusive). The gap is moved to
+     * fromIndex, and then it is extended to cover the whole range. In case provided range is out of the list bounds,
+     * or fromIndex is greater than toIndex it throws {@link IndexOutOfBoundsException}
+     *
+     * @param fromIndex an index of the first removed element
+     * @param toIndex   an index after the last removed element
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns a view of the list part between fromIndex (inclusive) and toIndex (exclusive). The view does not copy
+     * elements, so changes made through the view are reflected in this list. In case provided range is out of the
+     * list bounds, or fromIndex is greater than toIndex it throws {@link IndexOutOfBoundsException}
+     *
+     * @param fromIndex an index of the first view element
+     * @param toIndex   an index after the last view element
+     * @return a list view
+     */
+    @Override
+    public List<T> subList(int fromIndex, int toIndex) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Checks for existing of a specific element in the list.
+     *
+     * @param element is element
+     * @return If element exists method returns true, otherwise it returns false
+     */
+    @Override
+    public boolean contains(T element) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Checks if a list is empty
+     *
+     * @return {@code true} if list is empty, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * @return amount of saved elements
+     */
+    @Override
+    public int size() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Removes all list elements
+     */
+    @Override
+    public void clear() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Resizes the inner array, so it can store at least minCapacity elements without further resizing. It does
+     * nothing if the array is already big enough.
+     *
+     * @param minCapacity the desired minimum capacity
+     */
+    @Override
+    public void ensureCapacity(int minCapacity) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns a fail-fast iterator over list elements. It skips the gap, and throws
+     * {@link java.util.ConcurrentModificationException} if the list was structurally modified after the iterator
+     * was created.
+     *
+     * @return a new iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+}
@@ -0,0 +1,78 @@
+package com.bobocode.cs;
+
+/**
+ * {@link GrowthPolicy} decides how much an array-based list grows when its inner array is full. A policy that grows
+ * too slowly causes a long cascade of reallocations for big lists, while a policy that grows too fast wastes memory
+ * for many small lists. So the best policy depends on the workload, and {@link ArrayList} allows to choose it.
+ * <p>
+ * This interface provides three common policies: {@link GrowthPolicy#multiplicative(double)},
+ * {@link GrowthPolicy#additive(int)} and {@link GrowthPolicy#powerOfTwo()}.
+ */
+@FunctionalInterface
+public interface GrowthPolicy {
+    /**
+     * The maximum size of array to allocate. Some VMs reserve some header words in an array, so it is a bit less than
+     * {@link Integer#MAX_VALUE}.
+     */
+    int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    /**
+     * Calculates a new capacity of the inner array. The new capacity is always greater or equal to minCapacity.
+     *
+     * @param currentCapacity the current length of the inner array
+     * @param minCapacity     the minimum number of elements that the new array must be able to store
+     * @return the new array length
+     * @throws OutOfMemoryError if minCapacity is greater than {@link GrowthPolicy#MAX_CAPACITY}
+     */
+    int newCapacity(int currentCapacity, int minCapacity);
+
+    /**
+     * Creates a policy that multiplies the current capacity by the given factor. E.g. {@link java.util.ArrayList}
+     * uses factor 1.5. It provides amortized O(1) {@code add()}, but wastes up to (factor - 1) of the array.
+     *
+     * @param factor a growth factor
+     * @return a new policy
+     * @throws IllegalArgumentException if factor is not greater than 1
+     */
+    static GrowthPolicy multiplicative(double factor) {
+        if (!(factor > 1)) {
+            throw new IllegalArgumentException("Growth factor should be greater than 1, but was " + factor);
+        }
+        return (currentCapacity, minCapacity) -> fit((long) (currentCapacity * factor), minCapacity);
+    }
+
+    /**
+     * Creates a policy that adds a fixed number of cells to the current capacity. It wastes at most chunk cells,
+     * but makes {@code add()} O(n / chunk) on average, so it fits only lists with a predictable size.
+     *
+     * @param chunk number of cells to add
+     * @return a new policy
+     * @throws IllegalArgumentException if chunk is not positive
+     */
+    static GrowthPolicy additive(int chunk) {
+        if (chunk <= 0) {
+            throw new IllegalArgumentException("Growth chunk should be positive, but was " + chunk);
+        }
+        return (currentCapacity, minCapacity) -> fit((long) currentCapacity + chunk, minCapacity);
+    }
+
+    /**
+     * Creates a policy that rounds the capacity up to the next power of two. It doubles the capacity, and keeps
+     * array lengths aligned, which is friendly to memory allocators.
+     *
+     * @return a new policy
+     */
+    static GrowthPolicy powerOfTwo() {
+        return (currentCapacity, minCapacity) -> {
+            long capacity = Long.highestOneBit(Math.max(minCapacity, 1));
+            return fit(capacity < minCapacity ? capacity << 1 : capacity, minCapacity);
+        };
+    }
+
+    private static int fit(long proposedCapacity, int minCapacity) {
+        if (minCapacity < 0 || minCapacity > MAX_CAPACITY) {
+            throw new OutOfMemoryError("Required array length " + minCapacity + " is too large");
+        }
+        return (int) Math.min(Math.max(proposedCapacity, minCapacity), MAX_CAPACITY);
+    }
+}
@@ -0,0 +1,177 @@
+package com.bobocode.cs;
+
+import com.bobocode.util.ExerciseNotCompletedException;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * {@link OffHeapArrayList} is a list of fixed-size records that are stored outside the Java heap. Unlike
+ * {@link ArrayList}, it does not keep a reference to an object per element. Each record is converted to bytes by
+ * a {@link RecordCodec} and written to a direct {@link java.nio.ByteBuffer}, and {@link OffHeapArrayList#get(int)}
+ * decodes a new object from these bytes. So a list of millions of small records takes just
+ * {@code size * recordSize} bytes, without object headers and references, and the garbage collector does not need to
+ * scan it at all.
+ * <p>
+ * A single {@link java.nio.ByteBuffer} can not be bigger than 2GB, so records are stored in chunks. Each chunk is
+ * a direct buffer of the same number of records, which is a power of two, so a chunk and an offset of a record are
+ * calculated with a shift and a bit mask. When all chunks are full, a new chunk is allocated, and the existing
+ * records are never copied. Buffers use the native byte order.
+ * <p>
+ * The memory of a direct buffer is released only when the buffer is collected by the garbage collector, which may
+ * happen much later. So the list must be closed explicitly when it is not needed anymore.
+ * {@link OffHeapArrayList#close()} releases all chunks immediately using {@code sun.misc.Unsafe#invokeCleaner}.
+ * After that, any method that reads or changes records throws {@link IllegalStateException}, and so do
+ * {@link Iterator#hasNext()} and {@link Iterator#next()} of iterators that were created before. Methods that do not
+ * touch the memory still work: {@link OffHeapArrayList#size()} returns 0, {@link OffHeapArrayList#isEmpty()} returns
+ * {@code true}, {@link OffHeapArrayList#allocatedBytes()} returns 0, and {@link OffHeapArrayList#close()} does
+ * nothing.
+ * <p>
+ * PLEASE NOTE: {@link OffHeapArrayList} is not thread-safe. The closed check protects only the calls that happen
+ * after {@link OffHeapArrayList#close()} has returned in the same thread, or in a thread that is synchronized with it.
+ * If another thread reads or changes records at the same time as the list is closed, it may access released native
+ * memory, which can crash the JVM instead of throwing {@link IllegalStateException}. So
+ * {@link OffHeapArrayList#close()} must happen-after every other access to the list and its iterators.
+ * <p>
+ * PLEASE NOTE: {@link OffHeapArrayList} does not implement {@link List}, because records are copied on each
+ * {@link OffHeapArrayList#get(int)}, so a list view or an element lookup would not work the same way.
+ *
+ * @param <T> a type of records
+ * @see RecordCodec
+ * @see ArrayList
+ */
+public class OffHeapArrayList<T> implements Iterable<T>, AutoCloseable {
+    /**
+     * A default number of records in a chunk
+     */
+    public static final int DEFAULT_CHUNK_RECORDS = 1 << 16;
+
+    /**
+     * This constructor creates an empty list with a default number of records in a chunk. No memory is allocated
+     * until the first record is added.
+     *
+     * @param codec a codec of the records
+     * @throws NullPointerException     if the codec is null
+     * @throws IllegalArgumentException if the codec record size is not positive
+     */
+    public OffHeapArrayList(RecordCodec<T> codec) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * This constructor creates an empty list with a specific number of records in a chunk. It is rounded up to
+     * the next power of two.
+     *
+     * @param codec        a codec of the records
+     * @param chunkRecords a number of records in a chunk
+     * @throws NullPointerException     if the codec is null
+     * @throws IllegalArgumentException if the codec record size or the number of records is not positive, or a chunk
+     *                                  does not fit into a single {@link java.nio.ByteBuffer}
+     */
+    public OffHeapArrayList(RecordCodec<T> codec, int chunkRecords) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Adds a record to the end of the list. A new chunk is allocated if all chunks are full.
+     *
+     * @param record a record to add
+     * @throws NullPointerException  if the record is null
+     * @throws IllegalStateException if the list is closed
+     */
+    public void add(T record) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Decodes a record by index. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index record index
+     * @return a new record object
+     * @throws IllegalStateException if the list is closed
+     */
+    public T get(int index) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Replaces a record by index. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index  record index
+     * @param record a new record
+     * @throws NullPointerException  if the record is null
+     * @throws IllegalStateException if the list is closed
+     */
+    public void set(int index, T record) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Removes the last record and returns it. The memory is not released.
+     *
+     * @return the removed record
+     * @throws NoSuchElementException if the list is empty
+     * @throws IllegalStateException  if the list is closed
+     */
+    public T removeLast() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * @return amount of saved records, or 0 if the list is closed
+     */
+    public int size() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Checks if a list is empty
+     *
+     * @return {@code true} if list is empty or closed, {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Removes all records. Allocated chunks are kept, so they are reused by the next records.
+     *
+     * @throws IllegalStateException if the list is closed
+     */
+    public void clear() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns a number of bytes allocated outside the heap for all chunks.
+     *
+     * @return allocated memory in bytes, or 0 if the list is closed
+     */
+    public long allocatedBytes() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns an iterator that decodes records one by one. If the list is closed later, {@link Iterator#hasNext()}
+     * and {@link Iterator#next()} of the iterator throw {@link IllegalStateException}, so it never reads the released
+     * memory.
+     *
+     * @return a new iterator
+     * @throws IllegalStateException if the list is closed
+     */
+    @Override
+    public Iterator<T> iterator() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Releases the memory of all chunks. After that, the list can not be used anymore. Closing a closed list does
+     * nothing.
+     */
+    @Override
+    public void close() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+}
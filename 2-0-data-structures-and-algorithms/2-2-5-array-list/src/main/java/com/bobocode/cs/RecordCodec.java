@@ -0,0 +1,42 @@
+package com.bobocode.cs;
+
+import java.nio.ByteBuffer;
+
+/**
+ * {@link RecordCodec} converts records of type T to a fixed number of bytes and back. It is used by
+ * {@link OffHeapArrayList} to store records in a {@link ByteBuffer} instead of keeping them as objects.
+ * <p>
+ * Both methods use absolute {@link ByteBuffer} methods (e.g. {@link ByteBuffer#putInt(int, int)}), so they do not
+ * change the buffer position, and the same buffer can be shared by all records.
+ *
+ * @param <T> a type of records
+ * @see OffHeapArrayList
+ */
+public interface RecordCodec<T> {
+
+    /**
+     * Returns a number of bytes that each record takes. It must be the same for all records.
+     *
+     * @return a positive record size in bytes
+     */
+    int recordSize();
+
+    /**
+     * Writes the record to the buffer, starting from the offset. It must write no more than
+     * {@link RecordCodec#recordSize()} bytes.
+     *
+     * @param record a record to write
+     * @param buffer a buffer to write to
+     * @param offset an index of the first byte of the record in the buffer
+     */
+    void encode(T record, ByteBuffer buffer, int offset);
+
+    /**
+     * Reads a record from the buffer, starting from the offset.
+     *
+     * @param buffer a buffer to read from
+     * @param offset an index of the first byte of the record in the buffer
+     * @return a new record
+     */
+    T decode(ByteBuffer buffer, int offset);
+}
@@ -7,7 +7,15 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 
 import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatExceptionOfType;
@@ -361,6 +369,445 @@ class ArrayListTest {
                 .isThrownBy(() -> arrayList.get(0));
     }
 
+    @Test
+    @Order(37)
+    void addAllAppendsElements() {
+        arrayList = ArrayList.of(1, 2);
+
+        arrayList.addAll(Arrays.asList(3, 4, 5, 6, 7, 8));
+
+        assertThat(arrayList.size()).isEqualTo(8);
+        for (int i = 0; i < 8; i++) {
+            assertThat(arrayList.get(i)).isEqualTo(i + 1);
+        }
+    }
+
+    @Test
+    @Order(38)
+    void addAllResizesArrayToFitAllElements() {
+        arrayList = new ArrayList<>(2);
+
+        arrayList.addAll(Collections.nCopies(1000, 7));
+
+        assertThat(getTestArray().length).isGreaterThanOrEqualTo(1000);
+        assertThat(getTestSize()).isEqualTo(1000);
+    }
+
+    @Test
+    @Order(39)
+    void addAllByIndexShiftsTheTail() {
+        arrayList = ArrayList.of(1, 2, 6, 7);
+
+        arrayList.addAll(2, Arrays.asList(3, 4, 5));
+
+        assertThat(arrayList.size()).isEqualTo(7);
+        for (int i = 0; i < 7; i++) {
+            assertThat(arrayList.get(i)).isEqualTo(i + 1);
+        }
+    }
+
+    @Test
+    @Order(40)
+    void addAllByIndexToTheEnd() {
+        arrayList = ArrayList.of(1, 2);
+
+        arrayList.addAll(2, Arrays.asList(3, 4));
+
+        assertThat(arrayList.getLast()).isEqualTo(4);
+        assertThat(arrayList.size()).isEqualTo(4);
+    }
+
+    @Test
+    @Order(41)
+    void addAllByIndexThrowsExceptionWhenIndexIsOutOfBounds() {
+        arrayList = ArrayList.of(1, 2);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> arrayList.addAll(3, Arrays.asList(3, 4)));
+    }
+
+    @Test
+    @Order(42)
+    void removeRangeShiftsTheTail() {
+        arrayList = ArrayList.of(1, 2, 3, 4, 5, 6);
+
+        arrayList.removeRange(1, 4);
+
+        assertThat(arrayList.size()).isEqualTo(3);
+        assertThat(arrayList.get(0)).isEqualTo(1);
+        assertThat(arrayList.get(1)).isEqualTo(5);
+        assertThat(arrayList.get(2)).isEqualTo(6);
+    }
+
+    @Test
+    @Order(43)
+    void removeRangeClearsFreedCells() {
+        arrayList = ArrayList.of(1, 2, 3, 4, 5, 6);
+
+        arrayList.removeRange(2, 6);
+
+        Object[] internalArray = getTestArray();
+        for (int i = 2; i < internalArray.length; i++) {
+            assertThat(internalArray[i]).isNull();
+        }
+    }
+
+    @Test
+    @Order(44)
+    void removeRangeWithEqualIndexesDoesNothing() {
+        arrayList = ArrayList.of(1, 2, 3);
+
+        arrayList.removeRange(1, 1);
+
+        assertThat(arrayList.size()).isEqualTo(3);
+    }
+
+    @Test
+    @Order(45)
+    void removeRangeThrowsExceptionWhenRangeIsOutOfBounds() {
+        arrayList = ArrayList.of(1, 2, 3);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> arrayList.removeRange(1, 4));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> arrayList.removeRange(-1, 2));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> arrayList.removeRange(2, 1));
+    }
+
+    @Test
+    @Order(46)
+    void subListReturnsElementsOfTheRange() {
+        arrayList = ArrayList.of(1, 2, 3, 4, 5);
+
+        List<Integer> subList = arrayList.subList(1, 4);
+
+        assertThat(subList.size()).isEqualTo(3);
+        assertThat(subList.get(0)).isEqualTo(2);
+        assertThat(subList.get(2)).isEqualTo(4);
+        assertThat(subList.contains(5)).isFalse();
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> subList.get(3));
+    }
+
+    @Test
+    @Order(47)
+    void subListIsBackedByTheList() {
+        arrayList = ArrayList.of(1, 2, 3, 4, 5);
+        List<Integer> subList = arrayList.subList(1, 4);
+
+        subList.set(0, 20);
+        arrayList.set(3, 40);
+
+        assertThat(arrayList.get(1)).isEqualTo(20);
+        assertThat(subList.get(2)).isEqualTo(40);
+    }
+
+    @Test
+    @Order(48)
+    void subListStructuralChangesAreReflectedInTheList() {
+        arrayList = ArrayList.of(1, 2, 3, 4, 5);
+        List<Integer> subList = arrayList.subList(1, 4);
+
+        subList.remove(0);
+        subList.add(10);
+
+        assertThat(subList.size()).isEqualTo(3);
+        assertThat(arrayList.size()).isEqualTo(5);
+        assertThat(arrayList.get(1)).isEqualTo(3);
+        assertThat(arrayList.get(3)).isEqualTo(10);
+        assertThat(arrayList.get(4)).isEqualTo(5);
+    }
+
+    @Test
+    @Order(49)
+    void subListClearRemovesTheRangeFromTheList() {
+        arrayList = ArrayList.of(1, 2, 3, 4, 5);
+
+        arrayList.subList(1, 4).clear();
+
+        assertThat(arrayList.size()).isEqualTo(2);
+        assertThat(arrayList.get(1)).isEqualTo(5);
+    }
+
+    @Test
+    @Order(50)
+    void subListThrowsExceptionWhenRangeIsOutOfBounds() {
+        arrayList = ArrayList.of(1, 2, 3);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> arrayList.subList(0, 4));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> arrayList.subList(2, 1));
+    }
+
+    @Test
+    @Order(51)
+    void ensureCapacityResizesArray() {
+        arrayList = new ArrayList<>(2);
+        arrayList.add(1);
+
+        arrayList.ensureCapacity(100);
+
+        assertThat(getTestArray().length).isGreaterThanOrEqualTo(100);
+        assertThat(arrayList.get(0)).isEqualTo(1);
+    }
+
+    @Test
+    @Order(52)
+    void ensureCapacityDoesNotShrinkArray() {
+        arrayList = new ArrayList<>(10);
+
+        arrayList.ensureCapacity(3);
+
+        assertThat(getTestArray().length).isEqualTo(10);
+    }
+
+    @Test
+    @Order(53)
+    void createListWithGrowthPolicy() {
+        arrayList = new ArrayList<>(2, GrowthPolicy.additive(2));
+
+        for (int i = 0; i < 7; i++) {
+            arrayList.add(i);
+        }
+
+        assertThat(getTestArray().length).isEqualTo(8);
+        assertThat(getTestSize()).isEqualTo(7);
+    }
+
+    @Test
+    @Order(54)
+    void createListWithGrowthPolicyAndDefaultCapacity() {
+        arrayList = new ArrayList<>(GrowthPolicy.powerOfTwo());
+        int defaultCapacity = getTestArray().length;
+
+        for (int i = 0; i <= defaultCapacity; i++) {
+            arrayList.add(i);
+        }
+
+        assertThat(getTestArray().length).isEqualTo(8);
+    }
+
+    @Test
+    @Order(55)
+    void createListWithNullGrowthPolicy() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> arrayList = new ArrayList<>(10, null));
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> arrayList = new ArrayList<>(null));
+    }
+
+    @Test
+    @Order(56)
+    void ensureCapacityUsesGrowthPolicy() {
+        arrayList = new ArrayList<>(4, GrowthPolicy.powerOfTwo());
+
+        arrayList.ensureCapacity(9);
+
+        assertThat(getTestArray().length).isEqualTo(16);
+    }
+
+    @Test
+    @Order(57)
+    void trimToSize() {
+        ArrayList<Integer> list = new ArrayList<>(10);
+        arrayList = list;
+        list.add(1);
+        list.add(2);
+
+        list.trimToSize();
+
+        assertThat(getTestArray().length).isEqualTo(2);
+        assertThat(list.get(0)).isEqualTo(1);
+        assertThat(list.get(1)).isEqualTo(2);
+    }
+
+    @Test
+    @Order(58)
+    void addAfterTrimToSizeOfEmptyList() {
+        ArrayList<Integer> list = new ArrayList<>(10);
+        arrayList = list;
+
+        list.trimToSize();
+        list.add(5);
+
+        assertThat(list.get(0)).isEqualTo(5);
+        assertThat(list.size()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(59)
+    void reallocationCounters() {
+        ArrayList<Integer> list = new ArrayList<>(2, GrowthPolicy.additive(2));
+
+        for (int i = 0; i < 7; i++) {
+            list.add(i);
+        }
+
+        assertThat(list.getReallocationCount()).isEqualTo(3);
+        assertThat(list.getCopiedElementCount()).isEqualTo(2 + 4 + 6);
+    }
+
+    @Test
+    @Order(60)
+    void reallocationCountersIgnoreShiftsInsideArray() {
+        ArrayList<Integer> list = new ArrayList<>(10);
+
+        list.add(1);
+        list.add(0, 2);
+        list.add(0, 3);
+        list.remove(0);
+
+        assertThat(list.getReallocationCount()).isEqualTo(0);
+        assertThat(list.getCopiedElementCount()).isEqualTo(0);
+    }
+
+    @Test
+    @Order(61)
+    void reallocationCountersIncludeTrimToSize() {
+        ArrayList<Integer> list = new ArrayList<>(10);
+        list.add(1);
+        list.add(2);
+        list.add(3);
+
+        list.trimToSize();
+        list.trimToSize();
+
+        assertThat(list.getReallocationCount()).isEqualTo(1);
+        assertThat(list.getCopiedElementCount()).isEqualTo(3);
+    }
+
+    @Test
+    @Order(62)
+    void addAllCausesOneReallocation() {
+        ArrayList<Integer> list = new ArrayList<>(2, GrowthPolicy.additive(1));
+
+        list.addAll(Collections.nCopies(1000, 7));
+
+        assertThat(list.getReallocationCount()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(63)
+    void iteratorReturnsElementsInOrder() {
+        fillTestArray(1, 2, 3);
+
+        Iterator<Integer> iterator = arrayList.iterator();
+
+        assertThat(iterator.hasNext()).isTrue();
+        assertThat(iterator.next()).isEqualTo(1);
+        assertThat(iterator.next()).isEqualTo(2);
+        assertThat(iterator.next()).isEqualTo(3);
+        assertThat(iterator.hasNext()).isFalse();
+    }
+
+    @Test
+    @Order(64)
+    void iteratorThrowsExceptionWhenThereAreNoMoreElements() {
+        Iterator<Integer> iterator = arrayList.iterator();
+
+        assertThat(iterator.hasNext()).isFalse();
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(iterator::next);
+    }
+
+    @Test
+    @Order(65)
+    void forEachLoop() {
+        fillTestArray(4, 5, 6);
+        int sum = 0;
+
+        for (int element : arrayList) {
+            sum += element;
+        }
+
+        assertThat(sum).isEqualTo(15);
+    }
+
+    @Test
+    @Order(66)
+    void iteratorIsFailFastWhenElementIsAdded() {
+        fillTestArray(1, 2, 3);
+        Iterator<Integer> iterator = arrayList.iterator();
+        iterator.next();
+
+        arrayList.add(4);
+
+        assertThatExceptionOfType(ConcurrentModificationException.class)
+                .isThrownBy(iterator::next);
+    }
+
+    @Test
+    @Order(67)
+    void iteratorIsFailFastWhenElementIsRemoved() {
+        fillTestArray(1, 2, 3);
+        Iterator<Integer> iterator = arrayList.iterator();
+        iterator.next();
+
+        arrayList.remove(0);
+
+        assertThatExceptionOfType(ConcurrentModificationException.class)
+                .isThrownBy(iterator::next);
+    }
+
+    @Test
+    @Order(68)
+    void iteratorIsNotAffectedBySet() {
+        fillTestArray(1, 2, 3);
+        Iterator<Integer> iterator = arrayList.iterator();
+        iterator.next();
+
+        arrayList.set(1, 20);
+
+        assertThat(iterator.next()).isEqualTo(20);
+    }
+
+    @Test
+    @Order(69)
+    void spliteratorCharacteristics() {
+        fillTestArray(1, 2, 3);
+
+        Spliterator<Integer> spliterator = arrayList.spliterator();
+
+        assertThat(spliterator.hasCharacteristics(Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED)).isTrue();
+        assertThat(spliterator.getExactSizeIfKnown()).isEqualTo(3);
+    }
+
+    @Test
+    @Order(70)
+    void spliteratorSplitsTheList() {
+        arrayList = ArrayList.of(IntStream.range(0, 10_000).boxed().toArray(Integer[]::new));
+
+        Spliterator<Integer> suffix = arrayList.spliterator();
+        Spliterator<Integer> prefix = suffix.trySplit();
+
+        assertThat(prefix).isNotNull();
+        assertThat(prefix.estimateSize()).isEqualTo(5_000);
+        assertThat(suffix.estimateSize()).isEqualTo(5_000);
+        Object[] elements = Stream.concat(StreamSupport.stream(prefix, false), StreamSupport.stream(suffix, false))
+                .toArray();
+        assertThat(elements).isEqualTo(IntStream.range(0, 10_000).boxed().toArray());
+    }
+
+    @Test
+    @Order(71)
+    void stream() {
+        fillTestArray(1, 2, 3, 4);
+
+        assertThat(arrayList.stream().mapToInt(Integer::intValue).sum()).isEqualTo(10);
+    }
+
+    @Test
+    @Order(72)
+    void parallelStream() {
+        arrayList = ArrayList.of(IntStream.range(0, 10_000).boxed().toArray(Integer[]::new));
+
+        long sum = arrayList.parallelStream().mapToLong(Integer::longValue).sum();
+
+        assertThat(sum).isEqualTo(10_000L * 9_999 / 2);
+    }
+
     @SneakyThrows
     private void setTestSize(int size) {
         Field sizeField = arrayList.getClass().getDeclaredField("size");
@@ -0,0 +1,342 @@
+package com.bobocode.cs;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * A test class for {@link DoubleArrayList}.
+ * <p>
+ * PLEASE NOTE: we use Reflection API only for learning purposes. It should NOT be used for production tests.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class DoubleArrayListTest {
+
+    private DoubleArrayList doubleList = new DoubleArrayList();
+
+    @Test
+    @Order(1)
+    @DisplayName("DoubleArrayList stores elements in a primitive array")
+    void elementsAreStoredInPrimitiveArray() {
+        boolean hasPrimitiveArrayField = Arrays.stream(DoubleArrayList.class.getDeclaredFields())
+                .anyMatch(field -> field.getType().equals(double[].class));
+        boolean hasObjectArrayField = Arrays.stream(DoubleArrayList.class.getDeclaredFields())
+                .anyMatch(field -> field.getType().equals(Object[].class));
+
+        assertThat(hasPrimitiveArrayField).isTrue();
+        assertThat(hasObjectArrayField).isFalse();
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Default constructor creates an array with capacity 5")
+    void defaultCapacity() {
+        assertThat(getInternalArray().length).isEqualTo(5);
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Constructor creates an array with a specific capacity")
+    void createListWithSpecificArrayCapacity() {
+        doubleList = new DoubleArrayList(8);
+
+        assertThat(getInternalArray().length).isEqualTo(8);
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Constructor throws exception when capacity is not positive")
+    void createListWithWrongCapacity() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new DoubleArrayList(-2));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new DoubleArrayList(0));
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Method of() creates a list of given elements")
+    void of() {
+        doubleList = DoubleArrayList.of(15, 69, 58, 78);
+
+        assertThat(doubleList.size()).isEqualTo(4);
+        assertThat(doubleList.toArray()).containsExactly(15, 69, 58, 78);
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("Method add() appends elements to the end of the list")
+    void add() {
+        doubleList.add(10);
+        doubleList.add(15);
+        doubleList.add(20);
+
+        assertThat(doubleList.size()).isEqualTo(3);
+        assertThat(doubleList.get(0)).isEqualTo(10);
+        assertThat(doubleList.get(1)).isEqualTo(15);
+        assertThat(doubleList.get(2)).isEqualTo(20);
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("Method add() resizes the array when it is full")
+    void addResizesArrayWhenItIsFull() {
+        doubleList = new DoubleArrayList(2);
+
+        doubleList.add(1);
+        doubleList.add(2);
+        doubleList.add(3);
+
+        assertThat(getInternalArray().length).isGreaterThan(2);
+        assertThat(doubleList.toArray()).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    @Order(8)
+    @DisplayName("Method add() by index shifts the tail to the right")
+    void addByIndex() {
+        doubleList = DoubleArrayList.of(1, 2, 4, 5);
+
+        doubleList.add(2, 3);
+
+        assertThat(doubleList.toArray()).containsExactly(1, 2, 3, 4, 5);
+    }
+
+    @Test
+    @Order(9)
+    @DisplayName("Method add() by index accepts index equal to size")
+    void addByIndexToTheEnd() {
+        doubleList = DoubleArrayList.of(1, 2);
+
+        doubleList.add(2, 3);
+
+        assertThat(doubleList.toArray()).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    @Order(10)
+    @DisplayName("Method add() by index throws exception when index is out of bounds")
+    void addByIndexThrowsExceptionWhenIndexIsOutOfBounds() {
+        doubleList = DoubleArrayList.of(1, 2);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> doubleList.add(3, 10));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> doubleList.add(-1, 10));
+    }
+
+    @Test
+    @Order(11)
+    @DisplayName("Method addAll() appends all elements of the array")
+    void addAll() {
+        doubleList = DoubleArrayList.of(1, 2);
+
+        doubleList.addAll(new double[]{3, 4, 5, 6, 7, 8, 9});
+
+        assertThat(doubleList.size()).isEqualTo(9);
+        assertThat(doubleList.toArray()).containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9);
+    }
+
+    @Test
+    @Order(12)
+    @DisplayName("Method addAll() resizes the array only once")
+    void addAllResizesArrayOnlyOnce() {
+        doubleList = new DoubleArrayList(2);
+        double[] elements = new double[1000];
+        Arrays.setAll(elements, i -> i);
+
+        doubleList.addAll(elements);
+
+        assertThat(getInternalArray().length).isEqualTo(1000);
+        assertThat(doubleList.toArray()).isEqualTo(elements);
+    }
+
+    @Test
+    @Order(13)
+    @DisplayName("Method addAll() doubles the array when the new size is smaller than twice the capacity")
+    void addAllDoublesArray() {
+        doubleList = new DoubleArrayList(10);
+        for (int i = 0; i < 8; i++) {
+            doubleList.add(i);
+        }
+
+        doubleList.addAll(new double[]{8, 9, 10, 11, 12});
+
+        assertThat(getInternalArray().length).isEqualTo(20);
+        assertThat(doubleList.size()).isEqualTo(13);
+    }
+
+    @Test
+    @Order(14)
+    @DisplayName("Method get() throws exception when index is out of bounds")
+    void getThrowsExceptionWhenIndexIsOutOfBounds() {
+        doubleList = DoubleArrayList.of(1, 2);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> doubleList.get(2));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> doubleList.get(-1));
+    }
+
+    @Test
+    @Order(15)
+    @DisplayName("Methods getFirst() and getLast() return the edge elements")
+    void getFirstAndGetLast() {
+        doubleList = DoubleArrayList.of(31, 24, 57);
+
+        assertThat(doubleList.getFirst()).isEqualTo(31);
+        assertThat(doubleList.getLast()).isEqualTo(57);
+    }
+
+    @Test
+    @Order(16)
+    @DisplayName("Methods getFirst() and getLast() throw exception when list is empty")
+    void getFirstAndGetLastOfEmptyList() {
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(() -> doubleList.getFirst());
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(() -> doubleList.getLast());
+    }
+
+    @Test
+    @Order(17)
+    @DisplayName("Method set() changes the element by index")
+    void set() {
+        doubleList = DoubleArrayList.of(1, 2, 3);
+
+        doubleList.set(1, 20);
+
+        assertThat(doubleList.toArray()).containsExactly(1, 20, 3);
+    }
+
+    @Test
+    @Order(18)
+    @DisplayName("Method set() throws exception when index is out of bounds")
+    void setThrowsExceptionWhenIndexIsOutOfBounds() {
+        doubleList = DoubleArrayList.of(1, 2, 3);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> doubleList.set(3, 20));
+    }
+
+    @Test
+    @Order(19)
+    @DisplayName("Method remove() deletes the element by index and shifts the tail to the left")
+    void remove() {
+        doubleList = DoubleArrayList.of(1, 2, 3, 4);
+
+        double removed = doubleList.remove(1);
+
+        assertThat(removed).isEqualTo(2);
+        assertThat(doubleList.size()).isEqualTo(3);
+        assertThat(doubleList.toArray()).containsExactly(1, 3, 4);
+    }
+
+    @Test
+    @Order(20)
+    @DisplayName("Method remove() throws exception when index is out of bounds")
+    void removeThrowsExceptionWhenIndexIsOutOfBounds() {
+        doubleList = DoubleArrayList.of(1, 2, 3);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> doubleList.remove(3));
+    }
+
+    @Test
+    @Order(21)
+    @DisplayName("Method contains() finds existing elements only")
+    void contains() {
+        doubleList = DoubleArrayList.of(4, 5, 6);
+
+        assertThat(doubleList.contains(5)).isTrue();
+        assertThat(doubleList.contains(7)).isFalse();
+    }
+
+    @Test
+    @Order(22)
+    @DisplayName("Method contains() ignores elements that were removed")
+    void containsIgnoresRemovedElements() {
+        doubleList = DoubleArrayList.of(4, 5, 6);
+        doubleList.remove(2);
+
+        assertThat(doubleList.contains(6)).isFalse();
+    }
+
+    @Test
+    @Order(23)
+    @DisplayName("Method contains() compares elements like Double.equals()")
+    void containsComparesElementsLikeDoubleEquals() {
+        doubleList = DoubleArrayList.of(Double.NaN, 0.0);
+
+        assertThat(doubleList.contains(Double.NaN)).isTrue();
+        assertThat(doubleList.contains(-0.0)).isFalse();
+    }
+
+    @Test
+    @Order(24)
+    @DisplayName("Method isEmpty() returns true only when list has no elements")
+    void isEmpty() {
+        assertThat(doubleList.isEmpty()).isTrue();
+
+        doubleList.add(1);
+
+        assertThat(doubleList.isEmpty()).isFalse();
+    }
+
+    @Test
+    @Order(25)
+    @DisplayName("Method clear() removes all elements")
+    void clear() {
+        doubleList = DoubleArrayList.of(4, 5, 6);
+
+        doubleList.clear();
+
+        assertThat(doubleList.size()).isEqualTo(0);
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> doubleList.get(0));
+    }
+
+    @Test
+    @Order(26)
+    @DisplayName("Method toArray() returns a copy that is not backed by the list")
+    void toArrayReturnsCopy() {
+        doubleList = DoubleArrayList.of(1, 2, 3);
+
+        double[] array = doubleList.toArray();
+        array[0] = 100;
+
+        assertThat(array).hasSize(3);
+        assertThat(doubleList.get(0)).isEqualTo(1);
+    }
+
+    @Test
+    @Order(27)
+    @DisplayName("Method stream() streams list elements only")
+    void stream() {
+        doubleList = new DoubleArrayList(10);
+        doubleList.addAll(new double[]{1, 2, 3, 4});
+
+        assertThat(doubleList.stream().toArray()).containsExactly(1, 2, 3, 4);
+        assertThat(doubleList.stream().sum()).isEqualTo(10);
+    }
+
+    @SneakyThrows
+    private double[] getInternalArray() {
+        Field arrayField = Arrays.stream(DoubleArrayList.class.getDeclaredFields())
+                .filter(field -> field.getType().equals(double[].class))
+                .findAny()
+                .orElseThrow();
+        arrayField.setAccessible(true);
+        return (double[]) arrayField.get(doubleList);
+    }
+}
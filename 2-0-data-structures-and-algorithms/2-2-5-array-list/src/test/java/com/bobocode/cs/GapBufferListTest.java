@@ -0,0 +1,382 @@
+package com.bobocode.cs;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * A test class for {@link GapBufferList}.
+ * <p>
+ * PLEASE NOTE: we use Reflection API only for learning purposes. It should NOT be used for production tests.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class GapBufferListTest {
+
+    private List<Integer> gapBufferList = new GapBufferList<>();
+
+    @Test
+    @Order(1)
+    @DisplayName("GapBufferList stores elements in a single array")
+    void elementsAreStoredInSingleArray() {
+        long arrayFieldsCount = Arrays.stream(GapBufferList.class.getDeclaredFields())
+                .filter(field -> field.getType().equals(Object[].class))
+                .count();
+
+        assertThat(arrayFieldsCount).isEqualTo(1);
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Constructor creates an array with a specific capacity")
+    void createListWithSpecificArrayCapacity() {
+        gapBufferList = new GapBufferList<>(8);
+
+        assertThat(getInternalArray().length).isEqualTo(8);
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Constructor throws exception when capacity is not positive")
+    void createListWithWrongCapacity() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new GapBufferList<>(0));
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Method of() creates a list of given elements")
+    void of() {
+        gapBufferList = GapBufferList.of(15, 69, 58, 78);
+
+        assertThat(gapBufferList.size()).isEqualTo(4);
+        assertListElements(15, 69, 58, 78);
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Method add() appends elements to the end of the list")
+    void add() {
+        gapBufferList.add(10);
+        gapBufferList.add(15);
+        gapBufferList.add(20);
+
+        assertListElements(10, 15, 20);
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("Method add() resizes the array when the gap is full")
+    void addResizesArrayWhenGapIsFull() {
+        gapBufferList = new GapBufferList<>(2);
+
+        gapBufferList.add(1);
+        gapBufferList.add(2);
+        gapBufferList.add(3);
+
+        assertThat(getInternalArray().length).isGreaterThan(2);
+        assertListElements(1, 2, 3);
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("Method add() by index inserts elements after a moving cursor")
+    void addByIndexAfterMovingCursor() {
+        gapBufferList = GapBufferList.of(1, 9);
+
+        for (int i = 1; i < 8; i++) {
+            gapBufferList.add(i, i + 1);
+        }
+
+        assertListElements(1, 2, 3, 4, 5, 6, 7, 8, 9);
+    }
+
+    @Test
+    @Order(8)
+    @DisplayName("Method add() by index inserts elements to the head")
+    void addByIndexToTheHead() {
+        for (int i = 0; i < 10; i++) {
+            gapBufferList.add(0, i);
+        }
+
+        assertListElements(9, 8, 7, 6, 5, 4, 3, 2, 1, 0);
+    }
+
+    @Test
+    @Order(9)
+    @DisplayName("Method add() by index moves the gap back and forth")
+    void addByIndexMovesGapBackAndForth() {
+        gapBufferList = GapBufferList.of(1, 3, 5, 7);
+
+        gapBufferList.add(3, 6);
+        gapBufferList.add(1, 2);
+        gapBufferList.add(5, 100);
+        gapBufferList.remove(5);
+        gapBufferList.add(3, 4);
+
+        assertListElements(1, 2, 3, 4, 5, 6, 7);
+    }
+
+    @Test
+    @Order(10)
+    @DisplayName("Method add() by index throws exception when index is out of bounds")
+    void addByIndexThrowsExceptionWhenIndexIsOutOfBounds() {
+        gapBufferList = GapBufferList.of(1, 2);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> gapBufferList.add(3, 10));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> gapBufferList.add(-1, 10));
+    }
+
+    @Test
+    @Order(11)
+    @DisplayName("Method get() does not return elements from the gap")
+    void getThrowsExceptionWhenIndexIsOutOfBounds() {
+        gapBufferList = new GapBufferList<>(10);
+        gapBufferList.add(1);
+        gapBufferList.add(2);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> gapBufferList.get(2));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> gapBufferList.get(-1));
+    }
+
+    @Test
+    @Order(12)
+    @DisplayName("Methods getFirst() and getLast() return the edge elements")
+    void getFirstAndGetLast() {
+        gapBufferList = GapBufferList.of(1, 2, 3, 4);
+        gapBufferList.add(2, 10);
+
+        assertThat(gapBufferList.getFirst()).isEqualTo(1);
+        assertThat(gapBufferList.getLast()).isEqualTo(4);
+    }
+
+    @Test
+    @Order(13)
+    @DisplayName("Methods getFirst() and getLast() throw exception when list is empty")
+    void getFirstAndGetLastOfEmptyList() {
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(() -> gapBufferList.getFirst());
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(() -> gapBufferList.getLast());
+    }
+
+    @Test
+    @Order(14)
+    @DisplayName("Method set() changes elements on both sides of the gap")
+    void set() {
+        gapBufferList = GapBufferList.of(1, 2, 4, 5);
+        gapBufferList.add(2, 3);
+
+        gapBufferList.set(0, 10);
+        gapBufferList.set(4, 50);
+
+        assertListElements(10, 2, 3, 4, 50);
+    }
+
+    @Test
+    @Order(15)
+    @DisplayName("Method remove() deletes elements before a moving cursor")
+    void removeBeforeMovingCursor() {
+        gapBufferList = GapBufferList.of(1, 2, 3, 4, 5, 6);
+
+        assertThat(gapBufferList.remove(4)).isEqualTo(5);
+        assertThat(gapBufferList.remove(3)).isEqualTo(4);
+        assertThat(gapBufferList.remove(2)).isEqualTo(3);
+
+        assertListElements(1, 2, 6);
+    }
+
+    @Test
+    @Order(16)
+    @DisplayName("Method remove() releases references to removed elements")
+    void removeReleasesReferences() {
+        gapBufferList = GapBufferList.of(1, 2, 3, 4, 5, 6);
+
+        gapBufferList.remove(4);
+        gapBufferList.remove(0);
+        gapBufferList.removeRange(1, 3);
+
+        long storedReferences = Arrays.stream(getInternalArray())
+                .filter(Objects::nonNull)
+                .count();
+        assertThat(storedReferences).isEqualTo(2);
+    }
+
+    @Test
+    @Order(17)
+    @DisplayName("Method remove() throws exception when index is out of bounds")
+    void removeThrowsExceptionWhenIndexIsOutOfBounds() {
+        gapBufferList = GapBufferList.of(1, 2, 3);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> gapBufferList.remove(3));
+    }
+
+    @Test
+    @Order(18)
+    @DisplayName("Method addAll() inserts all elements at the given position")
+    void addAll() {
+        gapBufferList = GapBufferList.of(1, 6);
+
+        gapBufferList.addAll(1, Arrays.asList(2, 3, 4, 5));
+        gapBufferList.addAll(Arrays.asList(7, 8));
+
+        assertListElements(1, 2, 3, 4, 5, 6, 7, 8);
+    }
+
+    @Test
+    @Order(19)
+    @DisplayName("Method removeRange() removes all elements of the range")
+    void removeRange() {
+        gapBufferList = GapBufferList.of(1, 2, 3, 4, 5, 6);
+
+        gapBufferList.removeRange(1, 4);
+
+        assertListElements(1, 5, 6);
+    }
+
+    @Test
+    @Order(20)
+    @DisplayName("Method subList() returns a view that is backed by the list")
+    void subList() {
+        gapBufferList = GapBufferList.of(1, 2, 3, 4, 5);
+
+        List<Integer> subList = gapBufferList.subList(1, 4);
+        subList.set(0, 20);
+
+        assertThat(subList.size()).isEqualTo(3);
+        assertThat(subList.getLast()).isEqualTo(4);
+        assertThat(gapBufferList.get(1)).isEqualTo(20);
+    }
+
+    @Test
+    @Order(21)
+    @DisplayName("Method contains() does not find elements that were removed")
+    void contains() {
+        gapBufferList = GapBufferList.of(4, 5, 6);
+        gapBufferList.remove(1);
+
+        assertThat(gapBufferList.contains(4)).isTrue();
+        assertThat(gapBufferList.contains(6)).isTrue();
+        assertThat(gapBufferList.contains(5)).isFalse();
+    }
+
+    @Test
+    @Order(22)
+    @DisplayName("Method clear() removes all elements")
+    void clear() {
+        gapBufferList = GapBufferList.of(4, 5, 6);
+
+        gapBufferList.clear();
+
+        assertThat(gapBufferList.isEmpty()).isTrue();
+        assertThat(gapBufferList.size()).isEqualTo(0);
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> gapBufferList.get(0));
+    }
+
+    @Test
+    @Order(23)
+    @DisplayName("Method ensureCapacity() resizes the array")
+    void ensureCapacity() {
+        gapBufferList = GapBufferList.of(1, 2, 3);
+
+        gapBufferList.ensureCapacity(100);
+
+        assertThat(getInternalArray().length).isGreaterThanOrEqualTo(100);
+        assertListElements(1, 2, 3);
+    }
+
+    @Test
+    @Order(24)
+    @DisplayName("Iterator skips the gap")
+    void iteratorSkipsTheGap() {
+        gapBufferList = GapBufferList.of(1, 2, 4, 5);
+        gapBufferList.add(2, 3);
+
+        Iterator<Integer> iterator = gapBufferList.iterator();
+
+        for (int i = 1; i <= 5; i++) {
+            assertThat(iterator.next()).isEqualTo(i);
+        }
+        assertThat(iterator.hasNext()).isFalse();
+    }
+
+    @Test
+    @Order(25)
+    @DisplayName("Iterator is fail-fast")
+    void iteratorIsFailFast() {
+        gapBufferList = GapBufferList.of(1, 2, 3);
+        Iterator<Integer> iterator = gapBufferList.iterator();
+        iterator.next();
+
+        gapBufferList.add(1, 10);
+
+        assertThatExceptionOfType(ConcurrentModificationException.class)
+                .isThrownBy(iterator::next);
+    }
+
+    @Test
+    @Order(26)
+    @DisplayName("GapBufferList works like java.util.ArrayList under random changes")
+    void randomChanges() {
+        java.util.List<Integer> expected = new java.util.ArrayList<>();
+        Random random = new Random(42);
+        int cursor = 0;
+
+        for (int i = 0; i < 10_000; i++) {
+            cursor = Math.max(0, Math.min(expected.size(), cursor + random.nextInt(7) - 3));
+            int operation = random.nextInt(4);
+            if (operation < 2 || expected.isEmpty()) {
+                expected.add(cursor, i);
+                gapBufferList.add(cursor, i);
+            } else if (operation == 2) {
+                int index = Math.min(cursor, expected.size() - 1);
+                assertThat(gapBufferList.remove(index)).isEqualTo(expected.remove(index));
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.set(index, -i);
+                gapBufferList.set(index, -i);
+            }
+        }
+
+        assertThat(gapBufferList.size()).isEqualTo(expected.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(gapBufferList.get(i)).isEqualTo(expected.get(i));
+        }
+    }
+
+    private void assertListElements(Integer... elements) {
+        assertThat(gapBufferList.size()).isEqualTo(elements.length);
+        for (int i = 0; i < elements.length; i++) {
+            assertThat(gapBufferList.get(i)).isEqualTo(elements[i]);
+        }
+    }
+
+    @SneakyThrows
+    private Object[] getInternalArray() {
+        Field arrayField = Arrays.stream(GapBufferList.class.getDeclaredFields())
+                .filter(field -> field.getType().equals(Object[].class))
+                .findAny()
+                .orElseThrow();
+        arrayField.setAccessible(true);
+        return (Object[]) arrayField.get(gapBufferList);
+    }
+}
@@ -0,0 +1,104 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * A test class for {@link GrowthPolicy}.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class GrowthPolicyTest {
+
+    @Test
+    @Order(1)
+    @DisplayName("Multiplicative policy multiplies current capacity by the factor")
+    void multiplicative() {
+        GrowthPolicy policy = GrowthPolicy.multiplicative(1.5);
+
+        assertThat(policy.newCapacity(10, 11)).isEqualTo(15);
+        assertThat(policy.newCapacity(16, 17)).isEqualTo(24);
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Multiplicative policy never returns less than the min capacity")
+    void multiplicativeReturnsAtLeastMinCapacity() {
+        GrowthPolicy policy = GrowthPolicy.multiplicative(2);
+
+        assertThat(policy.newCapacity(1, 2)).isEqualTo(2);
+        assertThat(policy.newCapacity(10, 100)).isEqualTo(100);
+        assertThat(policy.newCapacity(0, 1)).isEqualTo(1);
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Multiplicative policy requires a factor greater than 1")
+    void multiplicativeRequiresFactorGreaterThanOne() {
+        assertThatIllegalArgumentException().isThrownBy(() -> GrowthPolicy.multiplicative(1));
+        assertThatIllegalArgumentException().isThrownBy(() -> GrowthPolicy.multiplicative(0.5));
+        assertThatIllegalArgumentException().isThrownBy(() -> GrowthPolicy.multiplicative(Double.NaN));
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Additive policy adds a chunk to current capacity")
+    void additive() {
+        GrowthPolicy policy = GrowthPolicy.additive(8);
+
+        assertThat(policy.newCapacity(10, 11)).isEqualTo(18);
+        assertThat(policy.newCapacity(10, 30)).isEqualTo(30);
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Additive policy requires a positive chunk")
+    void additiveRequiresPositiveChunk() {
+        assertThatIllegalArgumentException().isThrownBy(() -> GrowthPolicy.additive(0));
+        assertThatIllegalArgumentException().isThrownBy(() -> GrowthPolicy.additive(-4));
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("Power of two policy rounds capacity up to the next power of two")
+    void powerOfTwo() {
+        GrowthPolicy policy = GrowthPolicy.powerOfTwo();
+
+        assertThat(policy.newCapacity(3, 4)).isEqualTo(4);
+        assertThat(policy.newCapacity(4, 5)).isEqualTo(8);
+        assertThat(policy.newCapacity(5, 6)).isEqualTo(8);
+        assertThat(policy.newCapacity(100, 1000)).isEqualTo(1024);
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("Policies do not exceed the max capacity")
+    void policiesDoNotExceedMaxCapacity() {
+        int almostMax = GrowthPolicy.MAX_CAPACITY - 1;
+
+        assertThat(GrowthPolicy.multiplicative(2).newCapacity(almostMax, almostMax + 1))
+                .isEqualTo(GrowthPolicy.MAX_CAPACITY);
+        assertThat(GrowthPolicy.additive(100).newCapacity(almostMax, almostMax + 1))
+                .isEqualTo(GrowthPolicy.MAX_CAPACITY);
+        assertThat(GrowthPolicy.powerOfTwo().newCapacity(almostMax, almostMax + 1))
+                .isEqualTo(GrowthPolicy.MAX_CAPACITY);
+    }
+
+    @Test
+    @Order(8)
+    @DisplayName("Policies throw OutOfMemoryError when min capacity is too large")
+    void policiesThrowErrorWhenMinCapacityIsTooLarge() {
+        GrowthPolicy policy = GrowthPolicy.multiplicative(2);
+
+        assertThatExceptionOfType(OutOfMemoryError.class)
+                .isThrownBy(() -> policy.newCapacity(GrowthPolicy.MAX_CAPACITY, GrowthPolicy.MAX_CAPACITY + 1));
+        assertThatExceptionOfType(OutOfMemoryError.class)
+                .isThrownBy(() -> policy.newCapacity(GrowthPolicy.MAX_CAPACITY, Integer.MIN_VALUE));
+    }
+}
@@ -0,0 +1,332 @@
+package com.bobocode.cs;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * A test class for {@link IntArrayList}.
+ * <p>
+ * PLEASE NOTE: we use Reflection API only for learning purposes. It should NOT be used for production tests.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class IntArrayListTest {
+
+    private IntArrayList intList = new IntArrayList();
+
+    @Test
+    @Order(1)
+    @DisplayName("IntArrayList stores elements in a primitive array")
+    void elementsAreStoredInPrimitiveArray() {
+        boolean hasPrimitiveArrayField = Arrays.stream(IntArrayList.class.getDeclaredFields())
+                .anyMatch(field -> field.getType().equals(int[].class));
+        boolean hasObjectArrayField = Arrays.stream(IntArrayList.class.getDeclaredFields())
+                .anyMatch(field -> field.getType().equals(Object[].class));
+
+        assertThat(hasPrimitiveArrayField).isTrue();
+        assertThat(hasObjectArrayField).isFalse();
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Default constructor creates an array with capacity 5")
+    void defaultCapacity() {
+        assertThat(getInternalArray().length).isEqualTo(5);
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Constructor creates an array with a specific capacity")
+    void createListWithSpecificArrayCapacity() {
+        intList = new IntArrayList(8);
+
+        assertThat(getInternalArray().length).isEqualTo(8);
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Constructor throws exception when capacity is not positive")
+    void createListWithWrongCapacity() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new IntArrayList(-2));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new IntArrayList(0));
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Method of() creates a list of given elements")
+    void of() {
+        intList = IntArrayList.of(15, 69, 58, 78);
+
+        assertThat(intList.size()).isEqualTo(4);
+        assertThat(intList.toArray()).containsExactly(15, 69, 58, 78);
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("Method add() appends elements to the end of the list")
+    void add() {
+        intList.add(10);
+        intList.add(15);
+        intList.add(20);
+
+        assertThat(intList.size()).isEqualTo(3);
+        assertThat(intList.get(0)).isEqualTo(10);
+        assertThat(intList.get(1)).isEqualTo(15);
+        assertThat(intList.get(2)).isEqualTo(20);
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("Method add() resizes the array when it is full")
+    void addResizesArrayWhenItIsFull() {
+        intList = new IntArrayList(2);
+
+        intList.add(1);
+        intList.add(2);
+        intList.add(3);
+
+        assertThat(getInternalArray().length).isGreaterThan(2);
+        assertThat(intList.toArray()).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    @Order(8)
+    @DisplayName("Method add() by index shifts the tail to the right")
+    void addByIndex() {
+        intList = IntArrayList.of(1, 2, 4, 5);
+
+        intList.add(2, 3);
+
+        assertThat(intList.toArray()).containsExactly(1, 2, 3, 4, 5);
+    }
+
+    @Test
+    @Order(9)
+    @DisplayName("Method add() by index accepts index equal to size")
+    void addByIndexToTheEnd() {
+        intList = IntArrayList.of(1, 2);
+
+        intList.add(2, 3);
+
+        assertThat(intList.toArray()).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    @Order(10)
+    @DisplayName("Method add() by index throws exception when index is out of bounds")
+    void addByIndexThrowsExceptionWhenIndexIsOutOfBounds() {
+        intList = IntArrayList.of(1, 2);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> intList.add(3, 10));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> intList.add(-1, 10));
+    }
+
+    @Test
+    @Order(11)
+    @DisplayName("Method addAll() appends all elements of the array")
+    void addAll() {
+        intList = IntArrayList.of(1, 2);
+
+        intList.addAll(new int[]{3, 4, 5, 6, 7, 8, 9});
+
+        assertThat(intList.size()).isEqualTo(9);
+        assertThat(intList.toArray()).containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9);
+    }
+
+    @Test
+    @Order(12)
+    @DisplayName("Method addAll() resizes the array only once")
+    void addAllResizesArrayOnlyOnce() {
+        intList = new IntArrayList(2);
+        int[] elements = new int[1000];
+        Arrays.setAll(elements, i -> i);
+
+        intList.addAll(elements);
+
+        assertThat(getInternalArray().length).isEqualTo(1000);
+        assertThat(intList.toArray()).isEqualTo(elements);
+    }
+
+    @Test
+    @Order(13)
+    @DisplayName("Method addAll() doubles the array when the new size is smaller than twice the capacity")
+    void addAllDoublesArray() {
+        intList = new IntArrayList(10);
+        for (int i = 0; i < 8; i++) {
+            intList.add(i);
+        }
+
+        intList.addAll(new int[]{8, 9, 10, 11, 12});
+
+        assertThat(getInternalArray().length).isEqualTo(20);
+        assertThat(intList.size()).isEqualTo(13);
+    }
+
+    @Test
+    @Order(14)
+    @DisplayName("Method get() throws exception when index is out of bounds")
+    void getThrowsExceptionWhenIndexIsOutOfBounds() {
+        intList = IntArrayList.of(1, 2);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> intList.get(2));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> intList.get(-1));
+    }
+
+    @Test
+    @Order(15)
+    @DisplayName("Methods getFirst() and getLast() return the edge elements")
+    void getFirstAndGetLast() {
+        intList = IntArrayList.of(31, 24, 57);
+
+        assertThat(intList.getFirst()).isEqualTo(31);
+        assertThat(intList.getLast()).isEqualTo(57);
+    }
+
+    @Test
+    @Order(16)
+    @DisplayName("Methods getFirst() and getLast() throw exception when list is empty")
+    void getFirstAndGetLastOfEmptyList() {
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(() -> intList.getFirst());
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(() -> intList.getLast());
+    }
+
+    @Test
+    @Order(17)
+    @DisplayName("Method set() changes the element by index")
+    void set() {
+        intList = IntArrayList.of(1, 2, 3);
+
+        intList.set(1, 20);
+
+        assertThat(intList.toArray()).containsExactly(1, 20, 3);
+    }
+
+    @Test
+    @Order(18)
+    @DisplayName("Method set() throws exception when index is out of bounds")
+    void setThrowsExceptionWhenIndexIsOutOfBounds() {
+        intList = IntArrayList.of(1, 2, 3);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> intList.set(3, 20));
+    }
+
+    @Test
+    @Order(19)
+    @DisplayName("Method remove() deletes the element by index and shifts the tail to the left")
+    void remove() {
+        intList = IntArrayList.of(1, 2, 3, 4);
+
+        int removed = intList.remove(1);
+
+        assertThat(removed).isEqualTo(2);
+        assertThat(intList.size()).isEqualTo(3);
+        assertThat(intList.toArray()).containsExactly(1, 3, 4);
+    }
+
+    @Test
+    @Order(20)
+    @DisplayName("Method remove() throws exception when index is out of bounds")
+    void removeThrowsExceptionWhenIndexIsOutOfBounds() {
+        intList = IntArrayList.of(1, 2, 3);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> intList.remove(3));
+    }
+
+    @Test
+    @Order(21)
+    @DisplayName("Method contains() finds existing elements only")
+    void contains() {
+        intList = IntArrayList.of(4, 5, 6);
+
+        assertThat(intList.contains(5)).isTrue();
+        assertThat(intList.contains(7)).isFalse();
+    }
+
+    @Test
+    @Order(22)
+    @DisplayName("Method contains() ignores elements that were removed")
+    void containsIgnoresRemovedElements() {
+        intList = IntArrayList.of(4, 5, 6);
+        intList.remove(2);
+
+        assertThat(intList.contains(6)).isFalse();
+    }
+
+    @Test
+    @Order(23)
+    @DisplayName("Method isEmpty() returns true only when list has no elements")
+    void isEmpty() {
+        assertThat(intList.isEmpty()).isTrue();
+
+        intList.add(1);
+
+        assertThat(intList.isEmpty()).isFalse();
+    }
+
+    @Test
+    @Order(24)
+    @DisplayName("Method clear() removes all elements")
+    void clear() {
+        intList = IntArrayList.of(4, 5, 6);
+
+        intList.clear();
+
+        assertThat(intList.size()).isEqualTo(0);
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> intList.get(0));
+    }
+
+    @Test
+    @Order(25)
+    @DisplayName("Method toArray() returns a copy that is not backed by the list")
+    void toArrayReturnsCopy() {
+        intList = IntArrayList.of(1, 2, 3);
+
+        int[] array = intList.toArray();
+        array[0] = 100;
+
+        assertThat(array).hasSize(3);
+        assertThat(intList.get(0)).isEqualTo(1);
+    }
+
+    @Test
+    @Order(26)
+    @DisplayName("Method stream() streams list elements only")
+    void stream() {
+        intList = new IntArrayList(10);
+        intList.addAll(new int[]{1, 2, 3, 4});
+
+        assertThat(intList.stream().toArray()).containsExactly(1, 2, 3, 4);
+        assertThat(intList.stream().sum()).isEqualTo(10);
+    }
+
+    @SneakyThrows
+    private int[] getInternalArray() {
+        Field arrayField = Arrays.stream(IntArrayList.class.getDeclaredFields())
+                .filter(field -> field.getType().equals(int[].class))
+                .findAny()
+                .orElseThrow();
+        arrayField.setAccessible(true);
+        return (int[]) arrayField.get(intList);
+    }
+}
@@ -0,0 +1,332 @@
+package com.bobocode.cs;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * A test class for {@link LongArrayList}.
+ * <p>
+ * PLEASE NOTE: we use Reflection API only for learning purposes. It should NOT be used for production tests.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class LongArrayListTest {
+
+    private LongArrayList longList = new LongArrayList();
+
+    @Test
+    @Order(1)
+    @DisplayName("LongArrayList stores elements in a primitive array")
+    void elementsAreStoredInPrimitiveArray() {
+        boolean hasPrimitiveArrayField = Arrays.stream(LongArrayList.class.getDeclaredFields())
+                .anyMatch(field -> field.getType().equals(long[].class));
+        boolean hasObjectArrayField = Arrays.stream(LongArrayList.class.getDeclaredFields())
+                .anyMatch(field -> field.getType().equals(Object[].class));
+
+        assertThat(hasPrimitiveArrayField).isTrue();
+        assertThat(hasObjectArrayField).isFalse();
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Default constructor creates an array with capacity 5")
+    void defaultCapacity() {
+        assertThat(getInternalArray().length).isEqualTo(5);
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Constructor creates an array with a specific capacity")
+    void createListWithSpecificArrayCapacity() {
+        longList = new LongArrayList(8);
+
+        assertThat(getInternalArray().length).isEqualTo(8);
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Constructor throws exception when capacity is not positive")
+    void createListWithWrongCapacity() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new LongArrayList(-2));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new LongArrayList(0));
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Method of() creates a list of given elements")
+    void of() {
+        longList = LongArrayList.of(15, 69, 58, 78);
+
+        assertThat(longList.size()).isEqualTo(4);
+        assertThat(longList.toArray()).containsExactly(15, 69, 58, 78);
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("Method add() appends elements to the end of the list")
+    void add() {
+        longList.add(10);
+        longList.add(15);
+        longList.add(20);
+
+        assertThat(longList.size()).isEqualTo(3);
+        assertThat(longList.get(0)).isEqualTo(10);
+        assertThat(longList.get(1)).isEqualTo(15);
+        assertThat(longList.get(2)).isEqualTo(20);
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("Method add() resizes the array when it is full")
+    void addResizesArrayWhenItIsFull() {
+        longList = new LongArrayList(2);
+
+        longList.add(1);
+        longList.add(2);
+        longList.add(3);
+
+        assertThat(getInternalArray().length).isGreaterThan(2);
+        assertThat(longList.toArray()).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    @Order(8)
+    @DisplayName("Method add() by index shifts the tail to the right")
+    void addByIndex() {
+        longList = LongArrayList.of(1, 2, 4, 5);
+
+        longList.add(2, 3);
+
+        assertThat(longList.toArray()).containsExactly(1, 2, 3, 4, 5);
+    }
+
+    @Test
+    @Order(9)
+    @DisplayName("Method add() by index accepts index equal to size")
+    void addByIndexToTheEnd() {
+        longList = LongArrayList.of(1, 2);
+
+        longList.add(2, 3);
+
+        assertThat(longList.toArray()).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    @Order(10)
+    @DisplayName("Method add() by index throws exception when index is out of bounds")
+    void addByIndexThrowsExceptionWhenIndexIsOutOfBounds() {
+        longList = LongArrayList.of(1, 2);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> longList.add(3, 10));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> longList.add(-1, 10));
+    }
+
+    @Test
+    @Order(11)
+    @DisplayName("Method addAll() appends all elements of the array")
+    void addAll() {
+        longList = LongArrayList.of(1, 2);
+
+        longList.addAll(new long[]{3, 4, 5, 6, 7, 8, 9});
+
+        assertThat(longList.size()).isEqualTo(9);
+        assertThat(longList.toArray()).containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9);
+    }
+
+    @Test
+    @Order(12)
+    @DisplayName("Method addAll() resizes the array only once")
+    void addAllResizesArrayOnlyOnce() {
+        longList = new LongArrayList(2);
+        long[] elements = new long[1000];
+        Arrays.setAll(elements, i -> i);
+
+        longList.addAll(elements);
+
+        assertThat(getInternalArray().length).isEqualTo(1000);
+        assertThat(longList.toArray()).isEqualTo(elements);
+    }
+
+    @Test
+    @Order(13)
+    @DisplayName("Method addAll() doubles the array when the new size is smaller than twice the capacity")
+    void addAllDoublesArray() {
+        longList = new LongArrayList(10);
+        for (int i = 0; i < 8; i++) {
+            longList.add(i);
+        }
+
+        longList.addAll(new long[]{8, 9, 10, 11, 12});
+
+        assertThat(getInternalArray().length).isEqualTo(20);
+        assertThat(longList.size()).isEqualTo(13);
+    }
+
+    @Test
+    @Order(14)
+    @DisplayName("Method get() throws exception when index is out of bounds")
+    void getThrowsExceptionWhenIndexIsOutOfBounds() {
+        longList = LongArrayList.of(1, 2);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> longList.get(2));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> longList.get(-1));
+    }
+
+    @Test
+    @Order(15)
+    @DisplayName("Methods getFirst() and getLast() return the edge elements")
+    void getFirstAndGetLast() {
+        longList = LongArrayList.of(31, 24, 57);
+
+        assertThat(longList.getFirst()).isEqualTo(31);
+        assertThat(longList.getLast()).isEqualTo(57);
+    }
+
+    @Test
+    @Order(16)
+    @DisplayName("Methods getFirst() and getLast() throw exception when list is empty")
+    void getFirstAndGetLastOfEmptyList() {
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(() -> longList.getFirst());
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(() -> longList.getLast());
+    }
+
+    @Test
+    @Order(17)
+    @DisplayName("Method set() changes the element by index")
+    void set() {
+        longList = LongArrayList.of(1, 2, 3);
+
+        longList.set(1, 20);
+
+        assertThat(longList.toArray()).containsExactly(1, 20, 3);
+    }
+
+    @Test
+    @Order(18)
+    @DisplayName("Method set() throws exception when index is out of bounds")
+    void setThrowsExceptionWhenIndexIsOutOfBounds() {
+        longList = LongArrayList.of(1, 2, 3);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> longList.set(3, 20));
+    }
+
+    @Test
+    @Order(19)
+    @DisplayName("Method remove() deletes the element by index and shifts the tail to the left")
+    void remove() {
+        longList = LongArrayList.of(1, 2, 3, 4);
+
+        long removed = longList.remove(1);
+
+        assertThat(removed).isEqualTo(2);
+        assertThat(longList.size()).isEqualTo(3);
+        assertThat(longList.toArray()).containsExactly(1, 3, 4);
+    }
+
+    @Test
+    @Order(20)
+    @DisplayName("Method remove() throws exception when index is out of bounds")
+    void removeThrowsExceptionWhenIndexIsOutOfBounds() {
+        longList = LongArrayList.of(1, 2, 3);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> longList.remove(3));
+    }
+
+    @Test
+    @Order(21)
+    @DisplayName("Method contains() finds existing elements only")
+    void contains() {
+        longList = LongArrayList.of(4, 5, 6);
+
+        assertThat(longList.contains(5)).isTrue();
+        assertThat(longList.contains(7)).isFalse();
+    }
+
+    @Test
+    @Order(22)
+    @DisplayName("Method contains() ignores elements that were removed")
+    void containsIgnoresRemovedElements() {
+        longList = LongArrayList.of(4, 5, 6);
+        longList.remove(2);
+
+        assertThat(longList.contains(6)).isFalse();
+    }
+
+    @Test
+    @Order(23)
+    @DisplayName("Method isEmpty() returns true only when list has no elements")
+    void isEmpty() {
+        assertThat(longList.isEmpty()).isTrue();
+
+        longList.add(1);
+
+        assertThat(longList.isEmpty()).isFalse();
+    }
+
+    @Test
+    @Order(24)
+    @DisplayName("Method clear() removes all elements")
+    void clear() {
+        longList = LongArrayList.of(4, 5, 6);
+
+        longList.clear();
+
+        assertThat(longList.size()).isEqualTo(0);
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> longList.get(0));
+    }
+
+    @Test
+    @Order(25)
+    @DisplayName("Method toArray() returns a copy that is not backed by the list")
+    void toArrayReturnsCopy() {
+        longList = LongArrayList.of(1, 2, 3);
+
+        long[] array = longList.toArray();
+        array[0] = 100;
+
+        assertThat(array).hasSize(3);
+        assertThat(longList.get(0)).isEqualTo(1);
+    }
+
+    @Test
+    @Order(26)
+    @DisplayName("Method stream() streams list elements only")
+    void stream() {
+        longList = new LongArrayList(10);
+        longList.addAll(new long[]{1, 2, 3, 4});
+
+        assertThat(longList.stream().toArray()).containsExactly(1, 2, 3, 4);
+        assertThat(longList.stream().sum()).isEqualTo(10);
+    }
+
+    @SneakyThrows
+    private long[] getInternalArray() {
+        Field arrayField = Arrays.stream(LongArrayList.class.getDeclaredFields())
+                .filter(field -> field.getType().equals(long[].class))
+                .findAny()
+                .orElseThrow();
+        arrayField.setAccessible(true);
+        return (long[]) arrayField.get(longList);
+    }
+}
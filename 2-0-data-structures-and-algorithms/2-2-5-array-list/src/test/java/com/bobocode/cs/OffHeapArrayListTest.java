@@ -0,0 +1,266 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+/**
+ * A test class for {@link OffHeapArrayList}.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class OffHeapArrayListTest {
+    private static final int MB = 1 << 20;
+
+    record Point(int x, int y, double weight) {
+    }
+
+    static class PointCodec implements RecordCodec<Point> {
+        @Override
+        public int recordSize() {
+            return 16;
+        }
+
+        @Override
+        public void encode(Point point, ByteBuffer buffer, int offset) {
+            buffer.putInt(offset, point.x());
+            buffer.putInt(offset + 4, point.y());
+            buffer.putDouble(offset + 8, point.weight());
+        }
+
+        @Override
+        public Point decode(ByteBuffer buffer, int offset) {
+            return new Point(buffer.getInt(offset), buffer.getInt(offset + 4), buffer.getDouble(offset + 8));
+        }
+    }
+
+    private static Point point(int i) {
+        return new Point(i, -i, i / 2.0);
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Constructor throws exception when codec is null")
+    void constructorThrowsExceptionWhenCodecIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> new OffHeapArrayList<Point>(null));
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Constructor throws exception when chunk size is wrong")
+    void constructorThrowsExceptionWhenChunkSizeIsWrong() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new OffHeapArrayList<>(new PointCodec(), 0));
+        assertThatIllegalArgumentException().isThrownBy(() -> new OffHeapArrayList<>(new PointCodec(), -1));
+        assertThatIllegalArgumentException().isThrownBy(() -> new OffHeapArrayList<>(new PointCodec(), 1 << 28));
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("New list is empty and allocates no memory")
+    void newListIsEmpty() {
+        try (OffHeapArrayList<Point> list = new OffHeapArrayList<>(new PointCodec())) {
+            assertThat(list.isEmpty()).isTrue();
+            assertThat(list.size()).isEqualTo(0);
+            assertThat(list.allocatedBytes()).isEqualTo(0);
+        }
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Added records are decoded by index")
+    void addAndGet() {
+        try (OffHeapArrayList<Point> list = new OffHeapArrayList<>(new PointCodec(), 4)) {
+            for (int i = 0; i < 10; i++) {
+                list.add(point(i));
+            }
+
+            assertThat(list.size()).isEqualTo(10);
+            for (int i = 0; i < 10; i++) {
+                assertThat(list.get(i)).isEqualTo(point(i));
+            }
+        }
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Method add() throws exception when record is null")
+    void addThrowsExceptionWhenRecordIsNull() {
+        try (OffHeapArrayList<Point> list = new OffHeapArrayList<>(new PointCodec())) {
+            assertThatNullPointerException().isThrownBy(() -> list.add(null));
+        }
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("Methods get() and set() throw exception when index is out of bounds")
+    void getAndSetThrowExceptionWhenIndexIsOutOfBounds() {
+        try (OffHeapArrayList<Point> list = new OffHeapArrayList<>(new PointCodec())) {
+            list.add(point(1));
+
+            assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> list.get(1));
+            assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> list.get(-1));
+            assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> list.set(1, point(2)));
+        }
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("Method set() replaces a record")
+    void set() {
+        try (OffHeapArrayList<Point> list = new OffHeapArrayList<>(new PointCodec(), 2)) {
+            list.add(point(1));
+            list.add(point(2));
+            list.add(point(3));
+
+            list.set(2, point(30));
+
+            assertThat(list.get(2)).isEqualTo(point(30));
+            assertThat(list.get(1)).isEqualTo(point(2));
+        }
+    }
+
+    @Test
+    @Order(8)
+    @DisplayName("Method removeLast() removes and returns the last record")
+    void removeLast() {
+        try (OffHeapArrayList<Point> list = new OffHeapArrayList<>(new PointCodec())) {
+            list.add(point(1));
+            list.add(point(2));
+
+            assertThat(list.removeLast()).isEqualTo(point(2));
+            assertThat(list.removeLast()).isEqualTo(point(1));
+            assertThat(list.isEmpty()).isTrue();
+            assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(list::removeLast);
+        }
+    }
+
+    @Test
+    @Order(9)
+    @DisplayName("Memory is allocated by chunks of a power of two records")
+    void memoryIsAllocatedByChunks() {
+        try (OffHeapArrayList<Point> list = new OffHeapArrayList<>(new PointCodec(), 1000)) {
+            list.add(point(0));
+            assertThat(list.allocatedBytes()).isEqualTo(1024 * 16);
+
+            for (int i = 1; i <= 1024; i++) {
+                list.add(point(i));
+            }
+            assertThat(list.allocatedBytes()).isEqualTo(2 * 1024 * 16);
+        }
+    }
+
+    @Test
+    @Order(10)
+    @DisplayName("Method clear() removes all records and keeps allocated memory")
+    void clear() {
+        try (OffHeapArrayList<Point> list = new OffHeapArrayList<>(new PointCodec(), 16)) {
+            for (int i = 0; i < 100; i++) {
+                list.add(point(i));
+            }
+            long allocated = list.allocatedBytes();
+
+            list.clear();
+            list.add(point(7));
+
+            assertThat(list.size()).isEqualTo(1);
+            assertThat(list.get(0)).isEqualTo(point(7));
+            assertThat(list.allocatedBytes()).isEqualTo(allocated);
+        }
+    }
+
+    @Test
+    @Order(11)
+    @DisplayName("Iterator decodes records in the list order")
+    void iterator() {
+        try (OffHeapArrayList<Point> list = new OffHeapArrayList<>(new PointCodec(), 8)) {
+            List<Point> expected = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                list.add(point(i));
+                expected.add(point(i));
+            }
+
+            List<Point> iterated = new ArrayList<>();
+            list.forEach(iterated::add);
+
+            assertThat(iterated).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @Order(12)
+    @DisplayName("Records are stored in direct memory, and close() releases it immediately")
+    void recordsAreStoredInDirectMemory() {
+        int size = 1_000_000;
+        long usedBefore = directMemoryUsed();
+        OffHeapArrayList<Point> list = new OffHeapArrayList<>(new PointCodec());
+        for (int i = 0; i < size; i++) {
+            list.add(point(i));
+        }
+        long allocated = list.allocatedBytes();
+        long usedAfterAdd = directMemoryUsed();
+
+        list.close();
+        long usedAfterClose = directMemoryUsed();
+
+        assertThat(allocated).isBetween(16L * size, 16L * size + 16L * OffHeapArrayList.DEFAULT_CHUNK_RECORDS);
+        assertThat(usedAfterAdd - usedBefore).isGreaterThanOrEqualTo(allocated);
+        assertThat(usedAfterClose).isLessThan(usedAfterAdd - allocated + MB);
+        assertThat(list.allocatedBytes()).isEqualTo(0);
+    }
+
+    @Test
+    @Order(13)
+    @DisplayName("Closed list throws exception and can be closed again")
+    void closedListThrowsException() {
+        OffHeapArrayList<Point> list = new OffHeapArrayList<>(new PointCodec());
+        list.add(point(1));
+
+        list.close();
+        list.close();
+
+        assertThatIllegalStateException().isThrownBy(() -> list.get(0));
+        assertThatIllegalStateException().isThrownBy(() -> list.add(point(2)));
+        assertThatIllegalStateException().isThrownBy(list::iterator);
+        assertThat(list.size()).isEqualTo(0);
+        assertThat(list.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Order(14)
+    @DisplayName("Iterator throws exception when the list is closed")
+    void iteratorThrowsExceptionWhenListIsClosed() {
+        OffHeapArrayList<Point> list = new OffHeapArrayList<>(new PointCodec());
+        list.add(point(1));
+        list.add(point(2));
+        Iterator<Point> iterator = list.iterator();
+        iterator.next();
+
+        list.close();
+
+        assertThatIllegalStateException().isThrownBy(iterator::hasNext);
+        assertThatIllegalStateException().isThrownBy(iterator::next);
+    }
+
+    private long directMemoryUsed() {
+        return ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class).stream()
+                .filter(pool -> pool.getName().equals("direct"))
+                .mapToLong(BufferPoolMXBean::getMemoryUsed)
+                .findAny()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,101 @@
+package com.bobocode.cs;
+
+import com.bobocode.util.ExerciseNotCompletedException;
+
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * {@link AvlBinarySearchTree} is a self-balancing implementation of a {@link BinarySearchTree} (AVL tree). Like
+ * {@link RecursiveBinarySearchTree}, it is based on linked nodes. A tree node is represented as a nested class
+ * {@link Node}. It holds an element, two references to the left and right child nodes, and the height of its
+ * subtree.
+ * <p>
+ * The tree keeps the following invariant: for each node, the heights of its left and right subtrees differ at most
+ * by one. After an element is inserted, the heights are updated on the way back to the root, and each node that
+ * breaks the invariant is fixed by a single or a double rotation. So the depth of the tree is always less than
+ * 1.45 * log2(n + 2), and {@link AvlBinarySearchTree#insert(Comparable)} and
+ * {@link AvlBinarySearchTree#contains(Comparable)} are performed in O(log n) for any insertion order, including sorted
+ * elements.
+ *
+ * @param <T> a type of elements that are stored in the tree
+ * @see RedBlackBinarySearchTree
+ */
+public class AvlBinarySearchTree<T extends Comparable<T>> implements BinarySearchTree<T> {
+
+    public static <T extends Comparable<T>> AvlBinarySearchTree<T> of(T... elements) {
+        throw new ExerciseNotCompletedException();
+    }
+
+    /**
+     * Inserts an element, and rebalances the nodes on the path from the new node to the root.
+     *
+     * @return true if element did not exist in the tree and was inserted successfully
+     */
+    @Override
+    public boolean insert(T element) {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public boolean contains(T element) {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public int size() {
+        throw new ExerciseNotCompletedException();
+    }
+
+    /**
+     * Returns the depth of the tree. The height is stored in each node, so it is performed in constant time O(1).
+     *
+     * @return max. number of transition between root node and any other node; 0 - if tree is empty or contains
+     * 1 element
+     */
+    @Override
+    public int depth() {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public void inOrderTraversal(Consumer<T> consumer) {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public Optional<T> min() {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public Optional<T> max() {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public Optional<T> floor(T element) {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public Optional<T> ceiling(T element) {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public void rangeTraversal(T from, T to, Consumer<T> consumer) {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public Iterator<T> iterator(T from, T to) {
+        throw new ExerciseNotCompletedException();
+    }
+}
@@ -0,0 +1,135 @@
+package com.bobocode.cs;
+
+import com.bobocode.util.ExerciseNotCompletedException;
+
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * {@link BTree} is an implementation of a {@link BinarySearchTree} that is based on a B+ tree. Unlike other trees in
+ * this module, a node holds many elements (keys) in an array. So the search path from the root to an element is much
+ * shorter: the tree has O(log n) levels with a base much bigger than 2 (see the fan-out below), so a search visits
+ * far fewer nodes.
+ * The elements are also stored in leaves that are linked in order, so a traversal reads them one array after another.
+ * Keys are generic objects, so the array holds references, and each comparison still reads a key object from memory.
+ * So a B+ tree does not make comparisons cheaper; it only makes the search path shorter.
+ * <p>
+ * The tree has two kinds of nodes, which are represented as nested classes:
+ * <ul>
+ *     <li>a leaf node holds an array of keys sorted in ascending order, the number of keys, and a reference to
+ *     the next leaf. All the elements of the tree are stored in leaves, and all the leaves are on the same level</li>
+ *     <li>an internal node holds an array of separator keys, the number of keys, and an array of children. The n
+ *     keys of a node split its n + 1 children: all keys of a child on the left of a separator are less than it, and
+ *     all keys of a child on the right are greater than or equal to it</li>
+ * </ul>
+ * The maximum number of children of an internal node is called a fan-out. A node of a tree with fan-out m holds at
+ * most m - 1 keys. When an insert adds the m-th key to a leaf, the leaf is split into two halves, the new leaf is
+ * linked after the old one, and the first key of the new leaf is added to the parent as a separator. When the parent
+ * gets too many keys, it is split in the same way, and its middle key moves up. When the root is split, a new root
+ * is created, so the tree grows from the top and stays balanced. Each node except the root is at least half full,
+ * so the depth of the tree is O(log n) with the base m / 2.
+ * <p>
+ * {@link BTree#contains(Comparable)} uses binary search on each level to find a child, and then in the leaf.
+ * {@link BTree#inOrderTraversal(Consumer)} and iterators do not go through internal nodes at all. They go down to
+ * the leftmost (or the first matching) leaf, and then read leaves one by one using the links.
+ *
+ * @param <T> a type of elements that are stored in the tree
+ * @see RecursiveBinarySearchTree
+ */
+public class BTree<T extends Comparable<T>> implements BinarySearchTree<T> {
+
+    /**
+     * This constructor creates an instance of {@link BTree} with a default fan-out. A default fan-out is 64.
+     */
+    public BTree() {
+        throw new ExerciseNotCompletedException();
+    }
+
+    /**
+     * This constructor creates an instance of {@link BTree} with a specific fan-out. A bigger fan-out makes the tree
+     * lower, but each node takes more memory and an insert moves more keys inside a node.
+     *
+     * @param fanOut the maximum number of children of an internal node
+     * @throws IllegalArgumentException if fan-out is less than 3
+     */
+    public BTree(int fanOut) {
+        throw new ExerciseNotCompletedException();
+    }
+
+    public static <T extends Comparable<T>> BTree<T> of(T... elements) {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public boolean insert(T element) {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public boolean contains(T element) {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public int size() {
+        throw new ExerciseNotCompletedException();
+    }
+
+    /**
+     * Returns the depth of the tree. All the leaves are on the same level, so it is the number of levels minus one.
+     *
+     * @return max. number of transition between root node and any other node; 0 - if tree has a single node or
+     * is empty
+     */
+    @Override
+    public int depth() {
+        throw new ExerciseNotCompletedException();
+    }
+
+    /**
+     * Traverses the tree in element's natural order. It finds the leftmost leaf, and then goes through the linked
+     * leaves without visiting internal nodes.
+     *
+     * @param consumer accepts ref. to node during traversing
+     */
+    @Override
+    public void inOrderTraversal(Consumer<T> consumer) {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public Optional<T> min() {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public Optional<T> max() {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public Optional<T> floor(T element) {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public Optional<T> ceiling(T element) {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public void rangeTraversal(T from, T to, Consumer<T> consumer) {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public Iterator<T> iterator(T from, T to) {
+        throw new ExerciseNotCompletedException();
+    }
+}
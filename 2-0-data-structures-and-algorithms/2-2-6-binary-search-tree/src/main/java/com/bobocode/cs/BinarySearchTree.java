@@ -1,8 +1,12 @@
 package com.bobocode.cs;
 
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.Consumer;
 
-public interface BinarySearchTree<T extends Comparable<T>> {
+public interface BinarySearchTree<T extends Comparable<T>> extends Iterable<T> {
     /**
      * insert an element
      * @return true if element did not exist in the tree and was inserted successfully
@@ -29,4 +33,71 @@ public interface BinarySearchTree<T extends Comparable<T>> {
      * @param consumer accepts ref. to node during traversing
      */
     void inOrderTraversal(Consumer<T> consumer);
+
+    /**
+     * @return the smallest element; empty optional if tree is empty
+     */
+    Optional<T> min();
+
+    /**
+     * @return the greatest element; empty optional if tree is empty
+     */
+    Optional<T> max();
+
+    /**
+     * @return the greatest element less than or equal to the given element; empty optional if there is no such element
+     */
+    Optional<T> floor(T element);
+
+    /**
+     * @return the smallest element greater than or equal to the given element; empty optional if there is no such
+     * element
+     */
+    Optional<T> ceiling(T element);
+
+    /**
+     * traverse elements between {@code from} and {@code to} (both inclusive) in element's natural order. Subtrees that
+     * are out of the range are not visited, so it takes O(h + k), where h is a tree depth and k is a number of visited
+     * elements
+     * @param consumer accepts ref. to node during traversing
+     * @throws IllegalArgumentException if {@code from} is greater than {@code to}
+     */
+    void rangeTraversal(T from, T to, Consumer<T> consumer);
+
+    /**
+     * @return a lazy iterator over all elements in element's natural order. The tree should not be changed while
+     * the iterator is used
+     */
+    @Override
+    Iterator<T> iterator();
+
+    /**
+     * @return a lazy iterator over elements between {@code from} and {@code to} (both inclusive) in element's natural
+     * order. It goes down to {@code from} in O(h), and never goes into subtrees that are out of the range
+     * @throws IllegalArgumentException if {@code from} is greater than {@code to}
+     */
+    Iterator<T> iterator(T from, T to);
+
+    /**
+     * The spliterator is {@link Spliterator#SIZED}, because it takes the size from {@link BinarySearchTree#size()}
+     * and the elements from {@link BinarySearchTree#iterator()}. These are two separate calls, so it is valid only
+     * for a tree that is not changed by other threads at the same time. A tree that can be changed concurrently must
+     * override this method.
+     *
+     * @return a sized, sorted spliterator over all elements, based on {@link BinarySearchTree#iterator()}
+     */
+    @Override
+    default Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED | Spliterator.SORTED
+                | Spliterator.DISTINCT | Spliterator.NONNULL);
+    }
+
+    /**
+     * @return a sorted spliterator over elements between {@code from} and {@code to} (both inclusive), based on
+     * {@link BinarySearchTree#iterator(Comparable, Comparable)}
+     */
+    default Spliterator<T> spliterator(T from, T to) {
+        return Spliterators.spliteratorUnknownSize(iterator(from, to), Spliterator.ORDERED | Spliterator.SORTED
+                | Spliterator.DISTINCT | Spliterator.NONNULL);
+    }
 }
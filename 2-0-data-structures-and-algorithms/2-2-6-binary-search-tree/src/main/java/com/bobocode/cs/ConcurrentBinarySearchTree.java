@@ -0,0 +1,138 @@
+package com.bobocode.cs;
+
+import com.bobocode.util.ExerciseNotCompletedException;
+
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * {@link ConcurrentBinarySearchTree} is an implementation of a {@link BinarySearchTree} that can be read by many threads
+ * without any locks while other threads insert elements. A tree node is represented as a nested class {@link Node}.
+ * It holds an element, two references to the left and right child nodes, and the height and the size of its
+ * subtree. All node fields are final, so a node is never changed after it is created.
+ * <p>
+ * The root is stored in {@link java.util.concurrent.atomic.AtomicReference}. An insert does not change existing
+ * nodes. It copies the nodes on the path from the root to the new node (path copying), and then tries to replace
+ * the root with the new copy using compare-and-set (CAS). All other nodes are shared by the old and the new trees.
+ * If the CAS fails, another thread has inserted an element, so the insert starts over from the new root.
+ * <p>
+ * The tree is balanced the same way as {@link PersistentBinarySearchTree}: the copied path is rebalanced like in
+ * {@link AvlBinarySearchTree}, and a rotation creates new nodes instead of changing the rotated ones. So the depth is
+ * O(log n), and an insert creates O(log n) nodes even when elements are inserted in sorted order.
+ * <p>
+ * Any reader reads the root only once, and then works with an immutable snapshot of the tree:
+ * <ul>
+ *     <li>{@link ConcurrentBinarySearchTree#contains(Comparable)} and navigation methods never block and never
+ *     retry</li>
+ *     <li>traversals and iterators see all elements that were in the tree when they started, and none of
+ *     the elements inserted later</li>
+ *     <li>{@link ConcurrentBinarySearchTree#size()} is the size of the root, so it is always consistent with
+ *     the snapshot</li>
+ *     <li>{@link ConcurrentBinarySearchTree#spliterator()} takes both the elements and the size from the same
+ *     snapshot, so a stream of the tree is sized</li>
+ * </ul>
+ * Each insert allocates a new path and may retry, so the tree works best when reads are much more frequent than
+ * inserts.
+ *
+ * @param <T> a type of elements that are stored in the tree
+ * @see PersistentBinarySearchTree
+ */
+public class ConcurrentBinarySearchTree<T extends Comparable<T>> implements BinarySearchTree<T> {
+
+    public static <T extends Comparable<T>> ConcurrentBinarySearchTree<T> of(T... elements) {
+        throw new ExerciseNotCompletedException();
+    }
+
+    /**
+     * Inserts an element by copying and rebalancing the path from the root to a new node, and replacing the root
+     * using CAS. This method never blocks. It can be safely called by many threads at the same time.
+     *
+     * @return true if element did not exist in the tree and was inserted successfully
+     */
+    @Override
+    public boolean insert(T element) {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public boolean contains(T element) {
+        throw new ExerciseNotCompletedException();
+    }
+
+    /**
+     * Returns the number of elements in the tree, which is the subtree size of the current root. It is performed in
+     * constant time O(1).
+     *
+     * @return number of elements in the tree
+     */
+    @Override
+    public int size() {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public int depth() {
+        throw new ExerciseNotCompletedException();
+    }
+
+    /**
+     * Traverses a snapshot of the tree in element's natural order. Elements inserted after the traversal has started
+     * are not visited.
+     *
+     * @param consumer accepts ref. to node during traversing
+     */
+    @Override
+    public void inOrderTraversal(Consumer<T> consumer) {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public Optional<T> min() {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public Optional<T> max() {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public Optional<T> floor(T element) {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public Optional<T> ceiling(T element) {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public void rangeTraversal(T from, T to, Consumer<T> consumer) {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public Iterator<T> iterator(T from, T to) {
+        throw new ExerciseNotCompletedException();
+    }
+
+    /**
+     * Reads the root only once, and creates a spliterator over this snapshot, whose size is the size of the same
+     * root. Unlike {@link BinarySearchTree#spliterator()}, it does not call {@link ConcurrentBinarySearchTree#size()}
+     * separately, so the size is exact even when other threads insert elements at the same time. The snapshot is
+     * never changed, so the spliterator is also {@link Spliterator#IMMUTABLE}.
+     *
+     * @return a sized, sorted spliterator over a snapshot of the tree
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        throw new ExerciseNotCompletedException();
+    }
+}
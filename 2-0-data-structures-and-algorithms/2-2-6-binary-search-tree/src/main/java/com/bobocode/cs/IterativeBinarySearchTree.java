@@ -0,0 +1,102 @@
+package com.bobocode.cs;
+
+import com.bobocode.util.ExerciseNotCompletedException;
+
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * {@link IterativeBinarySearchTree} is an implementation of a {@link BinarySearchTree} that is based on linked nodes
+ * and loops instead of recursion. A tree node is represented as a nested class {@link Node}. It holds an element
+ * (a value) and two references to the left and right child nodes.
+ * <p>
+ * {@link RecursiveBinarySearchTree} uses one method frame per tree level, so a deep tree (e.g. a tree built from
+ * sorted elements) causes {@link StackOverflowError}. This implementation uses a constant amount of the thread stack
+ * for any tree:
+ * <ul>
+ *     <li>{@link IterativeBinarySearchTree#insert(Comparable)} and
+ *     {@link IterativeBinarySearchTree#contains(Comparable)} go down the tree in a loop</li>
+ *     <li>{@link IterativeBinarySearchTree#depth()} goes through the tree level by level using a queue of the nodes
+ *     of the current level</li>
+ *     <li>{@link IterativeBinarySearchTree#inOrderTraversal(Consumer)} uses Morris traversal. Before going to the
+ *     left subtree of a node, it links the rightmost node of that subtree to the node, so it can return back without
+ *     a stack. The link is removed when the node is visited, so the tree is restored when the traversal is over</li>
+ * </ul>
+ *
+ * @param <T> a type of elements that are stored in the tree
+ * @see RecursiveBinarySearchTree
+ */
+public class IterativeBinarySearchTree<T extends Comparable<T>> implements BinarySearchTree<T> {
+
+    public static <T extends Comparable<T>> IterativeBinarySearchTree<T> of(T... elements) {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public boolean insert(T element) {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public boolean contains(T element) {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public int size() {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public int depth() {
+        throw new ExerciseNotCompletedException();
+    }
+
+    /**
+     * Traverses the tree in element's natural order using Morris traversal. It does not use recursion or an explicit
+     * stack, and it temporarily changes right references of some nodes, so the tree should not be changed during
+     * the traversal.
+     *
+     * @param consumer accepts ref. to node during traversing
+     */
+    @Override
+    public void inOrderTraversal(Consumer<T> consumer) {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public Optional<T> min() {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public Optional<T> max() {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public Optional<T> floor(T element) {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public Optional<T> ceiling(T element) {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public void rangeTraversal(T from, T to, Consumer<T> consumer) {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public Iterator<T> iterator(T from, T to) {
+        throw new ExerciseNotCompletedException();
+    }
+}
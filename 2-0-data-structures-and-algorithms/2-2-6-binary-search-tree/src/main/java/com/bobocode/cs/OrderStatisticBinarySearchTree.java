@@ -0,0 +1,140 @@
+package com.bobocode.cs;
+
+import com.bobocode.util.ExerciseNotCompletedException;
+
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * {@link OrderStatisticBinarySearchTree} is an implementation of a {@link BinarySearchTree} that finds elements by
+ * their position in sorted order. A tree node is represented as a nested class {@link Node}. It holds an element,
+ * two references to the left and right child nodes, the height of its subtree, and the size of its subtree (the number
+ * of elements in the node and all its descendants).
+ * <p>
+ * Subtree sizes make two queries possible without going through the whole tree:
+ * <ul>
+ *     <li>{@link OrderStatisticBinarySearchTree#select(int)} goes down from the root, and on each node compares
+ *     the index with the size of the left subtree to decide whether to stop, go left, or go right skipping the left
+ *     subtree and the node</li>
+ *     <li>{@link OrderStatisticBinarySearchTree#rank(Comparable)} searches the element from the root, and sums up
+ *     the sizes of left subtrees (plus one for the node itself) each time it goes right</li>
+ * </ul>
+ * Sizes are updated on the way back to the root after an insert. The tree is balanced the same way as
+ * {@link AvlBinarySearchTree}, and a rotation recalculates sizes of the two rotated nodes from their children. So the
+ * depth is O(log n), and both queries are performed in O(log n). The size of the whole tree is the size of the root,
+ * so {@link OrderStatisticBinarySearchTree#size()} is O(1).
+ *
+ * @param <T> a type of elements that are stored in the tree
+ * @see AvlBinarySearchTree
+ */
+public class OrderStatisticBinarySearchTree<T extends Comparable<T>> implements BinarySearchTree<T> {
+
+    public static <T extends Comparable<T>> OrderStatisticBinarySearchTree<T> of(T... elements) {
+        throw new ExerciseNotCompletedException();
+    }
+
+    /**
+     * Inserts an element, and updates subtree sizes and heights of the nodes on the path from the new node to
+     * the root, rebalancing them if needed.
+     *
+     * @return true if element did not exist in the tree and was inserted successfully
+     */
+    @Override
+    public boolean insert(T element) {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public boolean contains(T element) {
+        throw new ExerciseNotCompletedException();
+    }
+
+    /**
+     * Returns the number of elements in the tree, which is the subtree size of the root. It is performed in
+     * constant time O(1).
+     *
+     * @return number of elements in the tree
+     */
+    @Override
+    public int size() {
+        throw new ExerciseNotCompletedException();
+    }
+
+    /**
+     * Returns an element by its position in element's natural order. E.g. {@code select(0)} returns the smallest
+     * element, {@code select(size() - 1)} returns the greatest one, and {@code select(size() / 2)} returns a median.
+     * It is performed in O(log n).
+     *
+     * @param index a zero-based position of the element in sorted order
+     * @return the element that has exactly {@code index} smaller elements in the tree
+     * @throws IndexOutOfBoundsException if index is negative or is not less than the size of the tree
+     */
+    public T select(int index) {
+        throw new ExerciseNotCompletedException();
+    }
+
+    /**
+     * Returns the number of elements that are less than the given element. The element itself does not have to be in
+     * the tree. For an element that is in the tree, the rank is its position in sorted order, so
+     * {@code select(rank(element))} returns the same element. It is performed in O(log n).
+     *
+     * @param element an element to compare with
+     * @return the number of elements that are less than the given element
+     * @throws NullPointerException if element is null
+     */
+    public int rank(T element) {
+        throw new ExerciseNotCompletedException();
+    }
+
+    /**
+     * Returns the depth of the tree. The height is stored in each node, so it is performed in constant time O(1).
+     *
+     * @return max. number of transition between root node and any other node; 0 - if tree is empty or contains
+     * 1 element
+     */
+    @Override
+    public int depth() {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public void inOrderTraversal(Consumer<T> consumer) {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public Optional<T> min() {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public Optional<T> max() {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public Optional<T> floor(T element) {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public Optional<T> ceiling(T element) {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public void rangeTraversal(T from, T to, Consumer<T> consumer) {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public Iterator<T> iterator(T from, T to) {
+        throw new ExerciseNotCompletedException();
+    }
+}
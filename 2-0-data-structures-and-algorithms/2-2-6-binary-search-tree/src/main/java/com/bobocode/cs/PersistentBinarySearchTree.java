@@ -0,0 +1,80 @@
+package com.bobocode.cs;
+
+import com.bobocode.util.ExerciseNotCompletedException;
+
+import java.util.function.Consumer;
+
+/**
+ * {@link PersistentBinarySearchTree} is an immutable (persistent) binary search tree. Each insert returns a new
+ * version of the tree, and all previous versions stay the same and can still be used. A tree node is represented as
+ * a nested class {@link Node}. It holds an element, two references to the left and right child nodes, and the height
+ * of its subtree. All node fields are final, so a node is never changed after it is created.
+ * <p>
+ * An insert does not change existing nodes. It copies the nodes on the path from the root to the new node (path
+ * copying), and all other nodes are shared by the old and the new versions. The tree is balanced the same way as
+ * {@link AvlBinarySearchTree}, but a rotation creates new nodes instead of changing the rotated ones. So the depth
+ * is O(log n), and an insert creates O(log n) nodes.
+ * <p>
+ * Since all versions are immutable, a version can be passed to other threads without any locks, and taking
+ * a snapshot of a tree costs nothing.
+ * <p>
+ * PLEASE NOTE: {@link PersistentBinarySearchTree} does not implement {@link BinarySearchTree}, because
+ * {@link BinarySearchTree#insert(Comparable)} changes the tree in place.
+ *
+ * @param <T> a type of elements that are stored in the tree
+ * @see ConcurrentBinarySearchTree
+ */
+public final class PersistentBinarySearchTree<T extends Comparable<T>> {
+
+    /**
+     * Returns an empty tree.
+     *
+     * @return an empty tree
+     */
+    public static <T extends Comparable<T>> PersistentBinarySearchTree<T> empty() {
+        throw new ExerciseNotCompletedException();
+    }
+
+    public static <T extends Comparable<T>> PersistentBinarySearchTree<T> of(T... elements) {
+        throw new ExerciseNotCompletedException();
+    }
+
+    /**
+     * Returns a new version of the tree with the element. This tree is not changed.
+     *
+     * @return a new version of the tree, or this tree if it already contains the element
+     * @throws NullPointerException if the element is null
+     */
+    public PersistentBinarySearchTree<T> insert(T element) {
+        throw new ExerciseNotCompletedException();
+    }
+
+    /**
+     * @return true if tree contains element
+     */
+    public boolean contains(T element) {
+        throw new ExerciseNotCompletedException();
+    }
+
+    /**
+     * @return number of elements in the tree
+     */
+    public int size() {
+        throw new ExerciseNotCompletedException();
+    }
+
+    /**
+     * @return max. number of transition between root node and any other node; 0 - if tree is empty or contains 1 element
+     */
+    public int depth() {
+        throw new ExerciseNotCompletedException();
+    }
+
+    /**
+     * traverse the tree in element's natural order
+     * @param consumer accepts ref. to node during traversing
+     */
+    public void inOrderTraversal(Consumer<T> consumer) {
+        throw new ExerciseNotCompletedException();
+    }
+}
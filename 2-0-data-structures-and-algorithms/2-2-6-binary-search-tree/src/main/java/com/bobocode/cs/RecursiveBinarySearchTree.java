@@ -2,6 +2,9 @@ package com.bobocode.cs;
 
 import com.bobocode.util.ExerciseNotCompletedException;
 
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Consumer;
 
 /**
@@ -19,6 +22,49 @@ public class RecursiveBinarySearchTree<T extends Comparable<T>> implements Binar
         throw new ExerciseNotCompletedException();
     }
 
+    /**
+     * Creates a perfectly balanced tree of sorted elements in linear time O(n). Unlike
+     * {@link RecursiveBinarySearchTree#of(Comparable[])}, it does not insert elements one by one. The middle element
+     * becomes the root, and the left and right halves of the array are built into the left and right subtrees in
+     * the same way. So each element is visited once, and the depth of the tree is floor(log2(n)).
+     *
+     * @param elements elements sorted in ascending order
+     * @return a new balanced tree of given elements
+     * @throws IllegalArgumentException if elements are not sorted in strictly ascending order (e.g. contain duplicates)
+     * @throws NullPointerException     if any element is null
+     */
+    public static <T extends Comparable<T>> RecursiveBinarySearchTree<T> fromSorted(T... elements) {
+        throw new ExerciseNotCompletedException();
+    }
+
+    /**
+     * Creates a perfectly balanced tree of sorted elements in linear time O(n). It works the same way as
+     * {@link RecursiveBinarySearchTree#fromSorted(Comparable[])}.
+     *
+     * @param elements a list of elements sorted in ascending order
+     * @return a new balanced tree of given elements
+     * @throws IllegalArgumentException if elements are not sorted in strictly ascending order (e.g. contain duplicates)
+     * @throws NullPointerException     if any element is null
+     */
+    public static <T extends Comparable<T>> RecursiveBinarySearchTree<T> fromSorted(List<T> elements) {
+        throw new ExerciseNotCompletedException();
+    }
+
+    /**
+     * Creates a new perfectly balanced tree that contains elements of both trees. Both trees are flattened into
+     * sorted arrays using in-order traversal, the arrays are merged into one sorted array without duplicates, and
+     * the result is built using {@link RecursiveBinarySearchTree#fromSorted(Comparable[])}. So it takes O(n + m) for
+     * trees of n and m elements. Given trees are not changed.
+     *
+     * @param first  a tree to merge
+     * @param second another tree to merge
+     * @return a new balanced tree of elements from both trees
+     */
+    public static <T extends Comparable<T>> RecursiveBinarySearchTree<T> merge(BinarySearchTree<T> first,
+                                                                              BinarySearchTree<T> second) {
+        throw new ExerciseNotCompletedException();
+    }
+
     @Override
     public boolean insert(T element) {
         throw new ExerciseNotCompletedException();
@@ -43,4 +89,39 @@ public class RecursiveBinarySearchTree<T extends Comparable<T>> implements Binar
     public void inOrderTraversal(Consumer<T> consumer) {
         throw new ExerciseNotCompletedException();
     }
+
+    @Override
+    public Optional<T> min() {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public Optional<T> max() {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public Optional<T> floor(T element) {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public Optional<T> ceiling(T element) {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public void rangeTraversal(T from, T to, Consumer<T> consumer) {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public Iterator<T> iterator(T from, T to) {
+        throw new ExerciseNotCompletedException();
+    }
 }
@@ -0,0 +1,101 @@
+package com.bobocode.cs;
+
+import com.bobocode.util.ExerciseNotCompletedException;
+
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * {@link RedBlackBinarySearchTree} is a self-balancing implementation of a {@link BinarySearchTree} (red-black tree).
+ * Like {@link RecursiveBinarySearchTree}, it is based on linked nodes. A tree node is represented as a nested class
+ * {@link Node}. It holds an element, two references to the left and right child nodes, and a boolean field
+ * {@code red} that stores the color of the node.
+ * <p>
+ * The tree keeps the following invariants:
+ * <ul>
+ *     <li>the root is black</li>
+ *     <li>a red node does not have red children</li>
+ *     <li>each path from a node to its empty (null) descendants contains the same number of black nodes</li>
+ * </ul>
+ * A new node is always red. When it breaks the invariants, it is fixed by recoloring and rotations on the way back
+ * to the root. So the longest path is at most twice as long as the shortest one, the depth of the tree is always less
+ * than 2 * log2(n + 1), and {@link RedBlackBinarySearchTree#insert(Comparable)} and
+ * {@link RedBlackBinarySearchTree#contains(Comparable)} are performed in O(log n) for any insertion order, including
+ * sorted elements. Compared to {@link AvlBinarySearchTree}, it is less strictly balanced, but it performs fewer
+ * rotations on insert.
+ *
+ * @param <T> a type of elements that are stored in the tree
+ * @see AvlBinarySearchTree
+ */
+public class RedBlackBinarySearchTree<T extends Comparable<T>> implements BinarySearchTree<T> {
+
+    public static <T extends Comparable<T>> RedBlackBinarySearchTree<T> of(T... elements) {
+        throw new ExerciseNotCompletedException();
+    }
+
+    /**
+     * Inserts an element as a red node, and restores the invariants by recoloring and rotations.
+     *
+     * @return true if element did not exist in the tree and was inserted successfully
+     */
+    @Override
+    public boolean insert(T element) {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public boolean contains(T element) {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public int size() {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public int depth() {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public void inOrderTraversal(Consumer<T> consumer) {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public Optional<T> min() {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public Optional<T> max() {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public Optional<T> floor(T element) {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public Optional<T> ceiling(T element) {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public void rangeTraversal(T from, T to, Consumer<T> consumer) {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public Iterator<T> iterator(T from, T to) {
+        throw new ExerciseNotCompletedException();
+    }
+}
@@ -0,0 +1,151 @@
+package com.bobocode.cs;
+
+import com.bobocode.util.ExerciseNotCompletedException;
+
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * {@link SkipListTree} is an implementation of a {@link BinarySearchTree} that is based on a skip list instead of
+ * a tree. A skip list is a sorted linked list with extra levels of "express lanes". A node is represented as a nested
+ * class. It holds an element and an array of references to the next nodes, one for each level of the node.
+ * <p>
+ * All nodes are linked on the bottom level (level 0). When a node is inserted, its number of levels is chosen
+ * randomly: each next level is added with a probability of 1/2, so about a half of the nodes are linked on level 1,
+ * a quarter on level 2, and so on. A search starts from the head on the highest level, goes right while the next
+ * element is less than the searched one, and then goes one level down. So the search skips most of the nodes, and
+ * {@link SkipListTree#insert(Comparable)} and {@link SkipListTree#contains(Comparable)} are performed in O(log n) on
+ * average for any insertion order. Unlike balanced trees, a skip list never rebalances: an insert changes only
+ * the references of the neighbours of the new node.
+ * <p>
+ * The tree is created in one of two modes:
+ * <ul>
+ *     <li>{@link SkipListTree#SkipListTree()} – a tree for a single thread that uses plain references</li>
+ *     <li>{@link SkipListTree#concurrent()} – a tree that can be used by many threads at the same time without any
+ *     locks, in the style of {@link java.util.concurrent.ConcurrentSkipListSet}. References to the next nodes are
+ *     stored in {@link java.util.concurrent.atomic.AtomicReferenceArray}. A node is first linked on the bottom level
+ *     using compare-and-set (CAS), and this is the moment when it becomes a part of the set. Then it is linked on
+ *     the upper levels one by one from the bottom. If a CAS fails, the thread searches the neighbours on that level
+ *     again and retries. Readers never block, and traversals are weakly consistent: they see all elements that were
+ *     inserted before they started, and may see some elements inserted later</li>
+ * </ul>
+ *
+ * @param <T> a type of elements that are stored in the tree
+ * @see BTree
+ */
+public class SkipListTree<T extends Comparable<T>> implements BinarySearchTree<T> {
+
+    /**
+     * This constructor creates an instance of {@link SkipListTree} that can be used by a single thread.
+     */
+    public SkipListTree() {
+        throw new ExerciseNotCompletedException();
+    }
+
+    /**
+     * Creates a tree that can be safely used by many threads at the same time without any locks.
+     *
+     * @param <T> a type of elements that are stored in the tree
+     * @return a new concurrent tree
+     */
+    public static <T extends Comparable<T>> SkipListTree<T> concurrent() {
+        throw new ExerciseNotCompletedException();
+    }
+
+    public static <T extends Comparable<T>> SkipListTree<T> of(T... elements) {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public boolean insert(T element) {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public boolean contains(T element) {
+        throw new ExerciseNotCompletedException();
+    }
+
+    /**
+     * Returns the number of elements in the tree. In the concurrent mode, the size is kept in an atomic counter, so
+     * when other threads insert elements at the same time, the returned value may be a bit behind.
+     *
+     * @return number of elements in the tree
+     */
+    @Override
+    public int size() {
+        throw new ExerciseNotCompletedException();
+    }
+
+    /**
+     * Returns the number of levels above the bottom level that are used by at least one node. A search goes down
+     * through all these levels, so it is the skip list counterpart of a tree depth. It is O(log n) on average.
+     *
+     * @return the highest level used by any node; 0 - if tree is empty or all nodes are linked only on the bottom
+     * level
+     */
+    @Override
+    public int depth() {
+        throw new ExerciseNotCompletedException();
+    }
+
+    /**
+     * Traverses the tree in element's natural order. It just goes through the bottom level from the head.
+     *
+     * @param consumer accepts ref. to node during traversing
+     */
+    @Override
+    public void inOrderTraversal(Consumer<T> consumer) {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public Optional<T> min() {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public Optional<T> max() {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public Optional<T> floor(T element) {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public Optional<T> ceiling(T element) {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public void rangeTraversal(T from, T to, Consumer<T> consumer) {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        throw new ExerciseNotCompletedException();
+    }
+
+    @Override
+    public Iterator<T> iterator(T from, T to) {
+        throw new ExerciseNotCompletedException();
+    }
+
+    /**
+     * In the single-threaded mode, it is the same as {@link BinarySearchTree#spliterator()}. In the concurrent mode,
+     * other threads may insert elements while the spliterator goes through the bottom level, so the number of
+     * elements is not known in advance. The spliterator is {@link Spliterator#CONCURRENT} and not
+     * {@link Spliterator#SIZED}, and it is weakly consistent like {@link SkipListTree#iterator()}.
+     *
+     * @return a sorted spliterator over all elements
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        throw new ExerciseNotCompletedException();
+    }
+}
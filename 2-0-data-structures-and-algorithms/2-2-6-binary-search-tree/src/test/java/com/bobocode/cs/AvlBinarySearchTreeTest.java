@@ -0,0 +1,268 @@
+package com.bobocode.cs;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+/**
+ * A test class for {@link AvlBinarySearchTree}.
+ * <p>
+ * PLEASE NOTE: we use Reflection API only for learning purposes. It should NOT be used for production tests.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class AvlBinarySearchTreeTest {
+    private static final Predicate<Field> NODE_FIELD = field ->
+            field.getType().getSimpleName().equals("Node");
+
+    private static final Predicate<Field> ELEMENT_FIELD = field ->
+            field.getName().toLowerCase().contains("element")
+            || field.getName().toLowerCase().contains("item")
+            || field.getName().toLowerCase().contains("value");
+
+    private static final Predicate<Field> LEFT_FIELD = field ->
+            field.getName().toLowerCase().contains("left")
+            && field.getType().getSimpleName().equals("Node");
+
+    private static final Predicate<Field> RIGHT_FIELD = field ->
+            field.getName().toLowerCase().contains("right")
+            && field.getType().getSimpleName().equals("Node");
+
+    private static final Predicate<Field> HEIGHT_FIELD = field ->
+            field.getName().toLowerCase().contains("height")
+            && field.getType().equals(int.class);
+
+    private BinarySearchTree<Integer> tree = new AvlBinarySearchTree<>();
+
+    @Test
+    @Order(1)
+    @DisplayName("Node stores an element, left and right children and a height")
+    void properNodeFields() {
+        Class<?> nodeClass = getNodeClass();
+
+        assertThat(Arrays.stream(nodeClass.getDeclaredFields()).anyMatch(ELEMENT_FIELD)).isTrue();
+        assertThat(Arrays.stream(nodeClass.getDeclaredFields()).anyMatch(LEFT_FIELD)).isTrue();
+        assertThat(Arrays.stream(nodeClass.getDeclaredFields()).anyMatch(RIGHT_FIELD)).isTrue();
+        assertThat(Arrays.stream(nodeClass.getDeclaredFields()).anyMatch(HEIGHT_FIELD)).isTrue();
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Method of() creates a tree of given elements")
+    void of() {
+        tree = AvlBinarySearchTree.of(10, 9, 11, 8, 12, 7);
+
+        assertThat(tree.size()).isEqualTo(6);
+        assertThat(inOrderElements()).containsExactly(7, 8, 9, 10, 11, 12);
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Method insert() does not add duplicate elements")
+    void insertDoesNotAddDuplicateElements() {
+        assertThat(tree.insert(10)).isTrue();
+        assertThat(tree.insert(11)).isTrue();
+
+        assertThat(tree.insert(10)).isFalse();
+        assertThat(tree.insert(11)).isFalse();
+        assertThat(tree.size()).isEqualTo(2);
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Methods insert() and contains() throw exception when element is null")
+    void insertAndContainsThrowExceptionWhenElementIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> tree.insert(null));
+        assertThatNullPointerException().isThrownBy(() -> tree.contains(null));
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Method contains() finds only inserted elements")
+    void contains() {
+        tree = AvlBinarySearchTree.of(5, 3, 8, 1, 4);
+
+        assertThat(tree.contains(1)).isTrue();
+        assertThat(tree.contains(8)).isTrue();
+        assertThat(tree.contains(2)).isFalse();
+        assertThat(tree.contains(9)).isFalse();
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("Method insert() fixes a right-right case with a single rotation")
+    void insertRotatesLeft() {
+        tree = AvlBinarySearchTree.of(1, 2, 3);
+
+        assertThat(getElement(getRoot())).isEqualTo(2);
+        assertThat(tree.depth()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("Method insert() fixes a left-right case with a double rotation")
+    void insertRotatesLeftRight() {
+        tree = AvlBinarySearchTree.of(3, 1, 2);
+
+        assertThat(getElement(getRoot())).isEqualTo(2);
+        assertThat(tree.depth()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(8)
+    @DisplayName("Method depth() returns 0 when tree is empty or contains 1 element")
+    void depthOfSmallTree() {
+        assertThat(tree.depth()).isEqualTo(0);
+
+        tree.insert(1);
+
+        assertThat(tree.depth()).isEqualTo(0);
+    }
+
+    @Test
+    @Order(9)
+    @DisplayName("Sorted insertion of 2^k - 1 elements creates a perfect tree")
+    void sortedInsertionCreatesPerfectTree() {
+        IntStream.rangeClosed(1, 1023).forEach(tree::insert);
+
+        assertThat(tree.depth()).isEqualTo(9);
+        assertBalanced();
+    }
+
+    @Test
+    @Order(10)
+    @DisplayName("Tree stays balanced for sorted, reverse-sorted and random insertion orders")
+    void treeStaysBalanced() {
+        Random random = new Random(42);
+        Stream.of(
+                IntStream.range(0, 10_000).toArray(),
+                IntStream.range(0, 10_000).map(i -> 10_000 - i).toArray(),
+                random.ints(10_000, 0, 1_000_000).toArray()
+        ).forEach(elements -> {
+            tree = new AvlBinarySearchTree<>();
+            Arrays.stream(elements).forEach(tree::insert);
+
+            assertBalanced();
+            assertThat(tree.depth()).isLessThan((int) (1.45 * log2(tree.size() + 2)));
+        });
+    }
+
+    @Test
+    @Order(11)
+    @DisplayName("Method inOrderTraversal() visits elements in ascending order")
+    void inOrderTraversal() {
+        int[] elements = new Random(7).ints(1_000, 0, 10_000).distinct().toArray();
+        Arrays.stream(elements).forEach(tree::insert);
+
+        assertThat(inOrderElements()).containsExactly(Arrays.stream(elements).sorted().boxed().toArray());
+    }
+
+    @Test
+    @Order(12)
+    @DisplayName("Million sorted elements are inserted and found in O(log n)")
+    void millionSortedElements() {
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            IntStream.range(0, 1_000_000).forEach(tree::insert);
+            IntStream.range(0, 1_000_000).forEach(i -> assertThat(tree.contains(i)).isTrue());
+        });
+
+        assertThat(tree.size()).isEqualTo(1_000_000);
+        assertThat(tree.depth()).isLessThan((int) (1.45 * log2(1_000_002)));
+    }
+
+    private static double log2(int value) {
+        return Math.log(value) / Math.log(2);
+    }
+
+    private Object[] inOrderElements() {
+        Stream.Builder<Integer> elements = Stream.builder();
+        tree.inOrderTraversal(elements);
+        return elements.build().toArray();
+    }
+
+    /**
+     * Checks the AVL invariant: heights of left and right subtrees of each node differ at most by one. Heights are
+     * calculated from the node structure, and compared to the heights stored in the nodes. A leaf may store either
+     * 0 or 1, so stored heights are compared relative to a leaf height.
+     */
+    private void assertBalanced() {
+        checkHeight(getRoot(), getHeight(getFirstLeaf()));
+    }
+
+    private int checkHeight(Object node, int leafHeight) {
+        if (node == null) {
+            return -1;
+        }
+        int leftHeight = checkHeight(getLeft(node), leafHeight);
+        int rightHeight = checkHeight(getRight(node), leafHeight);
+        assertThat(Math.abs(leftHeight - rightHeight)).isLessThanOrEqualTo(1);
+        int height = Math.max(leftHeight, rightHeight) + 1;
+        assertThat(getHeight(node) - leafHeight).isEqualTo(height);
+        return height;
+    }
+
+    private Object getFirstLeaf() {
+        Object node = getRoot();
+        while (getLeft(node) != null || getRight(node) != null) {
+            node = getLeft(node) != null ? getLeft(node) : getRight(node);
+        }
+        return node;
+    }
+
+    private Class<?> getNodeClass() {
+        return Arrays.stream(AvlBinarySearchTree.class.getDeclaredClasses())
+                .filter(Class::isMemberClass)
+                .findAny()
+                .orElseThrow();
+    }
+
+    @SneakyThrows
+    private Object getRoot() {
+        Field rootField = Arrays.stream(AvlBinarySearchTree.class.getDeclaredFields())
+                .filter(NODE_FIELD)
+                .findAny()
+                .orElseThrow();
+        rootField.setAccessible(true);
+        return rootField.get(tree);
+    }
+
+    @SneakyThrows
+    private Object getNodeField(Object node, Predicate<Field> predicate) {
+        Field field = Arrays.stream(getNodeClass().getDeclaredFields())
+                .filter(predicate)
+                .findAny()
+                .orElseThrow();
+        field.setAccessible(true);
+        return field.get(node);
+    }
+
+    private int getElement(Object node) {
+        return (int) getNodeField(node, ELEMENT_FIELD);
+    }
+
+    private Object getLeft(Object node) {
+        return getNodeField(node, LEFT_FIELD);
+    }
+
+    private Object getRight(Object node) {
+        return getNodeField(node, RIGHT_FIELD);
+    }
+
+    private int getHeight(Object node) {
+        return (int) getNodeField(node, HEIGHT_FIELD);
+    }
+}
@@ -0,0 +1,249 @@
+package com.bobocode.cs;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+/**
+ * A test class for {@link BTree}.
+ * <p>
+ * PLEASE NOTE: we use Reflection API only for learning purposes. It should NOT be used for production tests.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class BTreeTest {
+    private static final Predicate<Field> KEYS_FIELD = field ->
+            field.getName().toLowerCase().contains("key") && field.getType().isArray();
+
+    private static final Predicate<Field> CHILDREN_FIELD = field ->
+            field.getName().toLowerCase().contains("child") && field.getType().isArray();
+
+    private static final Predicate<Field> COUNT_FIELD = field ->
+            (field.getName().toLowerCase().contains("size") || field.getName().toLowerCase().contains("count")
+                    || field.getName().toLowerCase().contains("length"))
+            && field.getType().equals(int.class);
+
+    private static final Predicate<Field> NEXT_FIELD = field ->
+            field.getName().toLowerCase().contains("next");
+
+    private BinarySearchTree<Integer> tree = new BTree<>(4);
+
+    @Test
+    @Order(1)
+    @DisplayName("Leaf node stores keys in an array and a reference to the next leaf")
+    void properLeafFields() {
+        Class<?> leafClass = getLeafClass();
+
+        assertThat(findField(leafClass, KEYS_FIELD)).isNotNull();
+        assertThat(findField(leafClass, COUNT_FIELD)).isNotNull();
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Internal node stores keys and children in arrays")
+    void properInternalNodeFields() {
+        boolean hasInternalNode = Arrays.stream(BTree.class.getDeclaredClasses())
+                .anyMatch(nodeClass -> findField(nodeClass, KEYS_FIELD) != null
+                        && findField(nodeClass, CHILDREN_FIELD) != null);
+
+        assertThat(hasInternalNode).isTrue();
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Constructor throws exception when fan-out is less than 3")
+    void createTreeWithWrongFanOut() {
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> new BTree<>(2));
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> new BTree<>(-1));
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Method of() creates a tree of given elements")
+    void of() {
+        tree = BTree.of(10, 9, 11, 8, 12, 7);
+
+        assertThat(tree.size()).isEqualTo(6);
+        assertThat(inOrderElements()).containsExactly(7, 8, 9, 10, 11, 12);
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Method insert() does not add duplicate elements")
+    void insertDoesNotAddDuplicateElements() {
+        IntStream.range(0, 20).forEach(tree::insert);
+
+        IntStream.range(0, 20).forEach(element -> assertThat(tree.insert(element)).isFalse());
+        assertThat(tree.size()).isEqualTo(20);
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("Methods insert() and contains() throw exception when element is null")
+    void insertAndContainsThrowExceptionWhenElementIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> tree.insert(null));
+        assertThatNullPointerException().isThrownBy(() -> tree.contains(null));
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("Method contains() finds only inserted elements after many splits")
+    void contains() {
+        int[] elements = new Random(3).ints(10_000, 0, 1_000_000).map(i -> i * 2).toArray();
+        Arrays.stream(elements).forEach(tree::insert);
+
+        Arrays.stream(elements).forEach(element -> {
+            assertThat(tree.contains(element)).isTrue();
+            assertThat(tree.contains(element + 1)).isFalse();
+        });
+    }
+
+    @Test
+    @Order(8)
+    @DisplayName("Method depth() grows when the root is split")
+    void depth() {
+        assertThat(tree.depth()).isEqualTo(0);
+
+        tree.insert(1);
+        tree.insert(2);
+        tree.insert(3);
+
+        assertThat(tree.depth()).isEqualTo(0);
+
+        tree.insert(4);
+
+        assertThat(tree.depth()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(9)
+    @DisplayName("Depth of the tree is logarithmic with the base of a half fan-out")
+    void depthIsLogarithmic() {
+        tree = new BTree<>(64);
+        IntStream.range(0, 1_000_000).forEach(tree::insert);
+
+        assertThat(tree.depth()).isLessThanOrEqualTo((int) Math.ceil(Math.log(1_000_000) / Math.log(32)));
+    }
+
+    @Test
+    @Order(10)
+    @DisplayName("Method inOrderTraversal() visits elements in ascending order")
+    void inOrderTraversal() {
+        int[] elements = new Random(7).ints(1_000, 0, 10_000).distinct().toArray();
+        Arrays.stream(elements).forEach(tree::insert);
+
+        assertThat(inOrderElements()).containsExactly(Arrays.stream(elements).sorted().boxed().toArray());
+    }
+
+    @Test
+    @Order(11)
+    @DisplayName("Leaves are linked and hold all elements in ascending order")
+    void leavesAreLinked() {
+        new Random(9).ints(5_000, 0, 100_000).forEach(tree::insert);
+
+        int count = 0;
+        int previous = Integer.MIN_VALUE;
+        for (Object leaf = getLeftmostLeaf(); leaf != null; leaf = getFieldValue(leaf, NEXT_FIELD)) {
+            Object[] keys = getFieldValue(leaf, KEYS_FIELD);
+            int keyCount = getFieldValue(leaf, COUNT_FIELD);
+            assertThat(keyCount).isLessThanOrEqualTo(3);
+            for (int i = 0; i < keyCount; i++) {
+                assertThat((int) keys[i]).isGreaterThan(previous);
+                previous = (int) keys[i];
+                count++;
+            }
+        }
+
+        assertThat(count).isEqualTo(tree.size());
+    }
+
+    @Test
+    @Order(12)
+    @DisplayName("Million random elements are inserted and found in O(log n)")
+    void millionRandomElements() {
+        tree = new BTree<>();
+        int[] elements = new Random(1).ints(1_000_000).toArray();
+
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            Arrays.stream(elements).forEach(tree::insert);
+            Arrays.stream(elements).forEach(element -> assertThat(tree.contains(element)).isTrue());
+        });
+    }
+
+    private Object[] inOrderElements() {
+        Stream.Builder<Integer> elements = Stream.builder();
+        tree.inOrderTraversal(elements);
+        return elements.build().toArray();
+    }
+
+    private Object getLeftmostLeaf() {
+        Class<?> leafClass = getLeafClass();
+        Object node = getRoot();
+        while (!leafClass.isInstance(node)) {
+            Object[] children = getFieldValue(node, CHILDREN_FIELD);
+            node = children[0];
+        }
+        return node;
+    }
+
+    /**
+     * Finds a leaf class, which is a nested class that has a reference to the next node of the same class.
+     */
+    private Class<?> getLeafClass() {
+        return Arrays.stream(BTree.class.getDeclaredClasses())
+                .filter(nodeClass -> {
+                    Field next = findField(nodeClass, NEXT_FIELD);
+                    return next != null && next.getType().isAssignableFrom(nodeClass);
+                })
+                .findAny()
+                .orElseThrow();
+    }
+
+    @SneakyThrows
+    private Object getRoot() {
+        Field rootField = Arrays.stream(BTree.class.getDeclaredFields())
+                .filter(field -> field.getType().getDeclaringClass() == BTree.class)
+                .findAny()
+                .orElseThrow();
+        rootField.setAccessible(true);
+        return rootField.get(tree);
+    }
+
+    /**
+     * Finds a field in a class or its superclasses, because common fields can be declared in a base node class.
+     */
+    private Field findField(Class<?> type, Predicate<Field> predicate) {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            Field field = Arrays.stream(current.getDeclaredFields())
+                    .filter(predicate)
+                    .findAny()
+                    .orElse(null);
+            if (field != null) {
+                field.setAccessible(true);
+                return field;
+            }
+        }
+        return null;
+    }
+
+    @SneakyThrows
+    @SuppressWarnings("unchecked")
+    private <V> V getFieldValue(Object node, Predicate<Field> predicate) {
+        return (V) findField(node.getClass(), predicate).get(node);
+    }
+}
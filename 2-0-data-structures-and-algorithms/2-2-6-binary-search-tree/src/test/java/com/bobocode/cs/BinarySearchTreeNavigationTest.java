@@ -0,0 +1,294 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Named;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+/**
+ * A test class for navigation methods of {@link BinarySearchTree}: {@link BinarySearchTree#min()},
+ * {@link BinarySearchTree#max()}, {@link BinarySearchTree#floor(Comparable)},
+ * {@link BinarySearchTree#ceiling(Comparable)}, range traversal and ordered iteration. All the tests are run for each
+ * implementation of the tree.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class BinarySearchTreeNavigationTest {
+    private static final String CONCURRENT_SKIP_LIST_TREE = "concurrent SkipListTree";
+    private static final int BIG_TREE_SIZE = (1 << 15) - 1;
+    private static final Integer[] someElements = {50, 30, 70, 20, 40, 60, 80, 35, 65};
+
+    private static int comparisons;
+
+    /**
+     * Creates an empty tree of any element type. A method reference to a generic constructor can implement this
+     * generic method, so the same factory is used both for {@link Integer} and {@link Key} trees.
+     */
+    interface TreeFactory {
+        <T extends Comparable<T>> BinarySearchTree<T> create();
+    }
+
+    /**
+     * An element that counts how many times it is compared, so the tests can check that a tree does not visit
+     * subtrees that are out of the range.
+     */
+    record Key(int value) implements Comparable<Key> {
+        @Override
+        public int compareTo(Key other) {
+            comparisons++;
+            return Integer.compare(value, other.value);
+        }
+    }
+
+    static Stream<Arguments> treeFactories() {
+        return Stream.of(
+                Arguments.of(Named.<TreeFactory>of("RecursiveBinarySearchTree", RecursiveBinarySearchTree::new)),
+                Arguments.of(Named.<TreeFactory>of("IterativeBinarySearchTree", IterativeBinarySearchTree::new)),
+                Arguments.of(Named.<TreeFactory>of("AvlBinarySearchTree", AvlBinarySearchTree::new)),
+                Arguments.of(Named.<TreeFactory>of("RedBlackBinarySearchTree", RedBlackBinarySearchTree::new)),
+                Arguments.of(Named.<TreeFactory>of("OrderStatisticBinarySearchTree",
+                        OrderStatisticBinarySearchTree::new)),
+                Arguments.of(Named.<TreeFactory>of("BTree", BTree::new)),
+                Arguments.of(Named.<TreeFactory>of("ConcurrentBinarySearchTree", ConcurrentBinarySearchTree::new)),
+                Arguments.of(Named.<TreeFactory>of("SkipListTree", SkipListTree::new)),
+                Arguments.of(Named.<TreeFactory>of(CONCURRENT_SKIP_LIST_TREE, SkipListTree::concurrent))
+        );
+    }
+
+    /**
+     * All trees except the concurrent {@link SkipListTree}, whose spliterator is not sized (see
+     * {@link SkipListTreeTest}).
+     */
+    static Stream<Arguments> sizedTreeFactories() {
+        return treeFactories()
+                .filter(arguments -> !((Named<?>) arguments.get()[0]).getName().equals(CONCURRENT_SKIP_LIST_TREE));
+    }
+
+    @Order(1)
+    @ParameterizedTest
+    @MethodSource("treeFactories")
+    @DisplayName("Methods min(), max(), floor() and ceiling() return empty optional when tree is empty")
+    void navigationOnEmptyTree(TreeFactory factory) {
+        BinarySearchTree<Integer> tree = factory.create();
+
+        assertThat(tree.min()).isEmpty();
+        assertThat(tree.max()).isEmpty();
+        assertThat(tree.floor(1)).isEmpty();
+        assertThat(tree.ceiling(1)).isEmpty();
+    }
+
+    @Order(2)
+    @ParameterizedTest
+    @MethodSource("treeFactories")
+    @DisplayName("Methods min() and max() return the smallest and the greatest elements")
+    void minAndMax(TreeFactory factory) {
+        BinarySearchTree<Integer> tree = createTree(factory, someElements);
+
+        assertThat(tree.min()).contains(20);
+        assertThat(tree.max()).contains(80);
+    }
+
+    @Order(3)
+    @ParameterizedTest
+    @MethodSource("treeFactories")
+    @DisplayName("Method floor() returns the greatest element less than or equal to the given one")
+    void floor(TreeFactory factory) {
+        BinarySearchTree<Integer> tree = createTree(factory, someElements);
+
+        assertThat(tree.floor(40)).contains(40);
+        assertThat(tree.floor(39)).contains(35);
+        assertThat(tree.floor(64)).contains(60);
+        assertThat(tree.floor(100)).contains(80);
+        assertThat(tree.floor(19)).isEmpty();
+    }
+
+    @Order(4)
+    @ParameterizedTest
+    @MethodSource("treeFactories")
+    @DisplayName("Method ceiling() returns the smallest element greater than or equal to the given one")
+    void ceiling(TreeFactory factory) {
+        BinarySearchTree<Integer> tree = createTree(factory, someElements);
+
+        assertThat(tree.ceiling(40)).contains(40);
+        assertThat(tree.ceiling(41)).contains(50);
+        assertThat(tree.ceiling(31)).contains(35);
+        assertThat(tree.ceiling(0)).contains(20);
+        assertThat(tree.ceiling(81)).isEmpty();
+    }
+
+    @Order(5)
+    @ParameterizedTest
+    @MethodSource("treeFactories")
+    @DisplayName("Methods floor() and ceiling() throw exception when element is null")
+    void floorAndCeilingThrowExceptionWhenElementIsNull(TreeFactory factory) {
+        BinarySearchTree<Integer> tree = createTree(factory, someElements);
+
+        assertThatNullPointerException().isThrownBy(() -> tree.floor(null));
+        assertThatNullPointerException().isThrownBy(() -> tree.ceiling(null));
+    }
+
+    @Order(6)
+    @ParameterizedTest
+    @MethodSource("treeFactories")
+    @DisplayName("Method rangeTraversal() visits elements of an inclusive range in ascending order")
+    void rangeTraversal(TreeFactory factory) {
+        BinarySearchTree<Integer> tree = createTree(factory, someElements);
+
+        assertThat(rangeElements(tree, 30, 65)).containsExactly(30, 35, 40, 50, 60, 65);
+        assertThat(rangeElements(tree, 31, 64)).containsExactly(35, 40, 50, 60);
+        assertThat(rangeElements(tree, 0, 100)).containsExactly(20, 30, 35, 40, 50, 60, 65, 70, 80);
+        assertThat(rangeElements(tree, 41, 49)).isEmpty();
+        assertThat(rangeElements(tree, 70, 70)).containsExactly(70);
+    }
+
+    @Order(7)
+    @ParameterizedTest
+    @MethodSource("treeFactories")
+    @DisplayName("Methods rangeTraversal() and iterator() throw exception when range is reversed")
+    void rangeThrowsExceptionWhenFromIsGreaterThanTo(TreeFactory factory) {
+        BinarySearchTree<Integer> tree = createTree(factory, someElements);
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> tree.rangeTraversal(40, 30, element -> {
+                }));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> tree.iterator(40, 30));
+    }
+
+    @Order(8)
+    @ParameterizedTest
+    @MethodSource("treeFactories")
+    @DisplayName("Method rangeTraversal() does not visit subtrees out of the range")
+    void rangeTraversalPrunesSubtrees(TreeFactory factory) {
+        BinarySearchTree<Key> tree = createBalancedKeyTree(factory);
+        Stream.Builder<Key> elements = Stream.builder();
+
+        comparisons = 0;
+        tree.rangeTraversal(new Key(1000), new Key(1009), elements);
+
+        assertThat(elements.build().map(Key::value)).containsExactly(1000, 1001, 1002, 1003, 1004, 1005, 1006, 1007,
+                1008, 1009);
+        assertThat(comparisons).isLessThan(200);
+    }
+
+    @Order(9)
+    @ParameterizedTest
+    @MethodSource("treeFactories")
+    @DisplayName("Method iterator() returns all elements in ascending order")
+    void iterator(TreeFactory factory) {
+        BinarySearchTree<Integer> tree = createTree(factory, someElements);
+        Stream.Builder<Integer> elements = Stream.builder();
+
+        Iterator<Integer> iterator = tree.iterator();
+        while (iterator.hasNext()) {
+            elements.add(iterator.next());
+        }
+
+        assertThat(elements.build()).containsExactly(20, 30, 35, 40, 50, 60, 65, 70, 80);
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(iterator::next);
+    }
+
+    @Order(10)
+    @ParameterizedTest
+    @MethodSource("treeFactories")
+    @DisplayName("Method iterator() of an empty tree has no elements")
+    void iteratorOfEmptyTree(TreeFactory factory) {
+        BinarySearchTree<Integer> tree = factory.create();
+
+        assertThat(tree.iterator().hasNext()).isFalse();
+        assertThat(tree.iterator(0, 100).hasNext()).isFalse();
+    }
+
+    @Order(11)
+    @ParameterizedTest
+    @MethodSource("treeFactories")
+    @DisplayName("Method iterator(from, to) returns elements of an inclusive range in ascending order")
+    void rangeIterator(TreeFactory factory) {
+        BinarySearchTree<Integer> tree = createTree(factory, someElements);
+
+        assertThat(tree.iterator(35, 70)).toIterable().containsExactly(35, 40, 50, 60, 65, 70);
+        assertThat(tree.iterator(21, 34)).toIterable().containsExactly(30);
+        assertThat(tree.iterator(81, 100)).toIterable().isEmpty();
+    }
+
+    @Order(12)
+    @ParameterizedTest
+    @MethodSource("treeFactories")
+    @DisplayName("Method iterator(from, to) finds elements lazily")
+    void rangeIteratorIsLazy(TreeFactory factory) {
+        BinarySearchTree<Key> tree = createBalancedKeyTree(factory);
+
+        comparisons = 0;
+        Iterator<Key> iterator = tree.iterator(new Key(2000), new Key(BIG_TREE_SIZE));
+        Key first = iterator.next();
+        Key second = iterator.next();
+
+        assertThat(first.value()).isEqualTo(2000);
+        assertThat(second.value()).isEqualTo(2001);
+        assertThat(comparisons).isLessThan(100);
+    }
+
+    @Order(13)
+    @ParameterizedTest
+    @MethodSource("sizedTreeFactories")
+    @DisplayName("Method spliterator() is sized and sorted")
+    void spliterator(TreeFactory factory) {
+        BinarySearchTree<Integer> tree = createTree(factory, someElements);
+
+        Spliterator<Integer> spliterator = tree.spliterator();
+
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED)).isTrue();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SORTED)).isTrue();
+        assertThat(spliterator.getExactSizeIfKnown()).isEqualTo(someElements.length);
+        assertThat(StreamSupport.stream(spliterator, false)).containsExactly(20, 30, 35, 40, 50, 60, 65, 70, 80);
+    }
+
+    @Order(14)
+    @ParameterizedTest
+    @MethodSource("treeFactories")
+    @DisplayName("Method spliterator(from, to) streams elements of an inclusive range")
+    void rangeSpliterator(TreeFactory factory) {
+        BinarySearchTree<Integer> tree = createTree(factory, someElements);
+
+        assertThat(StreamSupport.stream(tree.spliterator(30, 60), false)).containsExactly(30, 35, 40, 50, 60);
+    }
+
+    private BinarySearchTree<Integer> createTree(TreeFactory factory, Integer... elements) {
+        BinarySearchTree<Integer> tree = factory.create();
+        Stream.of(elements).forEach(tree::insert);
+        return tree;
+    }
+
+    /**
+     * Creates a tree of keys from 0 to {@link BinarySearchTreeNavigationTest#BIG_TREE_SIZE} (exclusive). The keys
+     * are inserted middle first, so even a tree that is not self-balancing becomes a perfect tree.
+     */
+    private BinarySearchTree<Key> createBalancedKeyTree(TreeFactory factory) {
+        BinarySearchTree<Key> tree = factory.create();
+        for (int step = BIG_TREE_SIZE + 1; step > 1; step /= 2) {
+            for (int value = step / 2 - 1; value < BIG_TREE_SIZE; value += step) {
+                tree.insert(new Key(value));
+            }
+        }
+        return tree;
+    }
+
+    private Object[] rangeElements(BinarySearchTree<Integer> tree, int from, int to) {
+        Stream.Builder<Integer> elements = Stream.builder();
+        tree.rangeTraversal(from, to, elements);
+        return elements.build().toArray();
+    }
+}
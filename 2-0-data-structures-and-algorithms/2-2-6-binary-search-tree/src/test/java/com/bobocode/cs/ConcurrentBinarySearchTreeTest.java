@@ -0,0 +1,359 @@
+package com.bobocode.cs;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+/**
+ * A test class for {@link ConcurrentBinarySearchTree}.
+ * <p>
+ * PLEASE NOTE: we use Reflection API only for learning purposes. It should NOT be used for production tests.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ConcurrentBinarySearchTreeTest {
+    private static final int THREADS = 8;
+    private static final int ELEMENTS_PER_THREAD = 20_000;
+
+    private BinarySearchTree<Integer> tree = new ConcurrentBinarySearchTree<>();
+
+    @Test
+    @Order(1)
+    @DisplayName("Root is an atomic reference")
+    void rootIsAtomicReference() {
+        boolean hasAtomicRoot = Arrays.stream(ConcurrentBinarySearchTree.class.getDeclaredFields())
+                .anyMatch(field -> field.getType().equals(AtomicReference.class));
+
+        assertThat(hasAtomicRoot).isTrue();
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Node is immutable")
+    void nodeIsImmutable() {
+        Class<?> nodeClass = getNodeClass();
+
+        assertThat(nodeClass.getDeclaredFields()).isNotEmpty();
+        assertThat(Arrays.stream(nodeClass.getDeclaredFields())
+                .filter(field -> !field.isSynthetic())
+                .allMatch(field -> Modifier.isFinal(field.getModifiers())))
+                .isTrue();
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Tree does not use locks")
+    void treeDoesNotUseLocks() {
+        boolean hasSynchronizedMethods = Arrays.stream(ConcurrentBinarySearchTree.class.getDeclaredMethods())
+                .anyMatch(method -> Modifier.isSynchronized(method.getModifiers()));
+        boolean hasLockFields = Arrays.stream(ConcurrentBinarySearchTree.class.getDeclaredFields())
+                .anyMatch(field -> Lock.class.isAssignableFrom(field.getType()));
+
+        assertThat(hasSynchronizedMethods).isFalse();
+        assertThat(hasLockFields).isFalse();
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Method of() creates a tree of given elements")
+    void of() {
+        tree = ConcurrentBinarySearchTree.of(10, 9, 11, 8, 12, 7);
+
+        assertThat(tree.size()).isEqualTo(6);
+        assertThat(inOrderElements()).containsExactly(7, 8, 9, 10, 11, 12);
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Method insert() does not add duplicate elements")
+    void insertDoesNotAddDuplicateElements() {
+        assertThat(tree.insert(10)).isTrue();
+        assertThat(tree.insert(5)).isTrue();
+
+        assertThat(tree.insert(10)).isFalse();
+        assertThat(tree.insert(5)).isFalse();
+        assertThat(tree.size()).isEqualTo(2);
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("Methods insert() and contains() throw exception when element is null")
+    void insertAndContainsThrowExceptionWhenElementIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> tree.insert(null));
+        assertThatNullPointerException().isThrownBy(() -> tree.contains(null));
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("Methods contains() and depth() work on a balanced tree")
+    void containsAndDepth() {
+        tree = ConcurrentBinarySearchTree.of(6, 2, 7, 1, 5, 8, 4, 9, 3);
+
+        assertThat(tree.contains(4)).isTrue();
+        assertThat(tree.contains(10)).isFalse();
+        assertThat(tree.depth()).isEqualTo(3);
+    }
+
+    @Test
+    @Order(8)
+    @DisplayName("Method insert() does not change nodes of the old tree")
+    void insertCopiesPath() {
+        tree = ConcurrentBinarySearchTree.of(5, 3, 8);
+        Object oldRoot = getRoot();
+
+        tree.insert(4);
+
+        assertThat(getRoot()).isNotSameAs(oldRoot);
+        assertThat(countNodes(oldRoot)).isEqualTo(3);
+        assertThat(countNodes(getRoot())).isEqualTo(4);
+    }
+
+    @Test
+    @Order(9)
+    @DisplayName("Iterator and traversal work with a snapshot of the tree")
+    void iteratorWorksWithSnapshot() {
+        tree = ConcurrentBinarySearchTree.of(5, 3, 8);
+        Iterator<Integer> iterator = tree.iterator();
+        Stream.Builder<Integer> traversed = Stream.builder();
+
+        tree.inOrderTraversal(element -> {
+            traversed.add(element);
+            tree.insert(element + 100);
+        });
+        tree.insert(1);
+        tree.insert(10);
+
+        assertThat(iterator).toIterable().containsExactly(3, 5, 8);
+        assertThat(traversed.build()).containsExactly(3, 5, 8);
+        assertThat(tree.size()).isEqualTo(8);
+    }
+
+    @Test
+    @Order(10)
+    @DisplayName("Elements inserted by many threads are all in the tree")
+    void concurrentInserts() {
+        int[][] elements = randomPartitions();
+        AtomicInteger inserted = new AtomicInteger();
+
+        assertTimeoutPreemptively(Duration.ofSeconds(20), () -> runInParallel(thread -> {
+            for (int element : elements[thread]) {
+                if (tree.insert(element)) {
+                    inserted.incrementAndGet();
+                }
+            }
+        }));
+
+        assertThat(inserted.get()).isEqualTo(THREADS * ELEMENTS_PER_THREAD);
+        assertThat(tree.size()).isEqualTo(THREADS * ELEMENTS_PER_THREAD);
+        Arrays.stream(elements).flatMapToInt(Arrays::stream)
+                .forEach(element -> assertThat(tree.contains(element)).isTrue());
+    }
+
+    @Test
+    @Order(11)
+    @DisplayName("An element inserted by many threads at the same time is inserted exactly once")
+    void concurrentInsertsOfSameElements() {
+        int[] elements = new Random(21).ints(0, 1_000_000).distinct().limit(ELEMENTS_PER_THREAD).toArray();
+        AtomicInteger inserted = new AtomicInteger();
+
+        assertTimeoutPreemptively(Duration.ofSeconds(20), () -> runInParallel(thread -> {
+            for (int element : elements) {
+                if (tree.insert(element)) {
+                    inserted.incrementAndGet();
+                }
+            }
+        }));
+
+        assertThat(inserted.get()).isEqualTo(ELEMENTS_PER_THREAD);
+        assertThat(tree.size()).isEqualTo(ELEMENTS_PER_THREAD);
+    }
+
+    @Test
+    @Order(12)
+    @DisplayName("Readers see consistent snapshots while a writer inserts elements")
+    void readersSeeConsistentSnapshots() {
+        int[] elements = new Random(13).ints(0, 10_000_000).distinct().limit(50_000).toArray();
+        AtomicInteger published = new AtomicInteger();
+        AtomicBoolean done = new AtomicBoolean();
+
+        assertTimeoutPreemptively(Duration.ofSeconds(20), () -> runInParallel(thread -> {
+            if (thread == 0) {
+                for (int element : elements) {
+                    tree.insert(element);
+                    published.incrementAndGet();
+                }
+                done.set(true);
+                return;
+            }
+            int previousCount = 0;
+            while (!done.get() && !Thread.currentThread().isInterrupted()) {
+                int visible = published.get();
+                for (int i = Math.max(0, visible - 10); i < visible; i++) {
+                    assertThat(tree.contains(elements[i])).isTrue();
+                }
+                int[] count = {0};
+                int[] previous = {Integer.MIN_VALUE};
+                tree.inOrderTraversal(element -> {
+                    assertThat(element).isGreaterThan(previous[0]);
+                    previous[0] = element;
+                    count[0]++;
+                });
+                assertThat(count[0]).isGreaterThanOrEqualTo(previousCount);
+                previousCount = count[0];
+            }
+        }));
+
+        assertThat(tree.size()).isEqualTo(elements.length);
+    }
+
+    @Test
+    @Order(13)
+    @DisplayName("Stream of the tree is sized and sorted while a writer inserts elements")
+    void streamWorksWithSnapshot() {
+        int[] elements = new Random(19).ints(0, 10_000_000).distinct().limit(50_000).toArray();
+        AtomicBoolean done = new AtomicBoolean();
+
+        assertTimeoutPreemptively(Duration.ofSeconds(20), () -> runInParallel(thread -> {
+            if (thread == 0) {
+                for (int element : elements) {
+                    tree.insert(element);
+                }
+                done.set(true);
+                return;
+            }
+            while (!done.get() && !Thread.currentThread().isInterrupted()) {
+                Spliterator<Integer> spliterator = tree.spliterator();
+                long size = spliterator.getExactSizeIfKnown();
+                Integer[] streamed = StreamSupport.stream(spliterator, thread % 2 == 0).toArray(Integer[]::new);
+
+                assertThat(size).isNotNegative();
+                assertThat(streamed).hasSize((int) size).isSorted();
+            }
+        }));
+
+        assertThat(tree.spliterator().getExactSizeIfKnown()).isEqualTo(elements.length);
+    }
+
+    @Test
+    @Order(14)
+    @DisplayName("Tree stays balanced when elements are inserted in sorted order")
+    void treeStaysBalanced() {
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            for (int i = 0; i < 100_000; i++) {
+                tree.insert(i);
+            }
+        });
+
+        assertThat(tree.size()).isEqualTo(100_000);
+        assertThat(tree.depth()).isLessThan((int) (1.45 * log2(100_002)));
+    }
+
+    private int[][] randomPartitions() {
+        int[] shuffled = new Random(17).ints(0, 100_000_000).distinct().limit(THREADS * ELEMENTS_PER_THREAD)
+                .toArray();
+        return IntStream.range(0, THREADS)
+                .mapToObj(thread -> Arrays.copyOfRange(shuffled, thread * ELEMENTS_PER_THREAD,
+                        (thread + 1) * ELEMENTS_PER_THREAD))
+                .toArray(int[][]::new);
+    }
+
+    private Object[] inOrderElements() {
+        Stream.Builder<Integer> elements = Stream.builder();
+        tree.inOrderTraversal(elements);
+        return elements.build().toArray();
+    }
+
+    private static double log2(int value) {
+        return Math.log(value) / Math.log(2);
+    }
+
+    private Class<?> getNodeClass() {
+        return Arrays.stream(ConcurrentBinarySearchTree.class.getDeclaredClasses())
+                .filter(Class::isMemberClass)
+                .findAny()
+                .orElseThrow();
+    }
+
+    @SneakyThrows
+    private Object getRoot() {
+        Field rootField = Arrays.stream(ConcurrentBinarySearchTree.class.getDeclaredFields())
+                .filter(field -> field.getType().equals(AtomicReference.class))
+                .findAny()
+                .orElseThrow();
+        rootField.setAccessible(true);
+        return ((AtomicReference<?>) rootField.get(tree)).get();
+    }
+
+    /**
+     * Counts nodes that are reachable from the given node through any fields of a node type.
+     */
+    @SneakyThrows
+    private int countNodes(Object node) {
+        if (node == null) {
+            return 0;
+        }
+        int count = 1;
+        for (Field field : getNodeClass().getDeclaredFields()) {
+            if (field.getType().equals(getNodeClass())) {
+                field.setAccessible(true);
+                count += countNodes(field.get(node));
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Runs the task in {@link ConcurrentBinarySearchTreeTest#THREADS} threads at the same time, and waits until all
+     * of them are finished. The task receives a thread index. If any task fails or the waiting thread is interrupted,
+     * all other tasks are interrupted, so a test never leaves busy threads behind.
+     */
+    @SneakyThrows
+    private void runInParallel(IntConsumer task) {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            CompletionService<Void> completion = new ExecutorCompletionService<>(executor);
+            CountDownLatch start = new CountDownLatch(1);
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                completion.submit(() -> {
+                    start.await();
+                    task.accept(thread);
+                    return null;
+                });
+            }
+            start.countDown();
+            for (int t = 0; t < THREADS; t++) {
+                completion.take().get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
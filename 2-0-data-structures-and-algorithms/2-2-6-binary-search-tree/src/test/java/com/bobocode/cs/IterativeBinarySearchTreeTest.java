@@ -0,0 +1,266 @@
+package com.bobocode.cs;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+/**
+ * A test class for {@link IterativeBinarySearchTree}.
+ * <p>
+ * PLEASE NOTE: we use Reflection API only for learning purposes. It should NOT be used for production tests.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class IterativeBinarySearchTreeTest {
+    private static final int DEGENERATE_TREE_SIZE = 10_000_000;
+
+    private static final Predicate<Field> NODE_FIELD = field ->
+            field.getType().getSimpleName().equals("Node");
+
+    private static final Predicate<Field> SIZE_FIELD = field ->
+            field.getName().toLowerCase().contains("size") || field.getName().toLowerCase().contains("length");
+
+    private static final Predicate<Field> ELEMENT_FIELD = field ->
+            field.getName().toLowerCase().contains("element")
+            || field.getName().toLowerCase().contains("item")
+            || field.getName().toLowerCase().contains("value");
+
+    private static final Predicate<Field> LEFT_FIELD = field ->
+            field.getName().toLowerCase().contains("left")
+            && field.getType().getSimpleName().equals("Node");
+
+    private static final Predicate<Field> RIGHT_FIELD = field ->
+            field.getName().toLowerCase().contains("right")
+            && field.getType().getSimpleName().equals("Node");
+
+    private BinarySearchTree<Integer> tree = new IterativeBinarySearchTree<>();
+
+    @Test
+    @Order(1)
+    @DisplayName("Node stores an element and left and right children")
+    void properNodeFields() {
+        Class<?> nodeClass = getNodeClass();
+
+        assertThat(Arrays.stream(nodeClass.getDeclaredFields()).anyMatch(ELEMENT_FIELD)).isTrue();
+        assertThat(Arrays.stream(nodeClass.getDeclaredFields()).anyMatch(LEFT_FIELD)).isTrue();
+        assertThat(Arrays.stream(nodeClass.getDeclaredFields()).anyMatch(RIGHT_FIELD)).isTrue();
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Method of() creates a tree of given elements")
+    void of() {
+        tree = IterativeBinarySearchTree.of(10, 9, 11, 8, 12, 7);
+
+        assertThat(tree.size()).isEqualTo(6);
+        assertThat(inOrderElements()).containsExactly(7, 8, 9, 10, 11, 12);
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Method insert() does not add duplicate elements")
+    void insertDoesNotAddDuplicateElements() {
+        assertThat(tree.insert(10)).isTrue();
+        assertThat(tree.insert(5)).isTrue();
+        assertThat(tree.insert(15)).isTrue();
+
+        assertThat(tree.insert(10)).isFalse();
+        assertThat(tree.insert(15)).isFalse();
+        assertThat(tree.size()).isEqualTo(3);
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Methods insert() and contains() throw exception when element is null")
+    void insertAndContainsThrowExceptionWhenElementIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> tree.insert(null));
+        assertThatNullPointerException().isThrownBy(() -> tree.contains(null));
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Method contains() finds only inserted elements")
+    void contains() {
+        tree = IterativeBinarySearchTree.of(5, 3, 8, 1, 4);
+
+        assertThat(tree.contains(1)).isTrue();
+        assertThat(tree.contains(4)).isTrue();
+        assertThat(tree.contains(8)).isTrue();
+        assertThat(tree.contains(2)).isFalse();
+        assertThat(tree.contains(9)).isFalse();
+    }
+
+    @Order(6)
+    @ParameterizedTest
+    @MethodSource("com.bobocode.cs.RecursiveBinarySearchTreeTest#depthArguments")
+    @DisplayName("Method depth() returns the number of transitions to the deepest node")
+    void depth(Integer[] elements, int depth) {
+        tree = IterativeBinarySearchTree.of(elements);
+
+        assertThat(tree.depth()).isEqualTo(depth);
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("Method inOrderTraversal() visits elements in ascending order")
+    void inOrderTraversal() {
+        int[] elements = new Random(7).ints(1_000, 0, 10_000).distinct().toArray();
+        Arrays.stream(elements).forEach(tree::insert);
+
+        assertThat(inOrderElements()).containsExactly(Arrays.stream(elements).sorted().boxed().toArray());
+    }
+
+    @Test
+    @Order(8)
+    @DisplayName("Method inOrderTraversal() restores the tree structure")
+    void inOrderTraversalRestoresTree() {
+        tree = IterativeBinarySearchTree.of(6, 2, 7, 1, 5, 8, 4, 9, 3);
+
+        Object[] firstTraversal = inOrderElements();
+        Object[] secondTraversal = inOrderElements();
+
+        assertThat(secondTraversal).containsExactly(firstTraversal);
+        assertThat(tree.depth()).isEqualTo(4);
+        assertThat(getRight(findNode(5))).isNull();
+        assertThat(getRight(findNode(1))).isNull();
+    }
+
+    @Test
+    @Order(9)
+    @DisplayName("Operations do not overflow the stack on a 10M-deep right-leaning tree")
+    void deepRightLeaningTree() {
+        buildDegenerateTree(RIGHT_FIELD, i -> i);
+
+        assertThat(tree.depth()).isEqualTo(DEGENERATE_TREE_SIZE - 1);
+        assertThat(tree.contains(DEGENERATE_TREE_SIZE - 1)).isTrue();
+        assertThat(tree.contains(DEGENERATE_TREE_SIZE)).isFalse();
+        assertThat(tree.insert(DEGENERATE_TREE_SIZE)).isTrue();
+        assertAscendingTraversal(DEGENERATE_TREE_SIZE + 1);
+    }
+
+    @Test
+    @Order(10)
+    @DisplayName("Operations do not overflow the stack on a 10M-deep left-leaning tree")
+    void deepLeftLeaningTree() {
+        buildDegenerateTree(LEFT_FIELD, i -> DEGENERATE_TREE_SIZE - i);
+
+        assertThat(tree.depth()).isEqualTo(DEGENERATE_TREE_SIZE - 1);
+        assertThat(tree.contains(1)).isTrue();
+        assertThat(tree.insert(0)).isTrue();
+        assertAscendingTraversal(DEGENERATE_TREE_SIZE + 1);
+    }
+
+    private void assertAscendingTraversal(int expectedCount) {
+        AtomicInteger count = new AtomicInteger();
+        int[] previous = {Integer.MIN_VALUE};
+        tree.inOrderTraversal(element -> {
+            assertThat(element).isGreaterThan(previous[0]);
+            previous[0] = element;
+            count.incrementAndGet();
+        });
+
+        assertThat(count.get()).isEqualTo(expectedCount);
+    }
+
+    private Object[] inOrderElements() {
+        Stream.Builder<Integer> elements = Stream.builder();
+        tree.inOrderTraversal(elements);
+        return elements.build().toArray();
+    }
+
+    /**
+     * Builds a tree where each node has only one child, so the tree depth is equal to its size minus one. The tree
+     * is built directly, because it can not be built using a recursive implementation.
+     */
+    @SneakyThrows
+    private void buildDegenerateTree(Predicate<Field> childField, IntUnaryOperator element) {
+        Constructor<?> constructor = getNodeClass().getDeclaredConstructors()[0];
+        constructor.setAccessible(true);
+        Field elementField = getNodeField(ELEMENT_FIELD);
+        Field child = getNodeField(childField);
+        Object root = newNode(constructor, elementField, element.applyAsInt(0));
+        Object node = root;
+        for (int i = 1; i < DEGENERATE_TREE_SIZE; i++) {
+            Object next = newNode(constructor, elementField, element.applyAsInt(i));
+            child.set(node, next);
+            node = next;
+        }
+        getTreeField(NODE_FIELD).set(tree, root);
+        getTreeField(SIZE_FIELD).set(tree, DEGENERATE_TREE_SIZE);
+    }
+
+    @SneakyThrows
+    private Object findNode(int element) {
+        Object node = getTreeField(NODE_FIELD).get(tree);
+        while (node != null && getElement(node) != element) {
+            node = element < getElement(node) ? getLeft(node) : getRight(node);
+        }
+        return node;
+    }
+
+    private Class<?> getNodeClass() {
+        return Arrays.stream(IterativeBinarySearchTree.class.getDeclaredClasses())
+                .filter(Class::isMemberClass)
+                .findAny()
+                .orElseThrow();
+    }
+
+    private Field getTreeField(Predicate<Field> predicate) {
+        Field field = Arrays.stream(IterativeBinarySearchTree.class.getDeclaredFields())
+                .filter(predicate)
+                .findAny()
+                .orElseThrow();
+        field.setAccessible(true);
+        return field;
+    }
+
+    private Field getNodeField(Predicate<Field> predicate) {
+        Field field = Arrays.stream(getNodeClass().getDeclaredFields())
+                .filter(predicate)
+                .findAny()
+                .orElseThrow();
+        field.setAccessible(true);
+        return field;
+    }
+
+    @SneakyThrows
+    private Object newNode(Constructor<?> constructor, Field elementField, int element) {
+        if (constructor.getParameterCount() == 1) {
+            return constructor.newInstance(element);
+        }
+        Object node = constructor.newInstance();
+        elementField.set(node, element);
+        return node;
+    }
+
+    @SneakyThrows
+    private int getElement(Object node) {
+        return (int) getNodeField(ELEMENT_FIELD).get(node);
+    }
+
+    @SneakyThrows
+    private Object getLeft(Object node) {
+        return getNodeField(LEFT_FIELD).get(node);
+    }
+
+    @SneakyThrows
+    private Object getRight(Object node) {
+        return getNodeField(RIGHT_FIELD).get(node);
+    }
+}
@@ -0,0 +1,248 @@
+package com.bobocode.cs;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+/**
+ * A test class for {@link OrderStatisticBinarySearchTree}.
+ * <p>
+ * PLEASE NOTE: we use Reflection API only for learning purposes. It should NOT be used for production tests.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class OrderStatisticBinarySearchTreeTest {
+    private static final Predicate<Field> NODE_FIELD = field ->
+            field.getType().getSimpleName().equals("Node");
+
+    private static final Predicate<Field> ELEMENT_FIELD = field ->
+            field.getName().toLowerCase().contains("element")
+            || field.getName().toLowerCase().contains("item")
+            || field.getName().toLowerCase().contains("value");
+
+    private static final Predicate<Field> LEFT_FIELD = field ->
+            field.getName().toLowerCase().contains("left")
+            && field.getType().getSimpleName().equals("Node");
+
+    private static final Predicate<Field> RIGHT_FIELD = field ->
+            field.getName().toLowerCase().contains("right")
+            && field.getType().getSimpleName().equals("Node");
+
+    private static final Predicate<Field> SIZE_FIELD = field ->
+            (field.getName().toLowerCase().contains("size") || field.getName().toLowerCase().contains("count"))
+            && field.getType().equals(int.class);
+
+    private OrderStatisticBinarySearchTree<Integer> tree = new OrderStatisticBinarySearchTree<>();
+
+    @Test
+    @Order(1)
+    @DisplayName("Node stores an element, left and right children and a subtree size")
+    void properNodeFields() {
+        Class<?> nodeClass = getNodeClass();
+
+        assertThat(Arrays.stream(nodeClass.getDeclaredFields()).anyMatch(ELEMENT_FIELD)).isTrue();
+        assertThat(Arrays.stream(nodeClass.getDeclaredFields()).anyMatch(LEFT_FIELD)).isTrue();
+        assertThat(Arrays.stream(nodeClass.getDeclaredFields()).anyMatch(RIGHT_FIELD)).isTrue();
+        assertThat(Arrays.stream(nodeClass.getDeclaredFields()).anyMatch(SIZE_FIELD)).isTrue();
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Method of() creates a tree of given elements")
+    void of() {
+        tree = OrderStatisticBinarySearchTree.of(10, 9, 11, 8, 12, 7);
+
+        assertThat(tree.size()).isEqualTo(6);
+        assertThat(inOrderElements()).containsExactly(7, 8, 9, 10, 11, 12);
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Method insert() does not add duplicate elements")
+    void insertDoesNotAddDuplicateElements() {
+        assertThat(tree.insert(10)).isTrue();
+        assertThat(tree.insert(11)).isTrue();
+
+        assertThat(tree.insert(10)).isFalse();
+        assertThat(tree.insert(11)).isFalse();
+        assertThat(tree.size()).isEqualTo(2);
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Methods insert(), contains() and rank() throw exception when element is null")
+    void methodsThrowExceptionWhenElementIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> tree.insert(null));
+        assertThatNullPointerException().isThrownBy(() -> tree.contains(null));
+        assertThatNullPointerException().isThrownBy(() -> tree.rank(null));
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Method select() returns elements by their position in sorted order")
+    void select() {
+        tree = OrderStatisticBinarySearchTree.of(50, 30, 70, 20, 40, 60, 80, 35);
+
+        assertThat(tree.select(0)).isEqualTo(20);
+        assertThat(tree.select(2)).isEqualTo(35);
+        assertThat(tree.select(4)).isEqualTo(50);
+        assertThat(tree.select(7)).isEqualTo(80);
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("Method select() throws exception when index is out of bounds")
+    void selectThrowsExceptionWhenIndexIsOutOfBounds() {
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> tree.select(0));
+
+        tree = OrderStatisticBinarySearchTree.of(1, 2, 3);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> tree.select(-1));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> tree.select(3));
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("Method rank() returns the number of smaller elements")
+    void rank() {
+        tree = OrderStatisticBinarySearchTree.of(50, 30, 70, 20, 40, 60, 80, 35);
+
+        assertThat(tree.rank(20)).isEqualTo(0);
+        assertThat(tree.rank(50)).isEqualTo(4);
+        assertThat(tree.rank(80)).isEqualTo(7);
+    }
+
+    @Test
+    @Order(8)
+    @DisplayName("Method rank() works for elements that are not in the tree")
+    void rankOfMissingElement() {
+        tree = OrderStatisticBinarySearchTree.of(50, 30, 70, 20, 40, 60, 80, 35);
+
+        assertThat(tree.rank(10)).isEqualTo(0);
+        assertThat(tree.rank(45)).isEqualTo(4);
+        assertThat(tree.rank(90)).isEqualTo(8);
+        assertThat(new OrderStatisticBinarySearchTree<Integer>().rank(1)).isEqualTo(0);
+    }
+
+    @Test
+    @Order(9)
+    @DisplayName("Methods select() and rank() agree with sorted order of random elements")
+    void selectAndRankOfRandomElements() {
+        int[] sorted = new Random(11).ints(5_000, 0, 1_000_000).distinct().peek(tree::insert).sorted().toArray();
+
+        IntStream.range(0, sorted.length).forEach(i -> {
+            assertThat(tree.select(i)).isEqualTo(sorted[i]);
+            assertThat(tree.rank(sorted[i])).isEqualTo(i);
+        });
+    }
+
+    @Test
+    @Order(10)
+    @DisplayName("Each node stores the size of its subtree")
+    void nodesStoreSubtreeSizes() {
+        new Random(5).ints(2_000, 0, 10_000).forEach(tree::insert);
+
+        assertThat(checkSize(getRoot())).isEqualTo(tree.size());
+    }
+
+    @Test
+    @Order(11)
+    @DisplayName("Tree stays balanced when elements are inserted in sorted order")
+    void treeStaysBalanced() {
+        IntStream.range(0, 10_000).forEach(tree::insert);
+
+        assertThat(tree.depth()).isLessThan((int) (1.45 * log2(tree.size() + 2)));
+        assertThat(checkSize(getRoot())).isEqualTo(10_000);
+    }
+
+    @Test
+    @Order(12)
+    @DisplayName("Percentiles of a million elements are found in O(log n)")
+    void percentilesOfMillionElements() {
+        IntStream.range(0, 1_000_000).map(i -> 999_999 - i).forEach(tree::insert);
+
+        assertTimeoutPreemptively(Duration.ofSeconds(2), () -> {
+            for (int i = 0; i < 100_000; i++) {
+                assertThat(tree.select(500_000)).isEqualTo(500_000);
+                assertThat(tree.select(990_000)).isEqualTo(990_000);
+                assertThat(tree.rank(250_000)).isEqualTo(250_000);
+            }
+        });
+    }
+
+    private static double log2(int value) {
+        return Math.log(value) / Math.log(2);
+    }
+
+    private Object[] inOrderElements() {
+        Stream.Builder<Integer> elements = Stream.builder();
+        tree.inOrderTraversal(elements);
+        return elements.build().toArray();
+    }
+
+    /**
+     * Counts nodes of a subtree, and checks that each node stores the number of nodes in its subtree.
+     */
+    private int checkSize(Object node) {
+        if (node == null) {
+            return 0;
+        }
+        int size = checkSize(getLeft(node)) + checkSize(getRight(node)) + 1;
+        assertThat(getSize(node)).isEqualTo(size);
+        return size;
+    }
+
+    private Class<?> getNodeClass() {
+        return Arrays.stream(OrderStatisticBinarySearchTree.class.getDeclaredClasses())
+                .filter(Class::isMemberClass)
+                .findAny()
+                .orElseThrow();
+    }
+
+    @SneakyThrows
+    private Object getRoot() {
+        Field rootField = Arrays.stream(OrderStatisticBinarySearchTree.class.getDeclaredFields())
+                .filter(NODE_FIELD)
+                .findAny()
+                .orElseThrow();
+        rootField.setAccessible(true);
+        return rootField.get(tree);
+    }
+
+    @SneakyThrows
+    private Object getNodeField(Object node, Predicate<Field> predicate) {
+        Field field = Arrays.stream(getNodeClass().getDeclaredFields())
+                .filter(predicate)
+                .findAny()
+                .orElseThrow();
+        field.setAccessible(true);
+        return field.get(node);
+    }
+
+    private Object getLeft(Object node) {
+        return getNodeField(node, LEFT_FIELD);
+    }
+
+    private Object getRight(Object node) {
+        return getNodeField(node, RIGHT_FIELD);
+    }
+
+    private int getSize(Object node) {
+        return (int) getNodeField(node, SIZE_FIELD);
+    }
+}
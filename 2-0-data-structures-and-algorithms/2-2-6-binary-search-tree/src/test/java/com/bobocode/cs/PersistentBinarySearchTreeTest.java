@@ -0,0 +1,210 @@
+package com.bobocode.cs;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+/**
+ * A test class for {@link PersistentBinarySearchTree}.
+ * <p>
+ * PLEASE NOTE: we use Reflection API only for learning purposes. It should NOT be used for production tests.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class PersistentBinarySearchTreeTest {
+
+    @Test
+    @Order(1)
+    @DisplayName("All fields are final")
+    void allFieldsAreFinal() {
+        boolean allFinal = Stream.concat(Stream.of(PersistentBinarySearchTree.class),
+                        Arrays.stream(PersistentBinarySearchTree.class.getDeclaredClasses()))
+                .flatMap(type -> Arrays.stream(type.getDeclaredFields()))
+                .filter(field -> !field.isSynthetic())
+                .allMatch(field -> Modifier.isFinal(field.getModifiers()));
+
+        assertThat(allFinal).isTrue();
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Method empty() returns an empty tree")
+    void empty() {
+        PersistentBinarySearchTree<Integer> tree = PersistentBinarySearchTree.empty();
+
+        assertThat(tree.size()).isEqualTo(0);
+        assertThat(tree.depth()).isEqualTo(0);
+        assertThat(tree.contains(1)).isFalse();
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Method of() creates a tree of given elements")
+    void of() {
+        PersistentBinarySearchTree<Integer> tree = PersistentBinarySearchTree.of(10, 9, 11, 8, 12, 7);
+
+        assertThat(tree.size()).isEqualTo(6);
+        assertThat(inOrderElements(tree)).containsExactly(7, 8, 9, 10, 11, 12);
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Method insert() returns a new tree and does not change the old one")
+    void insertDoesNotChangeTree() {
+        PersistentBinarySearchTree<Integer> tree = PersistentBinarySearchTree.of(5, 3, 8);
+
+        PersistentBinarySearchTree<Integer> inserted = tree.insert(4);
+
+        assertThat(inserted.contains(4)).isTrue();
+        assertThat(inserted.size()).isEqualTo(4);
+        assertThat(tree.contains(4)).isFalse();
+        assertThat(tree.size()).isEqualTo(3);
+        assertThat(inOrderElements(tree)).containsExactly(3, 5, 8);
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Method insert() returns the same tree when element already exists")
+    void insertOfExistingElementReturnsSameTree() {
+        PersistentBinarySearchTree<Integer> tree = PersistentBinarySearchTree.of(5, 3, 8);
+
+        assertThat(tree.insert(3)).isSameAs(tree);
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("Methods insert() and contains() throw exception when element is null")
+    void insertAndContainsThrowExceptionWhenElementIsNull() {
+        PersistentBinarySearchTree<Integer> tree = PersistentBinarySearchTree.of(1);
+
+        assertThatNullPointerException().isThrownBy(() -> tree.insert(null));
+        assertThatNullPointerException().isThrownBy(() -> tree.contains(null));
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("Every version keeps its own elements")
+    void everyVersionKeepsItsElements() {
+        int[] elements = new Random(3).ints(0, 100_000).distinct().limit(1_000).toArray();
+        List<PersistentBinarySearchTree<Integer>> versions = new ArrayList<>();
+        versions.add(PersistentBinarySearchTree.empty());
+        for (int element : elements) {
+            versions.add(versions.get(versions.size() - 1).insert(element));
+        }
+
+        for (int version = 0; version < versions.size(); version += 100) {
+            assertThat(versions.get(version).size()).isEqualTo(version);
+            for (int i = 0; i < elements.length; i++) {
+                assertThat(versions.get(version).contains(elements[i])).isEqualTo(i < version);
+            }
+        }
+    }
+
+    @Test
+    @Order(8)
+    @DisplayName("Tree stays balanced when elements are inserted in sorted order")
+    void treeStaysBalanced() {
+        PersistentBinarySearchTree<Integer> tree = PersistentBinarySearchTree.empty();
+        for (int i = 0; i < 100_000; i++) {
+            tree = tree.insert(i);
+        }
+
+        assertThat(tree.size()).isEqualTo(100_000);
+        assertThat(tree.depth()).isLessThan((int) (1.45 * log2(100_002)));
+    }
+
+    @Test
+    @Order(9)
+    @DisplayName("Method insert() creates O(log n) nodes and shares all other nodes")
+    void insertSharesNodes() {
+        PersistentBinarySearchTree<Integer> tree = PersistentBinarySearchTree.empty();
+        for (int i = 0; i < 1023; i++) {
+            tree = tree.insert(i * 2);
+        }
+        Set<Object> oldNodes = nodesOf(tree);
+
+        PersistentBinarySearchTree<Integer> inserted = tree.insert(1001);
+        Set<Object> newNodes = nodesOf(inserted);
+        newNodes.removeAll(oldNodes);
+
+        assertThat(nodesOf(inserted)).hasSize(1024);
+        assertThat(newNodes.size()).isLessThanOrEqualTo(inserted.depth() + 3);
+    }
+
+    @Test
+    @Order(10)
+    @DisplayName("Method inOrderTraversal() visits elements in ascending order")
+    void inOrderTraversal() {
+        int[] elements = new Random(7).ints(1_000, 0, 10_000).distinct().toArray();
+        PersistentBinarySearchTree<Integer> tree = PersistentBinarySearchTree.empty();
+        for (int element : elements) {
+            tree = tree.insert(element);
+        }
+
+        assertThat(inOrderElements(tree)).containsExactly(IntStream.of(elements).sorted().boxed().toArray());
+    }
+
+    private static double log2(int value) {
+        return Math.log(value) / Math.log(2);
+    }
+
+    private Object[] inOrderElements(PersistentBinarySearchTree<Integer> tree) {
+        Stream.Builder<Integer> elements = Stream.builder();
+        tree.inOrderTraversal(elements);
+        return elements.build().toArray();
+    }
+
+    /**
+     * Collects all nodes of a tree by identity, following all fields of a node type.
+     */
+    @SneakyThrows
+    private Set<Object> nodesOf(PersistentBinarySearchTree<Integer> tree) {
+        Class<?> nodeClass = getNodeClass();
+        Set<Object> nodes = Collections.newSetFromMap(new IdentityHashMap<>());
+        Field rootField = Arrays.stream(PersistentBinarySearchTree.class.getDeclaredFields())
+                .filter(field -> field.getType().equals(nodeClass))
+                .findAny()
+                .orElseThrow();
+        rootField.setAccessible(true);
+        collectNodes(rootField.get(tree), nodeClass, nodes);
+        return nodes;
+    }
+
+    @SneakyThrows
+    private void collectNodes(Object node, Class<?> nodeClass, Set<Object> nodes) {
+        if (node == null) {
+            return;
+        }
+        nodes.add(node);
+        for (Field field : nodeClass.getDeclaredFields()) {
+            if (field.getType().equals(nodeClass)) {
+                field.setAccessible(true);
+                collectNodes(field.get(node), nodeClass, nodes);
+            }
+        }
+    }
+
+    private Class<?> getNodeClass() {
+        return Arrays.stream(PersistentBinarySearchTree.class.getDeclaredClasses())
+                .filter(Class::isMemberClass)
+                .findAny()
+                .orElseThrow();
+    }
+}
@@ -11,14 +11,18 @@ import org.junit.jupiter.params.provider.MethodSource;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.function.Predicate;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
 /**
@@ -249,6 +253,128 @@ class RecursiveBinarySearchTreeTest {
         assertThat(traversedElements).isEqualTo(List.of(sortedElements));
     }
 
+    @Test
+    @Order(20)
+    void fromSortedCreatesBalancedTree() {
+        tree = RecursiveBinarySearchTree.fromSorted(1, 2, 3, 4, 5, 6, 7);
+
+        assertThat(getElement(getRootObject())).isEqualTo(4);
+        assertThat(getElement(getLeftNode(getRootObject()))).isEqualTo(2);
+        assertThat(getElement(getRightNode(getRootObject()))).isEqualTo(6);
+        assertThat(tree.depth()).isEqualTo(2);
+        assertThat(getInnerSize()).isEqualTo(7);
+    }
+
+    @Test
+    @Order(21)
+    void fromSortedList() {
+        tree = RecursiveBinarySearchTree.fromSorted(List.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10));
+
+        List<Integer> traversedElements = new ArrayList<>();
+        tree.inOrderTraversal(traversedElements::add);
+
+        assertThat(traversedElements).isEqualTo(List.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10));
+        assertThat(tree.depth()).isEqualTo(3);
+        assertThat(getInnerSize()).isEqualTo(10);
+    }
+
+    @Test
+    @Order(22)
+    void fromSortedOfNoElementsCreatesEmptyTree() {
+        tree = RecursiveBinarySearchTree.fromSorted();
+
+        assertThat(getRootObject()).isNull();
+        assertThat(getInnerSize()).isEqualTo(0);
+    }
+
+    @Test
+    @Order(23)
+    void fromSortedThrowsExceptionWhenElementsAreNotSorted() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> RecursiveBinarySearchTree.fromSorted(1, 3, 2));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> RecursiveBinarySearchTree.fromSorted(1, 2, 2, 3));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> RecursiveBinarySearchTree.fromSorted(List.of(3, 2, 1)));
+    }
+
+    @Test
+    @Order(24)
+    void fromSortedThrowsExceptionWhenElementIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> RecursiveBinarySearchTree.fromSorted(1, null, 3));
+    }
+
+    @Test
+    @Order(25)
+    void fromSortedBuildsMillionElementsInLinearTime() {
+        Integer[] elements = IntStream.range(0, 1_000_000).boxed().toArray(Integer[]::new);
+
+        assertTimeoutPreemptively(Duration.ofSeconds(2), () -> {
+            tree = RecursiveBinarySearchTree.fromSorted(elements);
+        });
+
+        assertThat(getInnerSize()).isEqualTo(1_000_000);
+        assertThat(tree.depth()).isEqualTo(19);
+        assertThat(tree.contains(0)).isTrue();
+        assertThat(tree.contains(999_999)).isTrue();
+    }
+
+    @Test
+    @Order(26)
+    void mergeCreatesBalancedTreeOfBothTrees() {
+        BinarySearchTree<Integer> first = RecursiveBinarySearchTree.of(5, 1, 9, 3, 7);
+        BinarySearchTree<Integer> second = RecursiveBinarySearchTree.of(2, 4, 6, 8, 10, 12, 14);
+
+        tree = RecursiveBinarySearchTree.merge(first, second);
+
+        List<Integer> traversedElements = new ArrayList<>();
+        tree.inOrderTraversal(traversedElements::add);
+
+        assertThat(traversedElements).isEqualTo(List.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 12, 14));
+        assertThat(tree.depth()).isEqualTo(3);
+        assertThat(getInnerSize()).isEqualTo(12);
+    }
+
+    @Test
+    @Order(27)
+    void mergeSkipsDuplicateElements() {
+        BinarySearchTree<Integer> first = RecursiveBinarySearchTree.of(1, 2, 3, 4);
+        BinarySearchTree<Integer> second = RecursiveBinarySearchTree.of(3, 4, 5, 6);
+
+        tree = RecursiveBinarySearchTree.merge(first, second);
+
+        List<Integer> traversedElements = new ArrayList<>();
+        tree.inOrderTraversal(traversedElements::add);
+
+        assertThat(traversedElements).isEqualTo(List.of(1, 2, 3, 4, 5, 6));
+        assertThat(getInnerSize()).isEqualTo(6);
+    }
+
+    @Test
+    @Order(28)
+    void mergeDoesNotChangeGivenTrees() {
+        BinarySearchTree<Integer> first = RecursiveBinarySearchTree.of(2, 1, 3);
+        BinarySearchTree<Integer> second = RecursiveBinarySearchTree.of(5, 4);
+
+        RecursiveBinarySearchTree.merge(first, second);
+
+        assertThat(first.size()).isEqualTo(3);
+        assertThat(first.contains(4)).isFalse();
+        assertThat(second.size()).isEqualTo(2);
+        assertThat(second.contains(1)).isFalse();
+    }
+
+    @Test
+    @Order(29)
+    void mergeWithEmptyTree() {
+        BinarySearchTree<Integer> first = RecursiveBinarySearchTree.of(1, 2, 3, 4, 5);
+
+        tree = RecursiveBinarySearchTree.merge(first, new RecursiveBinarySearchTree<>());
+
+        assertThat(getInnerSize()).isEqualTo(5);
+        assertThat(tree.depth()).isEqualTo(2);
+    }
+
     public static Stream<Arguments> depthArguments() {
         return Stream.of(
                 //empty tree
@@ -0,0 +1,267 @@
+package com.bobocode.cs;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+/**
+ * A test class for {@link RedBlackBinarySearchTree}.
+ * <p>
+ * PLEASE NOTE: we use Reflection API only for learning purposes. It should NOT be used for production tests.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class RedBlackBinarySearchTreeTest {
+    private static final Predicate<Field> NODE_FIELD = field ->
+            field.getType().getSimpleName().equals("Node");
+
+    private static final Predicate<Field> ELEMENT_FIELD = field ->
+            field.getName().toLowerCase().contains("element")
+            || field.getName().toLowerCase().contains("item")
+            || field.getName().toLowerCase().contains("value");
+
+    private static final Predicate<Field> LEFT_FIELD = field ->
+            field.getName().toLowerCase().contains("left")
+            && field.getType().getSimpleName().equals("Node");
+
+    private static final Predicate<Field> RIGHT_FIELD = field ->
+            field.getName().toLowerCase().contains("right")
+            && field.getType().getSimpleName().equals("Node");
+
+    private static final Predicate<Field> RED_FIELD = field ->
+            field.getName().toLowerCase().contains("red")
+            && field.getType().equals(boolean.class);
+
+    private BinarySearchTree<Integer> tree = new RedBlackBinarySearchTree<>();
+
+    @Test
+    @Order(1)
+    @DisplayName("Node stores an element, left and right children and a color")
+    void properNodeFields() {
+        Class<?> nodeClass = getNodeClass();
+
+        assertThat(Arrays.stream(nodeClass.getDeclaredFields()).anyMatch(ELEMENT_FIELD)).isTrue();
+        assertThat(Arrays.stream(nodeClass.getDeclaredFields()).anyMatch(LEFT_FIELD)).isTrue();
+        assertThat(Arrays.stream(nodeClass.getDeclaredFields()).anyMatch(RIGHT_FIELD)).isTrue();
+        assertThat(Arrays.stream(nodeClass.getDeclaredFields()).anyMatch(RED_FIELD)).isTrue();
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Method of() creates a tree of given elements")
+    void of() {
+        tree = RedBlackBinarySearchTree.of(10, 9, 11, 8, 12, 7);
+
+        assertThat(tree.size()).isEqualTo(6);
+        assertThat(inOrderElements()).containsExactly(7, 8, 9, 10, 11, 12);
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Method insert() does not add duplicate elements")
+    void insertDoesNotAddDuplicateElements() {
+        assertThat(tree.insert(10)).isTrue();
+        assertThat(tree.insert(11)).isTrue();
+
+        assertThat(tree.insert(10)).isFalse();
+        assertThat(tree.insert(11)).isFalse();
+        assertThat(tree.size()).isEqualTo(2);
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Methods insert() and contains() throw exception when element is null")
+    void insertAndContainsThrowExceptionWhenElementIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> tree.insert(null));
+        assertThatNullPointerException().isThrownBy(() -> tree.contains(null));
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Method contains() finds only inserted elements")
+    void contains() {
+        tree = RedBlackBinarySearchTree.of(5, 3, 8, 1, 4);
+
+        assertThat(tree.contains(1)).isTrue();
+        assertThat(tree.contains(8)).isTrue();
+        assertThat(tree.contains(2)).isFalse();
+        assertThat(tree.contains(9)).isFalse();
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("Method insert() rotates nodes when sorted elements are inserted")
+    void insertRotates() {
+        tree = RedBlackBinarySearchTree.of(1, 2, 3);
+
+        assertThat(getElement(getRoot())).isEqualTo(2);
+        assertThat(tree.depth()).isEqualTo(1);
+        assertBalanced();
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("Red-black invariants hold after each insertion")
+    void invariantsHoldAfterEachInsertion() {
+        int[] elements = new Random(3).ints(200, 0, 1_000).toArray();
+
+        for (int element : elements) {
+            tree.insert(element);
+
+            assertBalanced();
+        }
+    }
+
+    @Test
+    @Order(8)
+    @DisplayName("Method depth() returns 0 when tree is empty or contains 1 element")
+    void depthOfSmallTree() {
+        assertThat(tree.depth()).isEqualTo(0);
+
+        tree.insert(1);
+
+        assertThat(tree.depth()).isEqualTo(0);
+    }
+
+    @Test
+    @Order(9)
+    @DisplayName("Root is always black")
+    void rootIsBlack() {
+        for (int i = 0; i < 100; i++) {
+            tree.insert(i);
+
+            assertThat(isRed(getRoot())).isFalse();
+        }
+    }
+
+    @Test
+    @Order(10)
+    @DisplayName("Tree stays balanced for sorted, reverse-sorted and random insertion orders")
+    void treeStaysBalanced() {
+        Random random = new Random(42);
+        Stream.of(
+                IntStream.range(0, 10_000).toArray(),
+                IntStream.range(0, 10_000).map(i -> 10_000 - i).toArray(),
+                random.ints(10_000, 0, 1_000_000).toArray()
+        ).forEach(elements -> {
+            tree = new RedBlackBinarySearchTree<>();
+            Arrays.stream(elements).forEach(tree::insert);
+
+            assertBalanced();
+            assertThat(tree.depth()).isLessThan((int) (2 * log2(tree.size() + 1)));
+        });
+    }
+
+    @Test
+    @Order(11)
+    @DisplayName("Method inOrderTraversal() visits elements in ascending order")
+    void inOrderTraversal() {
+        int[] elements = new Random(7).ints(1_000, 0, 10_000).distinct().toArray();
+        Arrays.stream(elements).forEach(tree::insert);
+
+        assertThat(inOrderElements()).containsExactly(Arrays.stream(elements).sorted().boxed().toArray());
+    }
+
+    @Test
+    @Order(12)
+    @DisplayName("Million sorted elements are inserted and found in O(log n)")
+    void millionSortedElements() {
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            IntStream.range(0, 1_000_000).forEach(tree::insert);
+            IntStream.range(0, 1_000_000).forEach(i -> assertThat(tree.contains(i)).isTrue());
+        });
+
+        assertThat(tree.size()).isEqualTo(1_000_000);
+        assertThat(tree.depth()).isLessThan((int) (2 * log2(1_000_001)));
+    }
+
+    private static double log2(int value) {
+        return Math.log(value) / Math.log(2);
+    }
+
+    private Object[] inOrderElements() {
+        Stream.Builder<Integer> elements = Stream.builder();
+        tree.inOrderTraversal(elements);
+        return elements.build().toArray();
+    }
+
+    /**
+     * Checks the red-black invariants: the root is black, a red node does not have red children, and each path from
+     * a node to its null descendants contains the same number of black nodes.
+     */
+    private void assertBalanced() {
+        assertThat(isRed(getRoot())).isFalse();
+        checkBlackHeight(getRoot());
+    }
+
+    private int checkBlackHeight(Object node) {
+        if (node == null) {
+            return 0;
+        }
+        if (isRed(node)) {
+            assertThat(getLeft(node) == null || !isRed(getLeft(node))).isTrue();
+            assertThat(getRight(node) == null || !isRed(getRight(node))).isTrue();
+        }
+        int leftBlackHeight = checkBlackHeight(getLeft(node));
+        int rightBlackHeight = checkBlackHeight(getRight(node));
+        assertThat(leftBlackHeight).isEqualTo(rightBlackHeight);
+        return leftBlackHeight + (isRed(node) ? 0 : 1);
+    }
+
+    private Class<?> getNodeClass() {
+        return Arrays.stream(RedBlackBinarySearchTree.class.getDeclaredClasses())
+                .filter(Class::isMemberClass)
+                .findAny()
+                .orElseThrow();
+    }
+
+    @SneakyThrows
+    private Object getRoot() {
+        Field rootField = Arrays.stream(RedBlackBinarySearchTree.class.getDeclaredFields())
+                .filter(NODE_FIELD)
+                .findAny()
+                .orElseThrow();
+        rootField.setAccessible(true);
+        return rootField.get(tree);
+    }
+
+    @SneakyThrows
+    private Object getNodeField(Object node, Predicate<Field> predicate) {
+        Field field = Arrays.stream(getNodeClass().getDeclaredFields())
+                .filter(predicate)
+                .findAny()
+                .orElseThrow();
+        field.setAccessible(true);
+        return field.get(node);
+    }
+
+    private int getElement(Object node) {
+        return (int) getNodeField(node, ELEMENT_FIELD);
+    }
+
+    private Object getLeft(Object node) {
+        return getNodeField(node, LEFT_FIELD);
+    }
+
+    private Object getRight(Object node) {
+        return getNodeField(node, RIGHT_FIELD);
+    }
+
+    private boolean isRed(Object node) {
+        return (boolean) getNodeField(node, RED_FIELD);
+    }
+}
@@ -0,0 +1,317 @@
+package com.bobocode.cs;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Named;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.lang.reflect.Modifier;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+/**
+ * A test class for {@link SkipListTree}. Most of the tests are run both for a single-threaded and a concurrent tree.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class SkipListTreeTest {
+    private static final int THREADS = 8;
+    private static final int ELEMENTS_PER_THREAD = 20_000;
+
+    static Stream<Arguments> treeFactories() {
+        return Stream.of(
+                Arguments.of(Named.<Supplier<BinarySearchTree<Integer>>>of("single-threaded", SkipListTree::new)),
+                Arguments.of(Named.<Supplier<BinarySearchTree<Integer>>>of("concurrent", SkipListTree::concurrent))
+        );
+    }
+
+    private BinarySearchTree<Integer> tree;
+
+    @Test
+    @Order(1)
+    @DisplayName("Tree does not use locks")
+    void treeDoesNotUseLocks() {
+        boolean hasSynchronizedMethods = Arrays.stream(SkipListTree.class.getDeclaredMethods())
+                .anyMatch(method -> Modifier.isSynchronized(method.getModifiers()));
+        boolean hasLockFields = Arrays.stream(SkipListTree.class.getDeclaredFields())
+                .anyMatch(field -> Lock.class.isAssignableFrom(field.getType()));
+
+        assertThat(hasSynchronizedMethods).isFalse();
+        assertThat(hasLockFields).isFalse();
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Method of() creates a tree of given elements")
+    void of() {
+        tree = SkipListTree.of(10, 9, 11, 8, 12, 7);
+
+        assertThat(tree.size()).isEqualTo(6);
+        assertThat(inOrderElements()).containsExactly(7, 8, 9, 10, 11, 12);
+    }
+
+    @Order(3)
+    @ParameterizedTest
+    @MethodSource("treeFactories")
+    @DisplayName("Method insert() does not add duplicate elements")
+    void insertDoesNotAddDuplicateElements(Supplier<BinarySearchTree<Integer>> factory) {
+        tree = factory.get();
+
+        assertThat(tree.insert(10)).isTrue();
+        assertThat(tree.insert(5)).isTrue();
+        assertThat(tree.insert(10)).isFalse();
+        assertThat(tree.insert(5)).isFalse();
+        assertThat(tree.size()).isEqualTo(2);
+    }
+
+    @Order(4)
+    @ParameterizedTest
+    @MethodSource("treeFactories")
+    @DisplayName("Methods insert() and contains() throw exception when element is null")
+    void insertAndContainsThrowExceptionWhenElementIsNull(Supplier<BinarySearchTree<Integer>> factory) {
+        tree = factory.get();
+
+        assertThatNullPointerException().isThrownBy(() -> tree.insert(null));
+        assertThatNullPointerException().isThrownBy(() -> tree.contains(null));
+    }
+
+    @Order(5)
+    @ParameterizedTest
+    @MethodSource("treeFactories")
+    @DisplayName("Method contains() finds only inserted elements")
+    void contains(Supplier<BinarySearchTree<Integer>> factory) {
+        tree = factory.get();
+        int[] elements = new Random(3).ints(10_000, 0, 1_000_000).map(i -> i * 2).toArray();
+        Arrays.stream(elements).forEach(tree::insert);
+
+        Arrays.stream(elements).forEach(element -> {
+            assertThat(tree.contains(element)).isTrue();
+            assertThat(tree.contains(element + 1)).isFalse();
+        });
+    }
+
+    @Order(6)
+    @ParameterizedTest
+    @MethodSource("treeFactories")
+    @DisplayName("Method inOrderTraversal() visits elements in ascending order")
+    void inOrderTraversal(Supplier<BinarySearchTree<Integer>> factory) {
+        tree = factory.get();
+        int[] elements = new Random(7).ints(1_000, 0, 10_000).distinct().toArray();
+        Arrays.stream(elements).forEach(tree::insert);
+
+        assertThat(inOrderElements()).containsExactly(Arrays.stream(elements).sorted().boxed().toArray());
+    }
+
+    @Order(7)
+    @ParameterizedTest
+    @MethodSource("treeFactories")
+    @DisplayName("Method depth() returns 0 when tree is empty")
+    void depthOfEmptyTree(Supplier<BinarySearchTree<Integer>> factory) {
+        tree = factory.get();
+
+        assertThat(tree.depth()).isEqualTo(0);
+    }
+
+    @Order(8)
+    @ParameterizedTest
+    @MethodSource("treeFactories")
+    @DisplayName("Number of levels is logarithmic for sorted elements")
+    void depthIsLogarithmic(Supplier<BinarySearchTree<Integer>> factory) {
+        tree = factory.get();
+        IntStream.range(0, 100_000).forEach(tree::insert);
+
+        assertThat(tree.depth()).isBetween(8, 34);
+    }
+
+    @Order(9)
+    @ParameterizedTest
+    @MethodSource("treeFactories")
+    @DisplayName("Million sorted elements are inserted and found in O(log n)")
+    void millionSortedElements(Supplier<BinarySearchTree<Integer>> factory) {
+        tree = factory.get();
+
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            IntStream.range(0, 1_000_000).forEach(tree::insert);
+            IntStream.range(0, 1_000_000).forEach(i -> assertThat(tree.contains(i)).isTrue());
+        });
+
+        assertThat(tree.size()).isEqualTo(1_000_000);
+    }
+
+    @Test
+    @Order(10)
+    @DisplayName("Elements inserted by many threads are all in the concurrent tree")
+    void concurrentInserts() {
+        tree = SkipListTree.concurrent();
+        int[] elements = new Random(17).ints(0, 100_000_000).distinct().limit(THREADS * ELEMENTS_PER_THREAD)
+                .toArray();
+        AtomicInteger inserted = new AtomicInteger();
+
+        assertTimeoutPreemptively(Duration.ofSeconds(20), () -> runInParallel(thread -> {
+            for (int i = thread * ELEMENTS_PER_THREAD; i < (thread + 1) * ELEMENTS_PER_THREAD; i++) {
+                if (tree.insert(elements[i])) {
+                    inserted.incrementAndGet();
+                }
+            }
+        }));
+
+        assertThat(inserted.get()).isEqualTo(elements.length);
+        assertThat(tree.size()).isEqualTo(elements.length);
+        assertThat(inOrderElements()).containsExactly(Arrays.stream(elements).sorted().boxed().toArray());
+    }
+
+    @Test
+    @Order(11)
+    @DisplayName("An element inserted by many threads at the same time is inserted exactly once")
+    void concurrentInsertsOfSameElements() {
+        tree = SkipListTree.concurrent();
+        AtomicInteger inserted = new AtomicInteger();
+
+        assertTimeoutPreemptively(Duration.ofSeconds(20), () -> runInParallel(thread -> {
+            for (int element = 0; element < ELEMENTS_PER_THREAD; element++) {
+                if (tree.insert(element)) {
+                    inserted.incrementAndGet();
+                }
+            }
+        }));
+
+        assertThat(inserted.get()).isEqualTo(ELEMENTS_PER_THREAD);
+        assertThat(tree.size()).isEqualTo(ELEMENTS_PER_THREAD);
+        assertThat(inOrderElements()).hasSize(ELEMENTS_PER_THREAD);
+    }
+
+    @Test
+    @Order(12)
+    @DisplayName("Readers see sorted elements while writers insert them")
+    void readersDuringInserts() {
+        tree = SkipListTree.concurrent();
+        AtomicInteger finishedWriters = new AtomicInteger();
+        AtomicBoolean done = new AtomicBoolean();
+
+        assertTimeoutPreemptively(Duration.ofSeconds(20), () -> runInParallel(thread -> {
+            if (thread % 2 == 0) {
+                new Random(thread).ints(ELEMENTS_PER_THREAD, 0, 1_000_000).forEach(tree::insert);
+                if (finishedWriters.incrementAndGet() == THREADS / 2) {
+                    done.set(true);
+                }
+                return;
+            }
+            int previousCount = 0;
+            while (!done.get() && !Thread.currentThread().isInterrupted()) {
+                int[] count = {0};
+                int[] previous = {Integer.MIN_VALUE};
+                tree.inOrderTraversal(element -> {
+                    assertThat(element).isGreaterThan(previous[0]);
+                    previous[0] = element;
+                    count[0]++;
+                });
+                assertThat(count[0]).isGreaterThanOrEqualTo(previousCount);
+                previousCount = count[0];
+            }
+        }));
+
+        assertThat(inOrderElements()).hasSize(tree.size());
+    }
+
+    @Test
+    @Order(13)
+    @DisplayName("Spliterator of the concurrent tree is sorted and not sized")
+    void concurrentSpliteratorIsNotSized() {
+        tree = SkipListTree.concurrent();
+        tree.insert(3);
+        tree.insert(1);
+        tree.insert(2);
+
+        Spliterator<Integer> spliterator = tree.spliterator();
+
+        assertThat(spliterator.hasCharacteristics(Spliterator.CONCURRENT)).isTrue();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SORTED)).isTrue();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED)).isFalse();
+        assertThat(StreamSupport.stream(spliterator, false)).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    @Order(14)
+    @DisplayName("Streams of the concurrent tree are sorted while writers insert elements")
+    void streamsDuringInserts() {
+        tree = SkipListTree.concurrent();
+        AtomicInteger finishedWriters = new AtomicInteger();
+        AtomicBoolean done = new AtomicBoolean();
+
+        assertTimeoutPreemptively(Duration.ofSeconds(20), () -> runInParallel(thread -> {
+            if (thread % 2 == 0) {
+                new Random(thread).ints(ELEMENTS_PER_THREAD, 0, 1_000_000).forEach(tree::insert);
+                if (finishedWriters.incrementAndGet() == THREADS / 2) {
+                    done.set(true);
+                }
+                return;
+            }
+            while (!done.get() && !Thread.currentThread().isInterrupted()) {
+                Integer[] streamed = StreamSupport.stream(tree.spliterator(), thread % 4 == 1)
+                        .toArray(Integer[]::new);
+
+                assertThat(streamed).isSorted().doesNotHaveDuplicates().doesNotContainNull();
+            }
+        }));
+
+        assertThat(StreamSupport.stream(tree.spliterator(), false)).hasSize(tree.size());
+    }
+
+    private Object[] inOrderElements() {
+        Stream.Builder<Integer> elements = Stream.builder();
+        tree.inOrderTraversal(elements);
+        return elements.build().toArray();
+    }
+
+    /**
+     * Runs the task in {@link SkipListTreeTest#THREADS} threads at the same time, and waits until all of them
+     * are finished. The task receives a thread index. If any task fails or the waiting thread is interrupted, all
+     * other tasks are interrupted, so a test never leaves busy threads behind.
+     */
+    @SneakyThrows
+    private void runInParallel(IntConsumer task) {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            CompletionService<Void> completion = new ExecutorCompletionService<>(executor);
+            CountDownLatch start = new CountDownLatch(1);
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                completion.submit(() -> {
+                    start.await();
+                    task.accept(thread);
+                    return null;
+                });
+            }
+            start.countDown();
+            for (int t = 0; t < THREADS; t++) {
+                completion.take().get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -1,11 +1,32 @@
 package com.bobocode.cs;
 
 
-public interface List<T> {
+import java.util.Collection;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public interface List<T> extends Iterable<T> {
     void add(T element);
 
     void add(int index, T element);
 
+    /**
+     * Adds all elements of the collection to the end of the list, preserving the collection iteration order.
+     *
+     * @param elements elements to add
+     */
+    void addAll(Collection<? extends T> elements);
+
+    /**
+     * Inserts all elements of the collection starting from the specific position. Elements that were stored at this
+     * position and after it are shifted to the right. In case provided index is out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index    an index of the first inserted element
+     * @param elements elements to add
+     */
+    void addAll(int index, Collection<? extends T> elements);
+
     void set(int index, T element);
 
     T get(int index);
@@ -16,6 +37,27 @@ public interface List<T> {
 
     T remove(int index);
 
+    /**
+     * Removes all elements whose index is between fromIndex (inclusive) and toIndex (exclusive). In case provided
+     * range is out of the list bounds, or fromIndex is greater than toIndex it throws {@link IndexOutOfBoundsException}
+     *
+     * @param fromIndex an index of the first removed element
+     * @param toIndex   an index after the last removed element
+     */
+    void removeRange(int fromIndex, int toIndex);
+
+    /**
+     * Returns a view of the list part between fromIndex (inclusive) and toIndex (exclusive). The view is backed by
+     * this list, so no elements are copied, and changes made through the view are reflected in this list.
+     * In case provided range is out of the list bounds, or fromIndex is greater than toIndex it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param fromIndex an index of the first view element
+     * @param toIndex   an index after the last view element
+     * @return a list view
+     */
+    List<T> subList(int fromIndex, int toIndex);
+
     boolean contains(T element);
 
     boolean isEmpty();
@@ -23,4 +65,32 @@ public interface List<T> {
     int size();
 
     void clear();
+
+    /**
+     * Prepares the list to store at least minCapacity elements without further resizing. Implementations that are
+     * not based on an array do not need any preparation, so by default this method does nothing.
+     *
+     * @param minCapacity the desired minimum capacity
+     */
+    default void ensureCapacity(int minCapacity) {
+    }
+
+    /**
+     * Creates a sequential {@link Stream} of list elements. It is based on the list {@link List#spliterator()}.
+     *
+     * @return a stream of list elements
+     */
+    default Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Creates a parallel {@link Stream} of list elements. It is based on the list {@link List#spliterator()}, so
+     * the stream scales across cores only if the spliterator splits the list well.
+     *
+     * @return a parallel stream of list elements
+     */
+    default Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
 }